@@ -0,0 +1,464 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite;
+
+import com.devroic.jsonlite.client.KeyCondition;
+import com.devroic.jsonlite.client.Query;
+import com.devroic.jsonlite.client.QueryPlan;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * The asynchronous counterpart of {@link JsonLiteClient}, obtained from
+ * {@link com.devroic.jsonlite.client.JsonLiteClientBuilder#buildAsync()}.
+ * Every operation runs on the executor of the client and returns a {@link CompletableFuture}, which completes
+ * exceptionally with the exception the blocking operation would have thrown.
+ * <p>
+ * Mutating operations go through a single-writer queue: they run one at a time, in the order they were called.
+ * Select operations run in parallel, after the mutating operations called before them have completed,
+ * so a select always sees the changes previously requested through the same client.
+ */
+public interface AsyncJsonLiteClient extends AutoCloseable {
+
+    /**
+     * Returns the blocking client the operations of this client are run with, e.g. for creating indexes or streaming.
+     *
+     * @return the blocking client.
+     */
+    JsonLiteClient sync();
+
+    /**
+     * Flushes the mutations that were applied in memory but not persisted yet, as {@link JsonLiteClient#flush()}.
+     * The flush covers the mutating operations called before it, once they have run.
+     *
+     * @return a future completed once the mutations called so far are persisted.
+     */
+    CompletableFuture<Void> flush();
+
+    /**
+     * Closes the client as {@link JsonLiteClient#close()}, after the mutating operations called so far have run.
+     */
+    @Override
+    void close();
+
+    /**
+     * Selects all the objects from the JSON file.
+     *
+     * @param <T> the type of object to be retrieved.
+     * @return a future of an unmodifiable list of all objects in the JSON file.
+     */
+    <T> CompletableFuture<List<T>> selectAll();
+
+    /**
+     * Selects the values of a specific key from all objects in the JSON file.
+     *
+     * @param key the key whose values are to be selected.
+     * @return a future of a list of lists containing the values of the specified key.
+     */
+    CompletableFuture<List<List<String>>> selectKey(String key);
+
+    /**
+     * Selects the values of multiple keys from all objects in the JSON file.
+     *
+     * @param keys the keys whose values are to be selected.
+     * @return a future of a list of lists containing the values of the specified keys.
+     */
+    CompletableFuture<List<List<String>>> selectKeys(String... keys);
+
+    /**
+     * Selects the values of the given keys from every object in the JSON file, as one row per object.
+     *
+     * @param keys the keys whose values are to be selected.
+     * @return a future completed with the rows, as {@link JsonLiteClient#selectFields(String...)}.
+     */
+    CompletableFuture<List<Map<String, Object>>> selectFields(String... keys);
+
+    /**
+     * Selects an object from the JSON file by its ID.
+     *
+     * @param <T> the type of object to be retrieved.
+     * @param id  the ID of the object to be retrieved.
+     * @return a future of the object with the specified ID, or of null if not found.
+     */
+    <T> CompletableFuture<T> selectById(String id);
+
+    /**
+     * Selects objects from the JSON file that match a specific key-value pair.
+     *
+     * @param <T>   the type of object to be retrieved.
+     * @param key   the key to search for.
+     * @param value the value that the key should match.
+     * @return a future of a list of objects that match the key-value pair.
+     */
+    <T> CompletableFuture<List<T>> selectByKey(String key, String value);
+
+    /**
+     * Selects one page of the objects that match a specific key-value pair.
+     *
+     * @param <T>    the type of object to be retrieved.
+     * @param key    the key to search for.
+     * @param value  the value that the key should match.
+     * @param offset the number of matching objects to skip.
+     * @param limit  the maximum number of objects to be returned.
+     * @return a future of a list of at most limit matching objects.
+     */
+    <T> CompletableFuture<List<T>> selectByKey(String key, String value, int offset, int limit);
+
+    /**
+     * Selects objects from the JSON file that match a given condition.
+     *
+     * @param <T>       the type of object to be retrieved.
+     * @param condition the condition to match the objects.
+     * @return a future of a list of objects that match the condition.
+     */
+    <T> CompletableFuture<List<T>> selectWhere(Predicate<T> condition);
+
+    /**
+     * Selects objects from the JSON file whose key is equal to one of the values of a key condition.
+     *
+     * @param <T>       the type of object to be retrieved.
+     * @param condition the condition on the value of a key.
+     * @return a future of a list of objects that match the condition.
+     */
+    <T> CompletableFuture<List<T>> selectWhere(KeyCondition condition);
+
+    /**
+     * Selects objects from the JSON file that match a given condition, identified by a name in the result cache
+     * of the client. Calls with the same name share their results until the next write.
+     *
+     * @param <T>       the type of object to be retrieved.
+     * @param name      the name of the condition.
+     * @param condition the condition to match the objects.
+     * @return a future of a list of objects that match the condition.
+     */
+    <T> CompletableFuture<List<T>> selectWhere(String name, Predicate<T> condition);
+
+    /**
+     * Selects the objects from the JSON file that match a query, planned from the indexes of the client.
+     *
+     * @param <T>   the type of object to be retrieved.
+     * @param query the conditions, order and page of the objects to select.
+     * @return a future of a list of objects that match the query.
+     */
+    <T> CompletableFuture<List<T>> selectWhere(Query query);
+
+    /**
+     * Returns the plan that would be used to select the objects matching a query, without running it.
+     *
+     * @param query the query to plan.
+     * @return a future of the plan of the query.
+     */
+    CompletableFuture<QueryPlan> explain(Query query);
+
+    /**
+     * Selects one page of the objects that match a given condition.
+     *
+     * @param <T>       the type of object to be retrieved.
+     * @param condition the condition to match the objects.
+     * @param offset    the number of matching objects to skip.
+     * @param limit     the maximum number of objects to be returned.
+     * @return a future of a list of at most limit matching objects.
+     */
+    <T> CompletableFuture<List<T>> selectWhere(Predicate<T> condition, int offset, int limit);
+
+    /**
+     * Selects the page of objects that follows the given ID, in ascending order of the ID.
+     *
+     * @param <T>     the type of object to be retrieved.
+     * @param afterId the last ID of the previous page, or null for the first page.
+     * @param limit   the maximum number of objects to be returned.
+     * @return a future of a list of at most limit objects in ascending order of the ID.
+     */
+    <T> CompletableFuture<List<T>> selectAfter(String afterId, int limit);
+
+    /**
+     * Selects the page of objects that match a given condition and follow the given ID, in ascending order of the ID.
+     *
+     * @param <T>       the type of object to be retrieved.
+     * @param condition the condition to match the objects.
+     * @param afterId   the last ID of the previous page, or null for the first page.
+     * @param limit     the maximum number of objects to be returned.
+     * @return a future of a list of at most limit matching objects in ascending order of the ID.
+     */
+    <T> CompletableFuture<List<T>> selectAfter(Predicate<T> condition, String afterId, int limit);
+
+    /**
+     * Selects the objects whose value of a comparable key is between two bounds, ordered by that value.
+     *
+     * @param <T>  the type of object to be retrieved.
+     * @param key  the comparable key to filter and order by.
+     * @param from the lower bound, inclusive, or null for no lower bound.
+     * @param to   the upper bound, inclusive, or null for no upper bound.
+     * @return a future of a list of objects within the bounds, in ascending order of the key.
+     */
+    <T> CompletableFuture<List<T>> selectRange(String key, Object from, Object to);
+
+    /**
+     * Selects the first objects in ascending order of a comparable key.
+     *
+     * @param <T>   the type of object to be retrieved.
+     * @param key   the comparable key to order by.
+     * @param limit the maximum number of objects to be returned.
+     * @return a future of a list of at most limit objects, in ascending order of the key.
+     */
+    <T> CompletableFuture<List<T>> selectOrderBy(String key, int limit);
+
+    /**
+     * Selects the first objects in descending order of a comparable key.
+     *
+     * @param <T>   the type of object to be retrieved.
+     * @param key   the comparable key to order by.
+     * @param limit the maximum number of objects to be returned.
+     * @return a future of a list of at most limit objects, in descending order of the key.
+     */
+    <T> CompletableFuture<List<T>> selectOrderByDescending(String key, int limit);
+
+    /**
+     * Selects the first objects in the order of a comparator.
+     *
+     * @param <T>        the type of objects to be selected.
+     * @param comparator the order of the objects.
+     * @param k          the maximum number of objects to be returned.
+     * @return a future of a list of at most k objects in the order of the comparator.
+     */
+    <T> CompletableFuture<List<T>> topK(Comparator<T> comparator, int k);
+
+    /**
+     * Counts the objects of the JSON file.
+     *
+     * @return a future of the number of objects.
+     */
+    CompletableFuture<Long> count();
+
+    /**
+     * Counts the objects that match a given condition.
+     *
+     * @param <T>       the type of objects to be counted.
+     * @param condition the condition to match the objects.
+     * @return a future of the number of matching objects.
+     */
+    <T> CompletableFuture<Long> countWhere(Predicate<T> condition);
+
+    /**
+     * Checks if an object with the given ID exists.
+     *
+     * @param id the ID of the object.
+     * @return a future of true if an object with the ID exists, false otherwise.
+     */
+    CompletableFuture<Boolean> exists(String id);
+
+    /**
+     * Checks if any object matches a given condition.
+     *
+     * @param <T>       the type of objects to be checked.
+     * @param condition the condition to match the objects.
+     * @return a future of true if at least one object matches the condition, false otherwise.
+     */
+    <T> CompletableFuture<Boolean> existsWhere(Predicate<T> condition);
+
+    /**
+     * Counts the objects by the value of a key.
+     *
+     * @param key the key to group by.
+     * @return a future of the number of objects of every value, in the order the values are first found.
+     */
+    CompletableFuture<Map<String, Long>> groupByCount(String key);
+
+    /**
+     * Returns the lowest value of a numeric key.
+     *
+     * @param key the numeric key.
+     * @return a future of the lowest value, or of null if no object has a value for the key.
+     */
+    CompletableFuture<Number> min(String key);
+
+    /**
+     * Returns the highest value of a numeric key.
+     *
+     * @param key the numeric key.
+     * @return a future of the highest value, or of null if no object has a value for the key.
+     */
+    CompletableFuture<Number> max(String key);
+
+    /**
+     * Returns the sum of the values of a numeric key.
+     *
+     * @param key the numeric key.
+     * @return a future of the sum, as a Long for an integral key or as a Double otherwise.
+     */
+    CompletableFuture<Number> sum(String key);
+
+    /**
+     * Returns the average of the values of a numeric key.
+     *
+     * @param key the numeric key.
+     * @return a future of the average, or of null if no object has a value for the key.
+     */
+    CompletableFuture<Double> avg(String key);
+
+    /**
+     * Inserts a new object into the JSON file.
+     *
+     * @param <T>    the type of object to be inserted.
+     * @param object the object to be inserted.
+     * @return a future completed once the object is inserted.
+     */
+    <T> CompletableFuture<Void> insert(T object);
+
+    /**
+     * Inserts multiple objects into the JSON file, all or none of them.
+     *
+     * @param <T>     the type of objects to be inserted.
+     * @param objects the list of objects to be inserted.
+     * @return a future completed once the objects are inserted.
+     */
+    <T> CompletableFuture<Void> insertMultiple(List<T> objects);
+
+    /**
+     * Updates the value of a specific key in all objects in the JSON file.
+     *
+     * @param key      the key whose value is to be updated.
+     * @param newValue the new value to be set for the specified key.
+     * @return a future of true if the update was successful, false otherwise.
+     */
+    CompletableFuture<Boolean> updateKey(String key, Object newValue);
+
+    /**
+     * Updates an object in the JSON file by its ID.
+     *
+     * @param <T>           the type of object to be updated.
+     * @param id            the ID of the object to be updated.
+     * @param updatedObject the updated object.
+     * @return a future of true if the update was successful, false otherwise.
+     */
+    <T> CompletableFuture<Boolean> updateById(String id, T updatedObject);
+
+    /**
+     * Updates the value of a specific key in objects that match a given condition.
+     *
+     * @param <T>       the type of object to be updated.
+     * @param condition the condition to match the objects.
+     * @param key       the key whose value is to be updated.
+     * @param newValue  the new value to be set for the specified key.
+     * @return a future of true if the update was successful, false otherwise.
+     */
+    <T> CompletableFuture<Boolean> updateWhere(Predicate<T> condition, String key, Object newValue);
+
+    /**
+     * Updates multiple key-value pairs in objects that match a given condition.
+     *
+     * @param <T>       the type of object to be updated.
+     * @param condition the condition to match the objects.
+     * @param updates   a map of key-value pairs to be updated.
+     * @return a future of true if the update was successful, false otherwise.
+     */
+    <T> CompletableFuture<Boolean> updateWhere(Predicate<T> condition, Map<String, Object> updates);
+
+    /**
+     * Updates multiple key-value pairs in objects whose key is equal to one of the values of a key condition.
+     *
+     * @param <T>       the type of object to be updated.
+     * @param condition the condition on the value of a key.
+     * @param updates   a map of key-value pairs to be updated.
+     * @return a future of true if the update was successful, false otherwise.
+     */
+    <T> CompletableFuture<Boolean> updateWhere(KeyCondition condition, Map<String, Object> updates);
+
+    /**
+     * Updates multiple key-value pairs for all objects that match a query.
+     *
+     * @param <T>     the type of objects to be updated.
+     * @param query   the conditions, order and page of the objects to update.
+     * @param updates a map containing key-value pairs to update.
+     * @return a future of true if at least one object was updated, false otherwise.
+     */
+    <T> CompletableFuture<Boolean> updateWhere(Query query, Map<String, Object> updates);
+
+    /**
+     * Updates multiple key-value pairs in the objects that match a specific key-value pair.
+     *
+     * @param key     the key to search for.
+     * @param value   the value that the key should match.
+     * @param updates a map of key-value pairs to be updated.
+     * @return a future of true if any object was updated, false otherwise.
+     */
+    CompletableFuture<Boolean> updateByKey(String key, String value, Map<String, Object> updates);
+
+    /**
+     * Runs several operations of the blocking client as a single unit of work, as {@link JsonLiteClient#batch(Consumer)}.
+     *
+     * @param operations the operations to be run, receiving the blocking client.
+     * @return a future completed once the changes of the operations are committed.
+     */
+    CompletableFuture<Void> batch(Consumer<JsonLiteClient> operations);
+
+    /**
+     * Deletes all objects from the JSON file.
+     *
+     * @return a future of true if all objects were deleted, false otherwise.
+     */
+    CompletableFuture<Boolean> deleteAll();
+
+    /**
+     * Deletes an object from the JSON file by its ID.
+     *
+     * @param id the ID of the object to be deleted.
+     * @return a future of true if an object was deleted, false otherwise.
+     */
+    CompletableFuture<Boolean> deleteById(String id);
+
+    /**
+     * Deletes objects from the JSON file that match a specific key-value pair.
+     *
+     * @param key   the key to search for.
+     * @param value the value that the key should match.
+     * @return a future of true if objects were deleted, false otherwise.
+     */
+    CompletableFuture<Boolean> deleteByKey(String key, String value);
+
+    /**
+     * Deletes objects from the JSON file that match a given condition.
+     *
+     * @param <T>       the type of object to be deleted.
+     * @param condition the condition to match the objects.
+     * @return a future of true if any objects were deleted, false otherwise.
+     */
+    <T> CompletableFuture<Boolean> deleteWhere(Predicate<T> condition);
+
+    /**
+     * Deletes objects from the JSON file whose key is equal to one of the values of a key condition.
+     *
+     * @param <T>       the type of object to be deleted.
+     * @param condition the condition on the value of a key.
+     * @return a future of true if any objects were deleted, false otherwise.
+     */
+    <T> CompletableFuture<Boolean> deleteWhere(KeyCondition condition);
+
+    /**
+     * Deletes the objects that match a query.
+     *
+     * @param <T>   the type of object to be deleted.
+     * @param query the conditions, order and page of the objects to delete.
+     * @return a future of true if any objects were deleted, false otherwise.
+     */
+    <T> CompletableFuture<Boolean> deleteWhere(Query query);
+}
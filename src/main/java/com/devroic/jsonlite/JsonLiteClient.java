@@ -18,17 +18,27 @@
 package com.devroic.jsonlite;
 
 import com.devroic.jsonlite.client.JsonLiteClientBuilder;
+import com.devroic.jsonlite.client.KeyCondition;
+import com.devroic.jsonlite.client.Query;
+import com.devroic.jsonlite.client.QueryPlan;
+import com.devroic.jsonlite.client.ScanMode;
+import com.devroic.jsonlite.storage.LockMetrics;
+import com.devroic.jsonlite.storage.ResultCacheMetrics;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * The main interface for the JSON Lite client operations.
  * This interface defines the CRUD operations (Create, Read, Update, Delete)
  * that can be performed on a JSON file.
  */
-public interface JsonLiteClient {
+public interface JsonLiteClient extends AutoCloseable {
 
     /**
      * Creates a new instance of the JsonLiteClientBuilder for building a JsonLiteClient.
@@ -43,7 +53,7 @@ public interface JsonLiteClient {
      * Selects all the objects from the JSON file.
      *
      * @param <T> the type of object to be retrieved.
-     * @return a list of all objects in the JSON file.
+     * @return an unmodifiable list of all objects in the JSON file.
      */
     <T> List<T> selectAll();
 
@@ -63,6 +73,17 @@ public interface JsonLiteClient {
      */
     List<List<String>> selectKeys(String... keys);
 
+    /**
+     * Selects the values of the given keys from every object in the JSON file, as one row per object.
+     * Unless the collection is kept in memory, only the requested fields are parsed from the file,
+     * without creating the objects themselves.
+     *
+     * @param keys the keys whose values are to be selected.
+     * @return a list of rows, each mapping the keys, in their given order, to plain values (strings, numbers,
+     * booleans, lists and maps), or to null when the object has no value for the key.
+     */
+    List<Map<String, Object>> selectFields(String... keys);
+
     /**
      * Selects an object from the JSON file by its ID.
      *
@@ -82,6 +103,19 @@ public interface JsonLiteClient {
      */
     <T> List<T> selectByKey(String key, String value);
 
+    /**
+     * Selects one page of the objects that match a specific key-value pair. Reading stops as soon as the page
+     * is full, so the objects after it are never read.
+     *
+     * @param <T>    the type of object to be retrieved.
+     * @param key    the key to search for.
+     * @param value  the value that the key should match.
+     * @param offset the number of matching objects to skip.
+     * @param limit  the maximum number of objects to be returned.
+     * @return a list of at most limit matching objects, in the order of the collection.
+     */
+    <T> List<T> selectByKey(String key, String value, int offset, int limit);
+
     /**
      * Selects objects from the JSON file that match a specific key-value pair.
      *
@@ -91,6 +125,235 @@ public interface JsonLiteClient {
      */
     <T> List<T> selectWhere(Predicate<T> condition);
 
+    /**
+     * Selects objects from the JSON file that match a given condition, evaluated with the given scan mode
+     * instead of the scan mode of the client.
+     *
+     * @param <T>       the type of object to be retrieved.
+     * @param condition the condition to match the objects, which must be thread-safe with {@link ScanMode#PARALLEL}.
+     * @param scanMode  how the condition is evaluated over the collection.
+     * @return a list of objects that match the condition, in the order of the collection.
+     */
+    <T> List<T> selectWhere(Predicate<T> condition, ScanMode scanMode);
+
+    /**
+     * Selects objects from the JSON file whose key is equal to one of the values of a key condition.
+     * When the objects are read from the file, the condition is evaluated on the file before the objects are
+     * created, so only the matching objects are created.
+     *
+     * @param <T>       the type of object to be retrieved.
+     * @param condition the condition on the value of a key.
+     * @return a list of objects that match the condition, in the order of the collection.
+     */
+    <T> List<T> selectWhere(KeyCondition condition);
+
+    /**
+     * Selects objects from the JSON file that match a given condition, identified by a name in the result cache
+     * of the client. Since a condition cannot be compared with another one, calls with the same name share their
+     * results until the next write, so a name must always be used with the same condition.
+     * Without a result cache this is the same as {@link #selectWhere(Predicate)}.
+     *
+     * @param <T>       the type of object to be retrieved.
+     * @param name      the name of the condition.
+     * @param condition the condition to match the objects.
+     * @return a list of objects that match the condition, in the order of the collection.
+     */
+    <T> List<T> selectWhere(String name, Predicate<T> condition);
+
+    /**
+     * Selects the objects from the JSON file that match a query. The query is planned from the indexes of the
+     * client, so its candidates are found by the most selective index available, or by reading the collection
+     * when no index applies. See {@link #explain(Query)} for the chosen plan.
+     *
+     * @param <T>   the type of object to be retrieved.
+     * @param query the conditions, order and page of the objects to select.
+     * @return a list of objects that match the query, in the order of the query, or of the collection if it has none.
+     */
+    <T> List<T> selectWhere(Query query);
+
+    /**
+     * Returns the plan that would be used to select the objects matching a query, without running it.
+     *
+     * @param query the query to plan.
+     * @return the access path, the index keys and the estimated number of candidates of the query.
+     */
+    QueryPlan explain(Query query);
+
+    /**
+     * Selects one page of the objects that match a given condition. Reading stops as soon as the page is full,
+     * so the objects after it are never read.
+     *
+     * @param <T>       the type of object to be retrieved.
+     * @param condition the condition to match the objects.
+     * @param offset    the number of matching objects to skip.
+     * @param limit     the maximum number of objects to be returned.
+     * @return a list of at most limit matching objects, in the order of the collection.
+     */
+    <T> List<T> selectWhere(Predicate<T> condition, int offset, int limit);
+
+    /**
+     * Selects the page of objects that follows the given ID, in ascending order of the ID. The last ID of a page
+     * is passed to get the next page, which stays correct while objects are inserted or deleted between the calls.
+     * Uses the sorted index of the ID key when one exists.
+     *
+     * @param <T>     the type of object to be retrieved.
+     * @param afterId the last ID of the previous page, or null for the first page.
+     * @param limit   the maximum number of objects to be returned.
+     * @return a list of at most limit objects in ascending order of the ID.
+     */
+    <T> List<T> selectAfter(String afterId, int limit);
+
+    /**
+     * Selects the page of objects that match a given condition and follow the given ID, in ascending order of the ID.
+     *
+     * @param <T>       the type of object to be retrieved.
+     * @param condition the condition to match the objects.
+     * @param afterId   the last ID of the previous page, or null for the first page.
+     * @param limit     the maximum number of objects to be returned.
+     * @return a list of at most limit matching objects in ascending order of the ID.
+     */
+    <T> List<T> selectAfter(Predicate<T> condition, String afterId, int limit);
+
+    /**
+     * Streams all the objects from the JSON file. Unless the collection is kept in memory, the file is parsed
+     * lazily one object at a time, so the stream must be closed (e.g. with try-with-resources) to release the file.
+     *
+     * @param <T> the type of object to be retrieved.
+     * @return a lazily evaluated stream of all objects in the JSON file.
+     */
+    <T> Stream<T> stream();
+
+    /**
+     * Streams the objects from the JSON file that match a specific condition. Unless the collection is kept in memory,
+     * the file is parsed lazily one object at a time, so the stream must be closed to release the file.
+     *
+     * @param <T>       the type of object to be retrieved.
+     * @param condition the condition to match the objects.
+     * @return a lazily evaluated stream of the objects that match the condition.
+     */
+    <T> Stream<T> streamWhere(Predicate<T> condition);
+
+    /**
+     * Selects the objects whose value for a key is between two bounds, both inclusive, ordered by that value.
+     * Uses the sorted index of the key when one exists. Objects without a value for the key are not selected.
+     *
+     * @param <T>  the type of objects to be selected.
+     * @param key  the comparable key to filter and order by.
+     * @param from the lower bound, or null for no lower bound.
+     * @param to   the upper bound, or null for no upper bound.
+     * @return a list of the matching objects in ascending order of the key.
+     */
+    <T> List<T> selectRange(String key, Object from, Object to);
+
+    /**
+     * Selects the objects with the lowest values for a key, in ascending order of that value.
+     * Uses the sorted index of the key when one exists. Objects without a value for the key are not selected.
+     *
+     * @param <T>   the type of objects to be selected.
+     * @param key   the comparable key to order by.
+     * @param limit the maximum number of objects to be returned.
+     * @return a list of at most limit objects in ascending order of the key.
+     */
+    <T> List<T> selectOrderBy(String key, int limit);
+
+    /**
+     * Selects the objects with the highest values for a key, in descending order of that value.
+     * Uses the sorted index of the key when one exists. Objects without a value for the key are not selected.
+     *
+     * @param <T>   the type of objects to be selected.
+     * @param key   the comparable key to order by.
+     * @param limit the maximum number of objects to be returned.
+     * @return a list of at most limit objects in descending order of the key.
+     */
+    <T> List<T> selectOrderByDescending(String key, int limit);
+
+    /**
+     * Selects the first objects in the order of a comparator. Only the best k objects are kept while reading,
+     * instead of sorting the whole collection.
+     *
+     * @param <T>        the type of objects to be selected.
+     * @param comparator the order of the objects.
+     * @param k          the maximum number of objects to be returned.
+     * @return a list of at most k objects in the order of the comparator, equal objects in the order of the collection.
+     */
+    <T> List<T> topK(Comparator<T> comparator, int k);
+
+    /**
+     * Counts the objects of the JSON file. When the objects are read from the file they are counted without being
+     * parsed.
+     *
+     * @return the number of objects.
+     */
+    long count();
+
+    /**
+     * Counts the objects that match a given condition, in one pass without collecting them.
+     *
+     * @param <T>       the type of objects to be counted.
+     * @param condition the condition to match the objects.
+     * @return the number of matching objects.
+     */
+    <T> long countWhere(Predicate<T> condition);
+
+    /**
+     * Checks if an object with the given ID exists, using the primary index when one exists.
+     *
+     * @param id the ID of the object.
+     * @return true if an object with the ID exists, false otherwise.
+     */
+    boolean exists(String id);
+
+    /**
+     * Checks if any object matches a given condition. Reading stops at the first matching object.
+     *
+     * @param <T>       the type of objects to be checked.
+     * @param condition the condition to match the objects.
+     * @return true if at least one object matches the condition, false otherwise.
+     */
+    <T> boolean existsWhere(Predicate<T> condition);
+
+    /**
+     * Counts the objects by the value of a key. An object whose key holds a list is counted for every distinct
+     * element of the list, and objects without a value are not counted. When the objects are read from the file
+     * only the values of the key are parsed.
+     *
+     * @param key the key to group by.
+     * @return the number of objects of every value, in the order the values are first found.
+     */
+    Map<String, Long> groupByCount(String key);
+
+    /**
+     * Returns the lowest value of a numeric key, using the sorted index of the key when one exists.
+     *
+     * @param key the numeric key.
+     * @return the lowest value in the type of the key, or null if no object has a value for the key.
+     */
+    Number min(String key);
+
+    /**
+     * Returns the highest value of a numeric key, using the sorted index of the key when one exists.
+     *
+     * @param key the numeric key.
+     * @return the highest value in the type of the key, or null if no object has a value for the key.
+     */
+    Number max(String key);
+
+    /**
+     * Returns the sum of the values of a numeric key.
+     *
+     * @param key the numeric key.
+     * @return the sum as a Long for an integral key, or as a Double otherwise, zero if no object has a value.
+     */
+    Number sum(String key);
+
+    /**
+     * Returns the average of the values of a numeric key.
+     *
+     * @param key the numeric key.
+     * @return the average, or null if no object has a value for the key.
+     */
+    Double avg(String key);
+
     /**
      * Inserts a new object into the JSON file.
      *
@@ -137,6 +400,19 @@ public interface JsonLiteClient {
      */
     <T> boolean updateWhere(Predicate<T> condition, String key, Object newValue);
 
+    /**
+     * Updates the value of a specific key for all objects that match the given condition, evaluated with the given
+     * scan mode instead of the scan mode of the client.
+     *
+     * @param <T>       the type of objects to be updated.
+     * @param condition the condition used to filter the objects, which must be thread-safe with {@link ScanMode#PARALLEL}.
+     * @param key       the key whose value should be updated.
+     * @param newValue  the new value to assign to the specified key.
+     * @param scanMode  how the condition is evaluated over the collection.
+     * @return true if at least one object was updated, false otherwise.
+     */
+    <T> boolean updateWhere(Predicate<T> condition, String key, Object newValue, ScanMode scanMode);
+
     /**
      * Updates multiple key-value pairs for all objects that match the given condition.
      *
@@ -147,6 +423,126 @@ public interface JsonLiteClient {
      */
     <T> boolean updateWhere(Predicate<T> condition, Map<String, Object> updates);
 
+    /**
+     * Updates multiple key-value pairs for all objects that match the given condition, evaluated with the given
+     * scan mode instead of the scan mode of the client.
+     *
+     * @param <T>       the type of objects to be updated.
+     * @param condition the condition used to filter the objects, which must be thread-safe with {@link ScanMode#PARALLEL}.
+     * @param updates   a map containing key-value pairs to update.
+     * @param scanMode  how the condition is evaluated over the collection.
+     * @return true if at least one object was updated, false otherwise.
+     */
+    <T> boolean updateWhere(Predicate<T> condition, Map<String, Object> updates, ScanMode scanMode);
+
+    /**
+     * Updates multiple key-value pairs for all objects whose key is equal to one of the values of a key condition.
+     *
+     * @param <T>       the type of objects to be updated.
+     * @param condition the condition on the value of a key.
+     * @param updates   a map containing key-value pairs to update.
+     * @return true if at least one object was updated, false otherwise.
+     */
+    <T> boolean updateWhere(KeyCondition condition, Map<String, Object> updates);
+
+    /**
+     * Updates multiple key-value pairs for all objects that match a query, found with the same plan as
+     * {@link #selectWhere(Query)}.
+     *
+     * @param <T>     the type of objects to be updated.
+     * @param query   the conditions, order and page of the objects to update.
+     * @param updates a map containing key-value pairs to update.
+     * @return true if at least one object was updated, false otherwise.
+     */
+    <T> boolean updateWhere(Query query, Map<String, Object> updates);
+
+    /**
+     * Updates multiple key-value pairs for all objects that match a specific key-value pair.
+     * Uses the secondary index of the key when one exists.
+     *
+     * @param key     the key to search for.
+     * @param value   the value that the key should match.
+     * @param updates a map containing key-value pairs to update.
+     * @return true if at least one object was updated, false otherwise.
+     */
+    boolean updateByKey(String key, String value, Map<String, Object> updates);
+
+    /**
+     * Creates a secondary index on a key, so that selecting, updating and deleting by the key
+     * no longer scans the whole collection. Indexes are kept only when the collection is kept in memory.
+     *
+     * @param key the key to be indexed.
+     */
+    void createIndex(String key);
+
+    /**
+     * Creates a sorted index on a comparable key, so that selecting by a range of the key or ordered by the key
+     * no longer scans and sorts the whole collection. Indexes are kept only when the collection is kept in memory.
+     *
+     * @param key the key to be indexed.
+     */
+    void createSortedIndex(String key);
+
+    /**
+     * Runs several operations as a single unit of work. All the operations called on this client from within
+     * the given operations, on the same thread, are applied to one in-memory copy of the collection, which is
+     * written to the JSON file once when the operations complete. Select operations see the changes made so far.
+     * If any operation throws, none of the changes are persisted and the exception is rethrown.
+     *
+     * @param operations the operations to be run, receiving this client.
+     */
+    void batch(Consumer<JsonLiteClient> operations);
+
+    /**
+     * Returns a read-only client on the current version of the collection. All the select operations of the returned
+     * client see that same version, without locking, regardless of later changes made through this or other clients,
+     * so several queries can read one consistent state. Mutating operations of the returned client throw a
+     * {@link com.devroic.jsonlite.exceptions.JsonLiteClientOperationException}.
+     * <p>
+     * A snapshot holds the list of the objects of that version, not copies of the objects. With
+     * {@link com.devroic.jsonlite.client.CacheMode#IN_MEMORY} the objects are shared with the objects returned by the
+     * other clients of the file, so an object changed in place also changes in the snapshot, even when it is then
+     * passed to an update operation. To change an object, change a copy of it and pass the copy to an update operation.
+     *
+     * @return a read-only client on a snapshot of the collection.
+     */
+    JsonLiteClient snapshot();
+
+    /**
+     * Flushes the mutations that were applied in memory but not persisted yet, with
+     * {@link com.devroic.jsonlite.client.WriteMode#GROUP_COMMIT} or {@link com.devroic.jsonlite.client.WriteMode#ASYNC}.
+     * With {@link com.devroic.jsonlite.client.WriteMode#SYNC} every mutation is already persisted.
+     *
+     * @return a future completed once the mutations committed so far are persisted, or completed exceptionally
+     * if persisting them failed.
+     */
+    CompletableFuture<Void> flush();
+
+    /**
+     * Returns the counters of the lock of the JSON file: acquisitions, timeouts, and the time spent waiting for
+     * and holding the lock. The counters are shared by all the clients of the same file within this JVM.
+     *
+     * @return the live lock metrics of the JSON file.
+     */
+    LockMetrics getLockMetrics();
+
+    /**
+     * Returns the counters of the result cache of the client: hits, misses, evictions, and the results
+     * invalidated by writes.
+     *
+     * @return the live result cache metrics of the client, or null if the client has no result cache.
+     */
+    ResultCacheMetrics getResultCacheMetrics();
+
+    /**
+     * Closes the client, flushing its pending mutations. Clients opening the same JSON file with compatible options
+     * share one loaded copy of the collection, which is released when the last of them is closed. Operations called
+     * on a closed client throw a {@link com.devroic.jsonlite.exceptions.JsonLiteClientOperationException}.
+     * Closing a closed client or a snapshot has no effect.
+     */
+    @Override
+    void close();
+
     /**
      * Deletes all objects from the JSON file.
      *
@@ -180,4 +576,33 @@ public interface JsonLiteClient {
      */
     <T> boolean deleteWhere(Predicate<T> condition);
 
+    /**
+     * Deletes objects from the JSON file that match a given condition, evaluated with the given scan mode
+     * instead of the scan mode of the client.
+     *
+     * @param <T>       the type of object to be deleted.
+     * @param condition the condition to match the objects, which must be thread-safe with {@link ScanMode#PARALLEL}.
+     * @param scanMode  how the condition is evaluated over the collection.
+     * @return true if any objects were deleted, false otherwise.
+     */
+    <T> boolean deleteWhere(Predicate<T> condition, ScanMode scanMode);
+
+    /**
+     * Deletes objects from the JSON file whose key is equal to one of the values of a key condition.
+     *
+     * @param <T>       the type of object to be deleted.
+     * @param condition the condition on the value of a key.
+     * @return true if any objects were deleted, false otherwise.
+     */
+    <T> boolean deleteWhere(KeyCondition condition);
+
+    /**
+     * Deletes the objects that match a query, found with the same plan as {@link #selectWhere(Query)}.
+     *
+     * @param <T>   the type of object to be deleted.
+     * @param query the conditions, order and page of the objects to delete.
+     * @return true if any objects were deleted, false otherwise.
+     */
+    <T> boolean deleteWhere(Query query);
+
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.client;
+
+import com.devroic.jsonlite.messages.InfoMessages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The default executor of the asynchronous clients: a virtual thread per task when the JVM supports virtual threads
+ * (Java 21 and later), and a pool of daemon platform threads otherwise. The executor is looked up reflectively,
+ * so the library still runs on Java 17.
+ */
+public final class AsyncExecutors {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncExecutors.class);
+
+    private static volatile Executor defaultExecutor;
+
+    // Private constructor to prevent instantiation of this utility class
+    private AsyncExecutors() {
+    }
+
+    // Returns the executor shared by the asynchronous clients that were not given an executor
+    public static Executor defaultExecutor() {
+        Executor executor = defaultExecutor;
+        if (executor == null) {
+            synchronized (AsyncExecutors.class) {
+                executor = defaultExecutor;
+                if (executor == null) {
+                    executor = createDefaultExecutor();
+                    defaultExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    private static Executor createDefaultExecutor() {
+        try {
+            Executor executor = (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            logger.info(InfoMessages.ASYNC_EXECUTOR, "virtual threads");
+            return executor;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Virtual threads are not available, or are a disabled preview feature of this JVM
+            AtomicInteger threadCount = new AtomicInteger();
+            Executor executor = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "jsonlite-async-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            logger.info(InfoMessages.ASYNC_EXECUTOR, "daemon platform threads");
+            return executor;
+        }
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.client;
+
+import com.devroic.jsonlite.AsyncJsonLiteClient;
+import com.devroic.jsonlite.JsonLiteClient;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public class AsyncJsonLiteClientImpl implements AsyncJsonLiteClient {
+
+    private final JsonLiteClient client;
+    private final Executor executor;
+
+    // The last mutating operation that was called, which the next operations wait for. Chaining every mutating
+    // operation to the previous one makes them a single-writer queue, run one at a time in the order they were called.
+    private volatile CompletableFuture<?> lastWrite = CompletableFuture.completedFuture(null);
+
+    public AsyncJsonLiteClientImpl(JsonLiteClient client, Executor executor) {
+        this.client = client;
+        this.executor = executor;
+    }
+
+    // Runs a select operation on the executor once the mutating operations called before it have completed
+    private <R> CompletableFuture<R> read(Supplier<R> operation) {
+        return this.lastWrite.handle((result, failure) -> null).thenApplyAsync(ignored -> operation.get(), this.executor);
+    }
+
+    // Queues a mutating operation, to be run on the executor after the mutating operation called before it
+    private synchronized <R> CompletableFuture<R> write(Supplier<R> operation) {
+        CompletableFuture<R> future = this.lastWrite.handle((result, failure) -> null)
+                .thenApplyAsync(ignored -> operation.get(), this.executor);
+        this.lastWrite = future;
+        return future;
+    }
+
+    @Override
+    public JsonLiteClient sync() {
+        return client;
+    }
+
+    @Override
+    public CompletableFuture<Void> flush() {
+        return this.read(this.client::flush).thenCompose(persisted -> persisted);
+    }
+
+    // Closes the blocking client once the mutating operations called so far have run
+    @Override
+    public void close() {
+        this.lastWrite.handle((result, failure) -> null).join();
+        this.client.close();
+    }
+
+    // ** Select Operations **
+
+    @Override
+    public <T> CompletableFuture<List<T>> selectAll() {
+        return this.read(this.client::selectAll);
+    }
+
+    @Override
+    public CompletableFuture<List<List<String>>> selectKey(String key) {
+        return this.read(() -> this.client.selectKey(key));
+    }
+
+    @Override
+    public CompletableFuture<List<List<String>>> selectKeys(String... keys) {
+        return this.read(() -> this.client.selectKeys(keys));
+    }
+
+    @Override
+    public CompletableFuture<List<Map<String, Object>>> selectFields(String... keys) {
+        return this.read(() -> this.client.selectFields(keys));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> selectById(String id) {
+        return this.read(() -> this.client.selectById(id));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> selectByKey(String key, String value) {
+        return this.read(() -> this.client.selectByKey(key, value));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> selectByKey(String key, String value, int offset, int limit) {
+        return this.read(() -> this.client.selectByKey(key, value, offset, limit));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> selectWhere(Predicate<T> condition) {
+        return this.read(() -> this.client.selectWhere(condition));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> selectWhere(KeyCondition condition) {
+        return this.read(() -> this.client.selectWhere(condition));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> selectWhere(String name, Predicate<T> condition) {
+        return this.read(() -> this.client.selectWhere(name, condition));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> selectWhere(Query query) {
+        return this.read(() -> this.client.selectWhere(query));
+    }
+
+    @Override
+    public CompletableFuture<QueryPlan> explain(Query query) {
+        return this.read(() -> this.client.explain(query));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> selectWhere(Predicate<T> condition, int offset, int limit) {
+        return this.read(() -> this.client.selectWhere(condition, offset, limit));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> selectAfter(String afterId, int limit) {
+        return this.read(() -> this.client.selectAfter(afterId, limit));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> selectAfter(Predicate<T> condition, String afterId, int limit) {
+        return this.read(() -> this.client.selectAfter(condition, afterId, limit));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> selectRange(String key, Object from, Object to) {
+        return this.read(() -> this.client.selectRange(key, from, to));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> selectOrderBy(String key, int limit) {
+        return this.read(() -> this.client.selectOrderBy(key, limit));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> selectOrderByDescending(String key, int limit) {
+        return this.read(() -> this.client.selectOrderByDescending(key, limit));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> topK(Comparator<T> comparator, int k) {
+        return this.read(() -> this.client.topK(comparator, k));
+    }
+
+    @Override
+    public CompletableFuture<Long> count() {
+        return this.read(() -> this.client.count());
+    }
+
+    @Override
+    public <T> CompletableFuture<Long> countWhere(Predicate<T> condition) {
+        return this.read(() -> this.client.countWhere(condition));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> exists(String id) {
+        return this.read(() -> this.client.exists(id));
+    }
+
+    @Override
+    public <T> CompletableFuture<Boolean> existsWhere(Predicate<T> condition) {
+        return this.read(() -> this.client.existsWhere(condition));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Long>> groupByCount(String key) {
+        return this.read(() -> this.client.groupByCount(key));
+    }
+
+    @Override
+    public CompletableFuture<Number> min(String key) {
+        return this.read(() -> this.client.min(key));
+    }
+
+    @Override
+    public CompletableFuture<Number> max(String key) {
+        return this.read(() -> this.client.max(key));
+    }
+
+    @Override
+    public CompletableFuture<Number> sum(String key) {
+        return this.read(() -> this.client.sum(key));
+    }
+
+    @Override
+    public CompletableFuture<Double> avg(String key) {
+        return this.read(() -> this.client.avg(key));
+    }
+
+    // ** Insert Operations **
+
+    @Override
+    public <T> CompletableFuture<Void> insert(T object) {
+        return this.write(() -> {
+            this.client.insert(object);
+            return null;
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> insertMultiple(List<T> objects) {
+        return this.write(() -> {
+            this.client.insertMultiple(objects);
+            return null;
+        });
+    }
+
+    // ** Update Operations **
+
+    @Override
+    public CompletableFuture<Boolean> updateKey(String key, Object newValue) {
+        return this.write(() -> this.client.updateKey(key, newValue));
+    }
+
+    @Override
+    public <T> CompletableFuture<Boolean> updateById(String id, T updatedObject) {
+        return this.write(() -> this.client.updateById(id, updatedObject));
+    }
+
+    @Override
+    public <T> CompletableFuture<Boolean> updateWhere(Predicate<T> condition, String key, Object newValue) {
+        return this.write(() -> this.client.updateWhere(condition, key, newValue));
+    }
+
+    @Override
+    public <T> CompletableFuture<Boolean> updateWhere(Predicate<T> condition, Map<String, Object> updates) {
+        return this.write(() -> this.client.updateWhere(condition, updates));
+    }
+
+    @Override
+    public <T> CompletableFuture<Boolean> updateWhere(KeyCondition condition, Map<String, Object> updates) {
+        return this.write(() -> this.client.updateWhere(condition, updates));
+    }
+
+    @Override
+    public <T> CompletableFuture<Boolean> updateWhere(Query query, Map<String, Object> updates) {
+        return this.write(() -> this.client.updateWhere(query, updates));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> updateByKey(String key, String value, Map<String, Object> updates) {
+        return this.write(() -> this.client.updateByKey(key, value, updates));
+    }
+
+    // ** Batch Operations **
+
+    @Override
+    public CompletableFuture<Void> batch(Consumer<JsonLiteClient> operations) {
+        return this.write(() -> {
+            this.client.batch(operations);
+            return null;
+        });
+    }
+
+    // ** Delete Operations **
+
+    @Override
+    public CompletableFuture<Boolean> deleteAll() {
+        return this.write(this.client::deleteAll);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteById(String id) {
+        return this.write(() -> this.client.deleteById(id));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteByKey(String key, String value) {
+        return this.write(() -> this.client.deleteByKey(key, value));
+    }
+
+    @Override
+    public <T> CompletableFuture<Boolean> deleteWhere(Predicate<T> condition) {
+        return this.write(() -> this.client.deleteWhere(condition));
+    }
+
+    @Override
+    public <T> CompletableFuture<Boolean> deleteWhere(KeyCondition condition) {
+        return this.write(() -> this.client.deleteWhere(condition));
+    }
+
+    @Override
+    public <T> CompletableFuture<Boolean> deleteWhere(Query query) {
+        return this.write(() -> this.client.deleteWhere(query));
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.devroic.jsonlite.client;
+
+/**
+ * Defines how a JsonLiteClient keeps the collection of the JSON file in memory.
+ */
+public enum CacheMode {
+
+    /**
+     * No caching. Every operation reads and parses the JSON file again (default).
+     */
+    NONE,
+
+    /**
+     * The collection is parsed once and kept in memory. Mutations update the in-memory copy and the file,
+     * and the collection is only parsed again when the file is changed by someone else.
+     * Objects returned by the client are the cached objects, shared by every caller, so they must not be modified
+     * in place: a copy of an object is changed and passed to an update operation instead.
+     */
+    IN_MEMORY
+}
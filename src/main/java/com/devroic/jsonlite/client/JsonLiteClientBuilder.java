@@ -19,12 +19,21 @@ package com.devroic.jsonlite.client;
 
 import com.devroic.jsonlite.messages.ErrorMessages;
 import com.devroic.jsonlite.messages.InfoMessages;
+import com.devroic.jsonlite.AsyncJsonLiteClient;
 import com.devroic.jsonlite.JsonLiteClient;
 import com.devroic.jsonlite.exceptions.JsonLiteClientBuilderException;
+import com.devroic.jsonlite.reflection.AccessorRegistry;
+import com.devroic.jsonlite.schema.SchemaDescriptor;
+import com.devroic.jsonlite.storage.StorageOptions;
 import com.devroic.jsonlite.utils.JsonLiteClientValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
 public class JsonLiteClientBuilder {
     private static final Logger logger = LoggerFactory.getLogger(JsonLiteClientBuilder.class);
 
@@ -41,6 +50,82 @@ public class JsonLiteClientBuilder {
     // Default value = false
     private boolean createFileIfNotExists = false;
 
+    // Defines whether the collection of the JSON file is kept in memory between operations.
+    // Default value = CacheMode.NONE
+    private CacheMode cacheMode = CacheMode.NONE;
+
+    // Defines how mutations are persisted into the JSON file.
+    // Default value = StorageMode.REWRITE
+    private StorageMode storageMode = StorageMode.REWRITE;
+
+    // Size of the mutation log, in bytes, that triggers a compaction when using StorageMode.APPEND_LOG.
+    // Default value = 8 MB
+    private long compactionThreshold = StorageOptions.DEFAULT_COMPACTION_THRESHOLD;
+
+    // Ratio between the sizes of the mutation log and the JSON file that triggers a compaction when using StorageMode.APPEND_LOG.
+    // Default value = 1.0
+    private double compactionRatio = StorageOptions.DEFAULT_COMPACTION_RATIO;
+
+    // Keys of the JSON objects that get a secondary index for lookups by key.
+    // Default value = no indexes
+    private List<String> indexedKeys = List.of();
+
+    // Comparable keys of the JSON objects that get a sorted index for range and order by queries.
+    // Default value = no indexes
+    private List<String> sortedKeys = List.of();
+
+    // Defines whether operations also lock the JSON file against other processes.
+    // Default value = LockMode.LOCAL
+    private LockMode lockMode = LockMode.LOCAL;
+
+    // Time, in milliseconds, an operation waits for the lock of the JSON file before failing.
+    // Default value = 30 seconds
+    private long lockTimeout = StorageOptions.DEFAULT_LOCK_TIMEOUT;
+
+    // Defines when mutations are persisted into the JSON file.
+    // Default value = WriteMode.SYNC
+    private WriteMode writeMode = WriteMode.SYNC;
+
+    // Time, in milliseconds, between a mutation and the background flush persisting it with a write-behind mode.
+    // Default value = 100 ms
+    private long flushInterval = StorageOptions.DEFAULT_FLUSH_INTERVAL;
+
+    // Number of pending mutations that triggers a flush right away with a write-behind mode.
+    // Default value = 1000
+    private int flushThreshold = StorageOptions.DEFAULT_FLUSH_THRESHOLD;
+
+    // Number of pending mutations after which mutating operations wait for a flush with a write-behind mode.
+    // Default value = 10000
+    private int maxPendingMutations = StorageOptions.DEFAULT_MAX_PENDING_MUTATIONS;
+
+    // Defines how the conditions of selectWhere, updateWhere and deleteWhere are evaluated.
+    // Default value = ScanMode.SEQUENTIAL
+    private ScanMode scanMode = ScanMode.SEQUENTIAL;
+
+    // The pool evaluating the chunks of parallel scans.
+    // Default value = ForkJoinPool.commonPool()
+    private ForkJoinPool scanPool = ForkJoinPool.commonPool();
+
+    // Number of objects from which a parallel scan splits the collection into chunks.
+    // Default value = 10000
+    private int parallelScanThreshold = StorageOptions.DEFAULT_PARALLEL_SCAN_THRESHOLD;
+
+    // Size of the JSON file, in bytes, from which it is parsed in chunks bound concurrently on the scan pool.
+    // Default value = 16 MB
+    private long parallelLoadThreshold = StorageOptions.DEFAULT_PARALLEL_LOAD_THRESHOLD;
+
+    // Defines how the JSON file is read when the collection is loaded or streamed.
+    // Default value = ReadMode.BUFFERED
+    private ReadMode readMode = ReadMode.BUFFERED;
+
+    // Maximum number of results of read operations cached by the client, or zero for no result cache.
+    // Default value = 0
+    private int resultCacheSize = 0;
+
+    // The executor running the operations of the asynchronous client.
+    // Default value = virtual threads when available, daemon platform threads otherwise
+    private Executor executor;
+
     /**
      * Sets the file path for the JSON file to be used.
      *
@@ -85,8 +170,254 @@ public class JsonLiteClientBuilder {
         return this;
     }
 
+    /**
+     * Sets the cache mode of the client. With {@link CacheMode#IN_MEMORY} the JSON file is parsed once and the
+     * collection is kept in memory, being parsed again only when the file is changed outside the client.
+     * <p>
+     * With {@link CacheMode#NONE} every read returns newly read objects that belong to the caller. With
+     * {@link CacheMode#IN_MEMORY} reads return the cached objects themselves, shared by every caller, the indexes and
+     * the {@link com.devroic.jsonlite.JsonLiteClient#snapshot() snapshots}. Changing one of them in place changes the
+     * results of the other callers and the earlier snapshots, and is saved to the file by the next write. To change
+     * an object, change a copy of it and pass the copy to an update operation.
+     *
+     * @param cacheMode The cache mode to be used (e.g., CacheMode.IN_MEMORY).
+     * @return The builder instance for method chaining.
+     */
+    public JsonLiteClientBuilder cacheMode(CacheMode cacheMode) {
+        this.cacheMode = cacheMode;
+        return this;
+    }
+
+    /**
+     * Sets the storage mode of the client. With {@link StorageMode#APPEND_LOG} mutations are appended to a log
+     * next to the JSON file instead of rewriting the whole file, and the log is compacted into the file in the background.
+     *
+     * @param storageMode The storage mode to be used (e.g., StorageMode.APPEND_LOG).
+     * @return The builder instance for method chaining.
+     */
+    public JsonLiteClientBuilder storageMode(StorageMode storageMode) {
+        this.storageMode = storageMode;
+        return this;
+    }
+
+    /**
+     * Sets the size of the mutation log, in bytes, after which it is compacted into the JSON file.
+     * Only used with {@link StorageMode#APPEND_LOG}.
+     *
+     * @param compactionThreshold The size of the log in bytes (e.g., 8 * 1024 * 1024).
+     * @return The builder instance for method chaining.
+     */
+    public JsonLiteClientBuilder compactionThreshold(long compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+        return this;
+    }
+
+    /**
+     * Sets the ratio between the sizes of the mutation log and the JSON file after which the log is compacted
+     * into the JSON file. Only used with {@link StorageMode#APPEND_LOG}.
+     *
+     * @param compactionRatio The ratio of the log size to the file size (e.g., 0.5).
+     * @return The builder instance for method chaining.
+     */
+    public JsonLiteClientBuilder compactionRatio(double compactionRatio) {
+        this.compactionRatio = compactionRatio;
+        return this;
+    }
+
+    /**
+     * Sets the keys that get a secondary index, so lookups by these keys do not scan the whole collection.
+     * Indexes are kept only when the collection is kept in memory, with {@link CacheMode#IN_MEMORY}
+     * or {@link StorageMode#APPEND_LOG}.
+     *
+     * @param keys The keys to be indexed (e.g., "city", "job").
+     * @return The builder instance for method chaining.
+     */
+    public JsonLiteClientBuilder indexes(String... keys) {
+        this.indexedKeys = keys == null ? List.of() : Arrays.asList(keys);
+        return this;
+    }
+
+    /**
+     * Sets the comparable keys that get a sorted index, so range and order by queries on these keys do not scan
+     * and sort the whole collection. Indexes are kept only when the collection is kept in memory,
+     * with {@link CacheMode#IN_MEMORY} or {@link StorageMode#APPEND_LOG}.
+     *
+     * @param keys The keys to be indexed (e.g., "age").
+     * @return The builder instance for method chaining.
+     */
+    public JsonLiteClientBuilder sortedIndexes(String... keys) {
+        this.sortedKeys = keys == null ? List.of() : Arrays.asList(keys);
+        return this;
+    }
+
+    /**
+     * Sets the lock mode of the client. With {@link LockMode#INTER_PROCESS} every operation also locks a sidecar file
+     * next to the JSON file through the operating system, shared for reads and exclusive for writes, so several
+     * processes can safely use the same JSON file.
+     *
+     * @param lockMode The lock mode to be used (e.g., LockMode.INTER_PROCESS).
+     * @return The builder instance for method chaining.
+     */
+    public JsonLiteClientBuilder lockMode(LockMode lockMode) {
+        this.lockMode = lockMode;
+        return this;
+    }
+
+    /**
+     * Sets the maximum time an operation waits for the lock of the JSON file, held by other threads or processes,
+     * before failing with a {@link com.devroic.jsonlite.exceptions.JsonLiteClientOperationException}.
+     *
+     * @param lockTimeout The maximum wait in milliseconds (e.g., 5000).
+     * @return The builder instance for method chaining.
+     */
+    public JsonLiteClientBuilder lockTimeout(long lockTimeout) {
+        this.lockTimeout = lockTimeout;
+        return this;
+    }
+
+    /**
+     * Sets the write mode of the client. With {@link WriteMode#GROUP_COMMIT} and {@link WriteMode#ASYNC} mutations
+     * are applied in memory and persisted by a background flusher, which writes the file once for many mutations.
+     *
+     * @param writeMode The write mode to be used (e.g., WriteMode.GROUP_COMMIT).
+     * @return The builder instance for method chaining.
+     */
+    public JsonLiteClientBuilder writeMode(WriteMode writeMode) {
+        this.writeMode = writeMode;
+        return this;
+    }
+
+    /**
+     * Sets the maximum time a mutation stays pending before the background flusher persists it.
+     * Only used with {@link WriteMode#GROUP_COMMIT} and {@link WriteMode#ASYNC}.
+     *
+     * @param flushInterval The flush interval in milliseconds (e.g., 50).
+     * @return The builder instance for method chaining.
+     */
+    public JsonLiteClientBuilder flushInterval(long flushInterval) {
+        this.flushInterval = flushInterval;
+        return this;
+    }
+
+    /**
+     * Sets the number of pending mutations that are persisted right away instead of after the flush interval.
+     * Only used with {@link WriteMode#GROUP_COMMIT} and {@link WriteMode#ASYNC}.
+     *
+     * @param flushThreshold The number of pending mutations (e.g., 500).
+     * @return The builder instance for method chaining.
+     */
+    public JsonLiteClientBuilder flushThreshold(int flushThreshold) {
+        this.flushThreshold = flushThreshold;
+        return this;
+    }
+
+    /**
+     * Sets the number of pending mutations after which mutating operations wait for the flusher to catch up,
+     * at most the lock timeout. Only used with {@link WriteMode#GROUP_COMMIT} and {@link WriteMode#ASYNC}.
+     *
+     * @param maxPendingMutations The maximum number of pending mutations (e.g., 10000).
+     * @return The builder instance for method chaining.
+     */
+    public JsonLiteClientBuilder maxPendingMutations(int maxPendingMutations) {
+        this.maxPendingMutations = maxPendingMutations;
+        return this;
+    }
+
+    /**
+     * Sets how the conditions of selectWhere, updateWhere and deleteWhere are evaluated. With {@link ScanMode#PARALLEL}
+     * collections of at least the parallel scan threshold are split into chunks evaluated concurrently, so the
+     * conditions must be thread-safe. Each of these operations also accepts a scan mode for a single call.
+     *
+     * @param scanMode The scan mode to be used (e.g., ScanMode.PARALLEL).
+     * @return The builder instance for method chaining.
+     */
+    public JsonLiteClientBuilder scanMode(ScanMode scanMode) {
+        this.scanMode = scanMode;
+        return this;
+    }
+
+    /**
+     * Sets the pool evaluating the chunks of parallel scans, and parsing the chunks of large JSON files.
+     * By default the common ForkJoinPool is used.
+     *
+     * @param scanPool The pool to be used (e.g., new ForkJoinPool(32)).
+     * @return The builder instance for method chaining.
+     */
+    public JsonLiteClientBuilder scanPool(ForkJoinPool scanPool) {
+        this.scanPool = scanPool;
+        return this;
+    }
+
+    /**
+     * Sets the number of objects from which a parallel scan splits the collection into chunks.
+     * Smaller collections are scanned sequentially, since splitting them costs more than it saves.
+     *
+     * @param parallelScanThreshold The minimum number of objects scanned in parallel (e.g., 50000).
+     * @return The builder instance for method chaining.
+     */
+    public JsonLiteClientBuilder parallelScanThreshold(int parallelScanThreshold) {
+        this.parallelScanThreshold = parallelScanThreshold;
+        return this;
+    }
+
+    /**
+     * Sets the size of the JSON file from which loading it splits its top-level array into chunks parsed
+     * concurrently on the scan pool. Smaller files are parsed by the loading thread.
+     *
+     * @param parallelLoadThreshold The minimum size in bytes of a file parsed in parallel (e.g., 64 * 1024 * 1024).
+     * @return The builder instance for method chaining.
+     */
+    public JsonLiteClientBuilder parallelLoadThreshold(long parallelLoadThreshold) {
+        this.parallelLoadThreshold = parallelLoadThreshold;
+        return this;
+    }
+
+    /**
+     * Sets how the JSON file is read. With {@link ReadMode#MEMORY_MAPPED} the file is parsed from a memory mapping,
+     * reused while the file is unchanged, and saved by renaming a temporary file over it.
+     *
+     * @param readMode The read mode to be used (e.g., ReadMode.MEMORY_MAPPED).
+     * @return The builder instance for method chaining.
+     */
+    public JsonLiteClientBuilder readMode(ReadMode readMode) {
+        this.readMode = readMode;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of results of read operations cached by the client. Results are cached by operation and
+     * arguments, and invalidated by every insert, update or delete, and by changes of the JSON file made outside the
+     * client. By default no result is cached.
+     * <p>
+     * Cached results are shared: every call returning a cached result gets the same object instances, even with
+     * {@link CacheMode#NONE}, where reads otherwise return newly deserialized objects.
+     * A modified object changes the result of every other caller until the next write, so results of a client with
+     * a result cache must be treated as read-only, and copied before they are modified.
+     *
+     * @param resultCacheSize The maximum number of cached results (e.g., 1000), or zero to disable the cache.
+     * @return The builder instance for method chaining.
+     */
+    public JsonLiteClientBuilder resultCacheSize(int resultCacheSize) {
+        this.resultCacheSize = resultCacheSize;
+        return this;
+    }
+
+    /**
+     * Sets the executor running the operations of the client built by {@link #buildAsync()}.
+     * By default operations run on virtual threads when the JVM supports them, and on daemon platform threads otherwise.
+     *
+     * @param executor The executor to be used (e.g., Executors.newFixedThreadPool(8)).
+     * @return The builder instance for method chaining.
+     */
+    public JsonLiteClientBuilder executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
     /**
      * Builds and returns a JsonLiteClient instance based on the specified configurations.
+     * If the JSON file is already open by another client with the same options, apart from the indexed keys,
+     * the new client attaches to its loaded collection instead of loading the file again.
      *
      * @return A fully constructed JsonLiteClient.
      * @throws JsonLiteClientBuilderException If any required property is missing or invalid.
@@ -99,13 +430,117 @@ public class JsonLiteClientBuilder {
         if (this.type == null) {
             throw new JsonLiteClientBuilderException(ErrorMessages.TYPE_NULL);
         }
+        if (this.cacheMode == null) {
+            throw new JsonLiteClientBuilderException(ErrorMessages.CACHE_MODE_NULL);
+        }
+        if (this.storageMode == null) {
+            throw new JsonLiteClientBuilderException(ErrorMessages.STORAGE_MODE_NULL);
+        }
+        if (this.compactionThreshold <= 0) {
+            throw new JsonLiteClientBuilderException(ErrorMessages.INVALID_COMPACTION_THRESHOLD);
+        }
+        if (this.compactionRatio <= 0) {
+            throw new JsonLiteClientBuilderException(ErrorMessages.INVALID_COMPACTION_RATIO);
+        }
+        if (this.lockMode == null) {
+            throw new JsonLiteClientBuilderException(ErrorMessages.LOCK_MODE_NULL);
+        }
+        if (this.lockTimeout <= 0) {
+            throw new JsonLiteClientBuilderException(ErrorMessages.INVALID_LOCK_TIMEOUT);
+        }
+        // Appends of other processes to the mutation log would not be noticed by the collection kept in memory
+        if (this.lockMode == LockMode.INTER_PROCESS && this.storageMode == StorageMode.APPEND_LOG) {
+            throw new JsonLiteClientBuilderException(ErrorMessages.INTER_PROCESS_LOCK_WITH_APPEND_LOG);
+        }
+        if (this.writeMode == null) {
+            throw new JsonLiteClientBuilderException(ErrorMessages.WRITE_MODE_NULL);
+        }
+        if (this.flushInterval <= 0) {
+            throw new JsonLiteClientBuilderException(ErrorMessages.INVALID_FLUSH_INTERVAL);
+        }
+        if (this.flushThreshold <= 0) {
+            throw new JsonLiteClientBuilderException(ErrorMessages.INVALID_FLUSH_THRESHOLD);
+        }
+        if (this.maxPendingMutations <= 0) {
+            throw new JsonLiteClientBuilderException(ErrorMessages.INVALID_MAX_PENDING_MUTATIONS);
+        }
+        // Other processes would neither see the pending mutations nor have their changes noticed
+        if (this.lockMode == LockMode.INTER_PROCESS && this.writeMode != WriteMode.SYNC) {
+            throw new JsonLiteClientBuilderException(ErrorMessages.INTER_PROCESS_LOCK_WITH_WRITE_BEHIND);
+        }
+        if (this.scanMode == null) {
+            throw new JsonLiteClientBuilderException(ErrorMessages.SCAN_MODE_NULL);
+        }
+        if (this.scanPool == null) {
+            throw new JsonLiteClientBuilderException(ErrorMessages.SCAN_POOL_NULL);
+        }
+        if (this.parallelScanThreshold <= 0) {
+            throw new JsonLiteClientBuilderException(ErrorMessages.INVALID_PARALLEL_SCAN_THRESHOLD);
+        }
+        if (this.readMode == null) {
+            throw new JsonLiteClientBuilderException(ErrorMessages.READ_MODE_NULL);
+        }
+        if (this.parallelLoadThreshold <= 0) {
+            throw new JsonLiteClientBuilderException(ErrorMessages.INVALID_PARALLEL_LOAD_THRESHOLD);
+        }
+        if (this.resultCacheSize < 0) {
+            throw new JsonLiteClientBuilderException(ErrorMessages.INVALID_RESULT_CACHE_SIZE);
+        }
         if (this.idKey != null && !this.idKey.isBlank()) {
             JsonLiteClientValidator.validateIdKey(type, idKey);
         }
+        // Describe the keys of the type once, so operations do not scan the fields of the class
+        SchemaDescriptor schema = new SchemaDescriptor(this.type, this.idKey);
+        for (String indexedKey : this.indexedKeys) {
+            if (indexedKey == null || indexedKey.isBlank()) {
+                throw new JsonLiteClientBuilderException(ErrorMessages.INDEXED_KEY_NULL);
+            }
+            JsonLiteClientValidator.validateKey(schema, indexedKey);
+        }
+        for (String sortedKey : this.sortedKeys) {
+            if (sortedKey == null || sortedKey.isBlank()) {
+                throw new JsonLiteClientBuilderException(ErrorMessages.INDEXED_KEY_NULL);
+            }
+            JsonLiteClientValidator.validateComparableKey(schema, sortedKey);
+        }
+        // Resolve the accessors of the type once, so operations do not look up getters through reflection
+        AccessorRegistry.forType(this.type);
         // Log the building process
         logger.info(InfoMessages.BUILDING_CLIENT, this.jsonFilePath, this.type);
 
+        StorageOptions storageOptions = new StorageOptions()
+                .cacheMode(this.cacheMode)
+                .storageMode(this.storageMode)
+                .compactionThreshold(this.compactionThreshold)
+                .compactionRatio(this.compactionRatio)
+                .indexedKeys(this.indexedKeys)
+                .sortedKeys(this.sortedKeys)
+                .lockMode(this.lockMode)
+                .lockTimeout(this.lockTimeout)
+                .writeMode(this.writeMode)
+                .flushInterval(this.flushInterval)
+                .flushThreshold(this.flushThreshold)
+                .maxPendingMutations(this.maxPendingMutations)
+                .scanMode(this.scanMode)
+                .scanPool(this.scanPool)
+                .parallelScanThreshold(this.parallelScanThreshold)
+                .parallelLoadThreshold(this.parallelLoadThreshold)
+                .readMode(this.readMode)
+                .resultCacheSize(this.resultCacheSize);
+
         // Return the constructed JsonLiteClientImpl instance
-        return new JsonLiteClientImpl(this.jsonFilePath, this.type, this.idKey, this.createFileIfNotExists);
+        return new JsonLiteClientImpl(this.jsonFilePath, schema, this.createFileIfNotExists, storageOptions);
+    }
+
+    /**
+     * Builds and returns an AsyncJsonLiteClient based on the specified configurations, whose operations return
+     * CompletableFutures and run on the configured executor.
+     *
+     * @return A fully constructed AsyncJsonLiteClient.
+     * @throws JsonLiteClientBuilderException If any required property is missing or invalid.
+     */
+    public AsyncJsonLiteClient buildAsync() {
+        JsonLiteClient client = this.build();
+        return new AsyncJsonLiteClientImpl(client, this.executor != null ? this.executor : AsyncExecutors.defaultExecutor());
     }
 }
@@ -18,24 +18,43 @@
 package com.devroic.jsonlite.client;
 
 import com.devroic.jsonlite.JsonLiteClient;
+import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.messages.ErrorMessages;
 import com.devroic.jsonlite.messages.InfoMessages;
+import com.devroic.jsonlite.operations.impl.AggregateHandlerImpl;
 import com.devroic.jsonlite.operations.impl.DeleteHandlerImpl;
 import com.devroic.jsonlite.operations.impl.InsertHandlerImpl;
 import com.devroic.jsonlite.operations.impl.SelectHandlerImpl;
 import com.devroic.jsonlite.operations.impl.UpdateHandlerImpl;
+import com.devroic.jsonlite.operations.interfaces.AggregateHandler;
 import com.devroic.jsonlite.operations.interfaces.DeleteHandler;
 import com.devroic.jsonlite.operations.interfaces.SelectHandler;
 import com.devroic.jsonlite.operations.interfaces.UpdateHandler;
+import com.devroic.jsonlite.schema.SchemaDescriptor;
+import com.devroic.jsonlite.storage.CollectionSnapshot;
+import com.devroic.jsonlite.storage.CollectionStore;
+import com.devroic.jsonlite.storage.CollectionStores;
+import com.devroic.jsonlite.storage.LockMetrics;
+import com.devroic.jsonlite.storage.ResultCache;
+import com.devroic.jsonlite.storage.ResultCacheMetrics;
+import com.devroic.jsonlite.storage.StorageOptions;
 import com.devroic.jsonlite.utils.JsonLiteClientOperationsHelper;
 import com.devroic.jsonlite.utils.JsonLiteClientValidator;
+import com.devroic.jsonlite.utils.ParallelScan;
 import com.devroic.jsonlite.operations.interfaces.InsertHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public class JsonLiteClientImpl implements JsonLiteClient {
 
@@ -44,9 +63,19 @@ public class JsonLiteClientImpl implements JsonLiteClient {
     private final InsertHandler insertHandler;
     private final UpdateHandler updateHandler;
     private final DeleteHandler deleteHandler;
+    private final AggregateHandler aggregateHandler;
+    private final CollectionStore store;
+    // The version of the collection read by a snapshot client, or null for a client reading the current version
+    private final CollectionSnapshot snapshot;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    // The scan evaluating the conditions of the client, and the scan of calls asking for a parallel scan
+    private final ParallelScan defaultScan;
+    private final ParallelScan parallelScan;
+    // The results of the read operations of the client, or null if the client does not cache them
+    private final ResultCache resultCache;
 
     // Constructor initializes the client, and validates or creates the JSON file if needed.
-    public JsonLiteClientImpl(String jsonFilePath, Class<?> type, String idKey, boolean createFileIfNotExists) {
+    public JsonLiteClientImpl(String jsonFilePath, SchemaDescriptor schema, boolean createFileIfNotExists, StorageOptions storageOptions) {
         File jsonFile = new File(jsonFilePath);
 
         if (createFileIfNotExists && !jsonFile.exists()) {
@@ -54,50 +83,280 @@ public class JsonLiteClientImpl implements JsonLiteClient {
         }
         JsonLiteClientValidator.validateJsonFileExistence(jsonFile);  // Validate file existence
 
+        //Attach to the store of the file, shared by all the operations handlers and by other clients of the file
+        CollectionStore store = CollectionStores.open(jsonFile, schema, storageOptions);
+        this.store = store;
+        Class<?> type = schema.getType();
+        String idKey = schema.getIdKey();
+
         //Initialize operations handlers
-        this.selectHandler = new SelectHandlerImpl(jsonFile, type, idKey);
-        this.insertHandler = new InsertHandlerImpl(jsonFile, type, idKey);
-        this.updateHandler = new UpdateHandlerImpl(jsonFile, type, idKey);
-        this.deleteHandler = new DeleteHandlerImpl(jsonFile, type, idKey);
+        this.selectHandler = new SelectHandlerImpl(jsonFile, type, idKey, store);
+        this.insertHandler = new InsertHandlerImpl(jsonFile, type, idKey, store);
+        this.updateHandler = new UpdateHandlerImpl(jsonFile, type, idKey, store);
+        this.deleteHandler = new DeleteHandlerImpl(jsonFile, type, idKey, store);
+        this.aggregateHandler = new AggregateHandlerImpl(jsonFile, type, idKey, store);
+        this.snapshot = null;
+
+        this.parallelScan = new ParallelScan(storageOptions.getScanPool(), storageOptions.getParallelScanThreshold());
+        this.defaultScan = storageOptions.getScanMode() == ScanMode.PARALLEL ? this.parallelScan : ParallelScan.SEQUENTIAL;
+        this.resultCache = storageOptions.getResultCacheSize() > 0 ? new ResultCache(storageOptions.getResultCacheSize()) : null;
 
         logger.info(InfoMessages.BUILDING_CLIENT_COMPLETED);
     }
 
+    // Constructor of a read-only client sharing the store and the handlers of the client, pinned to a snapshot.
+    private JsonLiteClientImpl(JsonLiteClientImpl client, CollectionSnapshot snapshot) {
+        this.selectHandler = client.selectHandler;
+        this.insertHandler = client.insertHandler;
+        this.updateHandler = client.updateHandler;
+        this.deleteHandler = client.deleteHandler;
+        this.aggregateHandler = client.aggregateHandler;
+        this.store = client.store;
+        this.snapshot = snapshot;
+        this.defaultScan = client.defaultScan;
+        this.parallelScan = client.parallelScan;
+        // A snapshot never changes, so its results are not worth caching apart from the snapshot itself
+        this.resultCache = null;
+    }
+
+    // Runs a select operation on the snapshot of this client, or on the current version of the collection
+    private <R> R read(Supplier<R> operation) {
+        this.checkOpen();
+        return this.snapshot != null ? this.store.read(this.snapshot, operation) : this.store.read(operation);
+    }
+
+    // Runs a select operation through the result cache, identified by its name and arguments. Operations of a unit
+    // of work see its uncommitted changes, so they always run.
+    private <R> R readCached(Supplier<R> operation, String name, Object... arguments) {
+        if (this.resultCache == null || this.store.isWriting()) {
+            return this.read(operation);
+        }
+        this.checkOpen();
+        long generation = this.store.getWriteGeneration();
+        return this.resultCache.get(ResultCache.Key.of(name, arguments), generation, () -> this.read(operation));
+    }
+
+    // Runs a mutating operation as a unit of work, which a snapshot client does not allow
+    private <R> R write(Supplier<R> operation) {
+        this.checkNotSnapshot();
+        return this.store.write(operation);
+    }
+
+    private void checkNotSnapshot() {
+        this.checkOpen();
+        if (this.snapshot != null) {
+            throw new JsonLiteClientOperationException(ErrorMessages.SNAPSHOT_READ_ONLY);
+        }
+    }
+
+    private ParallelScan scanFor(ScanMode scanMode) {
+        if (scanMode == null) {
+            throw new JsonLiteClientOperationException(ErrorMessages.SCAN_MODE_NULL);
+        }
+        return scanMode == ScanMode.PARALLEL ? this.parallelScan : ParallelScan.SEQUENTIAL;
+    }
+
+    private void checkOpen() {
+        if (this.closed.get()) {
+            throw new JsonLiteClientOperationException(ErrorMessages.CLIENT_CLOSED);
+        }
+    }
+
     // ** Select Operations **
 
     // Selects all objects from the JSON file.
     @Override
     public <T> List<T> selectAll() {
-        return this.selectHandler.handleSelectAll();
+        return this.readCached(() -> this.selectHandler.handleSelectAll(), "selectAll");
     }
 
     // Selects all values associated with a specific key across all objects in the JSON file.
     @Override
     public List<List<String>> selectKey(String key) {
-        return this.selectHandler.handleSelectKey(key);
+        return this.readCached(() -> this.selectHandler.handleSelectKey(key), "selectKey", key);
     }
 
     // Selects multiple keys and their corresponding values across all objects in the JSON file.
     @Override
     public List<List<String>> selectKeys(String... keys) {
-        return this.selectHandler.handleSelectKeys(keys);
+        return this.readCached(() -> this.selectHandler.handleSelectKeys(keys), "selectKeys", (Object) keys);
+    }
+
+    // Selects the values of multiple keys from every object, as one row per object.
+    @Override
+    public List<Map<String, Object>> selectFields(String... keys) {
+        return this.readCached(() -> this.selectHandler.handleSelectFields(keys), "selectFields", (Object) keys);
     }
 
     // Selects a specific object by its unique ID.
     public <T> T selectById(String id) {
-        return this.selectHandler.handleSelectById(id);
+        return this.readCached(() -> this.selectHandler.handleSelectById(id), "selectById", id);
     }
 
     // Selects objects where the given key matches the provided value.
     @Override
     public <T> List<T> selectByKey(String key, String value) {
-        return this.selectHandler.handleSelectByKey(key, value);
+        return this.readCached(() -> this.selectHandler.handleSelectByKey(key, value), "selectByKey", key, value);
+    }
+
+    // Selects one page of the objects that match a specific key-value pair.
+    @Override
+    public <T> List<T> selectByKey(String key, String value, int offset, int limit) {
+        return this.readCached(() -> this.selectHandler.handleSelectByKey(key, value, offset, limit), "selectByKey", key, value, offset, limit);
     }
 
     // Selects objects where a given condition is met.
     @Override
     public <T> List<T> selectWhere(Predicate<T> condition) {
-        return this.selectHandler.handleSelectWhere(condition);
+        return this.read(() -> this.selectHandler.handleSelectWhere(condition, this.defaultScan));
+    }
+
+    // Selects objects where a given condition is met, caching the results under the name of the condition.
+    @Override
+    public <T> List<T> selectWhere(String name, Predicate<T> condition) {
+        JsonLiteClientValidator.validateQueryName(name);
+        return this.readCached(() -> this.selectHandler.handleSelectWhere(condition, this.defaultScan), "namedQuery", name);
+    }
+
+    // Selects objects that match the given condition, evaluated with the given scan mode.
+    @Override
+    public <T> List<T> selectWhere(Predicate<T> condition, ScanMode scanMode) {
+        ParallelScan scan = this.scanFor(scanMode);
+        return this.read(() -> this.selectHandler.handleSelectWhere(condition, scan));
+    }
+
+    // Selects objects where the value of a key is one of the values of the key condition.
+    @Override
+    public <T> List<T> selectWhere(KeyCondition condition) {
+        return this.readCached(() -> this.selectHandler.handleSelectWhere(condition), "selectWhere", condition);
+    }
+
+    // Selects objects that match a query, with the plan chosen from the indexes of the collection.
+    @Override
+    public <T> List<T> selectWhere(Query query) {
+        return this.readCached(() -> this.selectHandler.handleSelectWhere(query), "selectWhere", query != null ? query.parts() : null);
+    }
+
+    // Returns the plan of a query without running it.
+    @Override
+    public QueryPlan explain(Query query) {
+        return this.read(() -> this.selectHandler.handleExplain(query));
+    }
+
+    // Selects one page of the objects where a given condition is met.
+    @Override
+    public <T> List<T> selectWhere(Predicate<T> condition, int offset, int limit) {
+        return this.read(() -> this.selectHandler.handleSelectWhere(condition, offset, limit));
+    }
+
+    // Selects the page of objects that follows the given ID, in ascending order of the ID.
+    @Override
+    public <T> List<T> selectAfter(String afterId, int limit) {
+        return this.readCached(() -> this.selectHandler.<T>handleSelectAfter(object -> true, afterId, limit), "selectAfter", afterId, limit);
+    }
+
+    // Selects the page of objects where a given condition is met that follows the given ID, in ascending order of the ID.
+    @Override
+    public <T> List<T> selectAfter(Predicate<T> condition, String afterId, int limit) {
+        return this.read(() -> this.selectHandler.handleSelectAfter(condition, afterId, limit));
+    }
+
+    // Selects the first objects in the order of the comparator.
+    @Override
+    public <T> List<T> topK(Comparator<T> comparator, int k) {
+        return this.read(() -> this.selectHandler.handleTopK(comparator, k));
+    }
+
+    // Counts the objects.
+    @Override
+    public long count() {
+        return this.readCached(this.aggregateHandler::handleCount, "count");
+    }
+
+    // Counts the objects where a given condition is met.
+    @Override
+    public <T> long countWhere(Predicate<T> condition) {
+        return this.read(() -> this.aggregateHandler.handleCountWhere(condition));
+    }
+
+    // Checks if an object with the given ID exists.
+    @Override
+    public boolean exists(String id) {
+        return this.readCached(() -> this.aggregateHandler.handleExists(id), "exists", id);
+    }
+
+    // Checks if any object meets a given condition.
+    @Override
+    public <T> boolean existsWhere(Predicate<T> condition) {
+        return this.read(() -> this.aggregateHandler.handleExistsWhere(condition));
+    }
+
+    // Counts the objects by the value of a key.
+    @Override
+    public Map<String, Long> groupByCount(String key) {
+        return this.readCached(() -> this.aggregateHandler.handleGroupByCount(key), "groupByCount", key);
+    }
+
+    // Returns the lowest value of a numeric key.
+    @Override
+    public Number min(String key) {
+        return this.readCached(() -> this.aggregateHandler.handleMin(key), "min", key);
+    }
+
+    // Returns the highest value of a numeric key.
+    @Override
+    public Number max(String key) {
+        return this.readCached(() -> this.aggregateHandler.handleMax(key), "max", key);
+    }
+
+    // Returns the sum of the values of a numeric key.
+    @Override
+    public Number sum(String key) {
+        return this.readCached(() -> this.aggregateHandler.handleSum(key), "sum", key);
+    }
+
+    // Returns the average of the values of a numeric key.
+    @Override
+    public Double avg(String key) {
+        return this.readCached(() -> this.aggregateHandler.handleAvg(key), "avg", key);
+    }
+
+    // Selects objects where the value of a key is between the given bounds, ordered by that value.
+    @Override
+    public <T> List<T> selectRange(String key, Object from, Object to) {
+        return this.readCached(() -> this.selectHandler.handleSelectRange(key, from, to), "selectRange", key, from, to);
+    }
+
+    // Selects the first objects in ascending order of a key.
+    @Override
+    public <T> List<T> selectOrderBy(String key, int limit) {
+        return this.readCached(() -> this.selectHandler.handleSelectOrderBy(key, limit, false), "selectOrderBy", key, limit);
+    }
+
+    // Selects the first objects in descending order of a key.
+    @Override
+    public <T> List<T> selectOrderByDescending(String key, int limit) {
+        return this.readCached(() -> this.selectHandler.handleSelectOrderBy(key, limit, true), "selectOrderByDescending", key, limit);
+    }
+
+    // Streams all objects from the JSON file, parsing them lazily.
+    @Override
+    public <T> Stream<T> stream() {
+        this.checkOpen();
+        if (this.snapshot != null) {
+            return this.read(() -> this.selectHandler.handleStream());
+        }
+        return this.selectHandler.handleStream();
+    }
+
+    // Streams objects where a given condition is met, parsing them lazily.
+    @Override
+    public <T> Stream<T> streamWhere(Predicate<T> condition) {
+        this.checkOpen();
+        if (this.snapshot != null) {
+            return this.read(() -> this.selectHandler.handleStreamWhere(condition));
+        }
+        return this.selectHandler.handleStreamWhere(condition);
     }
 
     // ** Insert Operations **
@@ -105,13 +364,19 @@ public class JsonLiteClientImpl implements JsonLiteClient {
     // Inserts a new object into the JSON file.
     @Override
     public <T> void insert(T object) {
-        this.insertHandler.handleInsert(object);
+        this.write(() -> {
+            this.insertHandler.handleInsert(object);
+            return null;
+        });
     }
 
     // Inserts multiple objects into the JSON file.
     @Override
     public <T> void insertMultiple(List<T> objects) {
-        this.insertHandler.handleInsertMultiple(objects);
+        this.write(() -> {
+            this.insertHandler.handleInsertMultiple(objects);
+            return null;
+        });
     }
 
     // ** Update Operations **
@@ -119,50 +384,168 @@ public class JsonLiteClientImpl implements JsonLiteClient {
     // Updates a key's value in all objects where the key is found.
     @Override
     public boolean updateKey(String key, Object newValue) {
-        return this.updateHandler.handleUpdateKey(key, newValue);
+        return this.write(() -> this.updateHandler.handleUpdateKey(key, newValue));
     }
 
     // Updates an object by its unique ID.
     @Override
     public <T> boolean updateById(String id, T updatedObject) {
-        return this.updateHandler.handleUpdateById(id, updatedObject);
+        return this.write(() -> this.updateHandler.handleUpdateById(id, updatedObject));
     }
 
     // Updates objects that match the given condition by modifying the value of a specific key.
     @Override
     public <T> boolean updateWhere(Predicate<T> condition, String key, Object newValue) {
-        return this.updateHandler.handleUpdateWhere(condition, key, newValue);
+        return this.write(() -> this.updateHandler.handleUpdateWhere(condition, key, newValue, this.defaultScan));
+    }
+
+    // Updates a specific key for objects that match the given condition, evaluated with the given scan mode.
+    @Override
+    public <T> boolean updateWhere(Predicate<T> condition, String key, Object newValue, ScanMode scanMode) {
+        ParallelScan scan = this.scanFor(scanMode);
+        return this.write(() -> this.updateHandler.handleUpdateWhere(condition, key, newValue, scan));
     }
 
     // Updates objects that match the given condition by modifying multiple key-value pairs.
     @Override
     public <T> boolean updateWhere(Predicate<T> condition, Map<String, Object> updates) {
-        return this.updateHandler.handleUpdateWhere(condition, updates);
+        return this.write(() -> this.updateHandler.handleUpdateWhere(condition, updates, this.defaultScan));
+    }
+
+    // Updates objects that match the given condition, evaluated with the given scan mode, by modifying multiple key-value pairs.
+    @Override
+    public <T> boolean updateWhere(Predicate<T> condition, Map<String, Object> updates, ScanMode scanMode) {
+        ParallelScan scan = this.scanFor(scanMode);
+        return this.write(() -> this.updateHandler.handleUpdateWhere(condition, updates, scan));
+    }
+
+    // Updates objects where the value of a key is one of the values of the key condition by modifying multiple key-value pairs.
+    @Override
+    public <T> boolean updateWhere(KeyCondition condition, Map<String, Object> updates) {
+        return this.write(() -> this.updateHandler.handleUpdateWhere(condition, updates));
+    }
+
+    // Updates objects that match a query by modifying multiple key-value pairs.
+    @Override
+    public <T> boolean updateWhere(Query query, Map<String, Object> updates) {
+        return this.write(() -> this.updateHandler.handleUpdateWhere(query, updates));
+    }
+
+    // Updates objects that match a specific key-value pair by modifying multiple key-value pairs.
+    @Override
+    public boolean updateByKey(String key, String value, Map<String, Object> updates) {
+        return this.write(() -> this.updateHandler.handleUpdateByKey(key, value, updates));
+    }
+
+    // ** Index Operations **
+
+    // Creates a secondary index on the given key.
+    @Override
+    public void createIndex(String key) {
+        this.checkNotSnapshot();
+        JsonLiteClientValidator.validateKey(this.store.getSchema(), key);
+        this.store.createIndex(key);
+    }
+
+    // Creates a sorted index on the given key.
+    @Override
+    public void createSortedIndex(String key) {
+        this.checkNotSnapshot();
+        JsonLiteClientValidator.validateComparableKey(this.store.getSchema(), key);
+        this.store.createSortedIndex(key);
+    }
+
+    // ** Batch Operations **
+
+    // Runs the given operations as a single unit of work, committing their changes once.
+    @Override
+    public void batch(Consumer<JsonLiteClient> operations) {
+        this.checkNotSnapshot();
+        this.store.runBatch(() -> operations.accept(this));
+    }
+
+    // ** Snapshot Operations **
+
+    // Returns a read-only client pinned to the current version of the collection.
+    @Override
+    public JsonLiteClient snapshot() {
+        this.checkOpen();
+        return new JsonLiteClientImpl(this, this.snapshot != null ? this.snapshot : this.store.snapshot());
+    }
+
+    // Flushes the pending mutations of a write-behind mode.
+    @Override
+    public CompletableFuture<Void> flush() {
+        this.checkOpen();
+        return this.store.flush();
+    }
+
+    // Closes the client, flushing its pending mutations. The store of the file is released with its last client.
+    @Override
+    public void close() {
+        if (this.snapshot != null || !this.closed.compareAndSet(false, true)) {
+            return;
+        }
+        this.store.flush().join();
+        if (CollectionStores.release(this.store)) {
+            logger.info(InfoMessages.STORAGE_ENGINE_CLOSED, this.store.getJsonFile().getPath());
+        }
+    }
+
+    // Returns the counters of the lock of the JSON file
+    @Override
+    public LockMetrics getLockMetrics() {
+        return this.store.getLockMetrics();
+    }
+
+    // Returns the counters of the result cache of the client, or null if it has none.
+    @Override
+    public ResultCacheMetrics getResultCacheMetrics() {
+        return this.resultCache != null ? this.resultCache.getMetrics() : null;
     }
 
     // ** Delete Operations **
 
     // Deletes all objects from the JSON file.
     public boolean deleteAll() {
-        return this.deleteHandler.handleDeleteAll();
+        return this.write(() -> this.deleteHandler.handleDeleteAll());
     }
 
     // Deletes an object by its unique ID.
     @Override
     public boolean deleteById(String id) {
-        return this.deleteHandler.handleDeleteById(id);
+        return this.write(() -> this.deleteHandler.handleDeleteById(id));
     }
 
     // Delete objects where a given condition is met, modifying the value of a specific key.
     @Override
     public boolean deleteByKey(String key, String value) {
-        return this.deleteHandler.handleDeleteByKey(key, value);
+        return this.write(() -> this.deleteHandler.handleDeleteByKey(key, value));
     }
 
     // Delete objects where a given condition is met.
     @Override
     public <T> boolean deleteWhere(Predicate<T> condition) {
-        return this.deleteHandler.handleDeleteWhere(condition);
+        return this.write(() -> this.deleteHandler.handleDeleteWhere(condition, this.defaultScan));
+    }
+
+    // Deletes objects that match the given condition, evaluated with the given scan mode.
+    @Override
+    public <T> boolean deleteWhere(Predicate<T> condition, ScanMode scanMode) {
+        ParallelScan scan = this.scanFor(scanMode);
+        return this.write(() -> this.deleteHandler.handleDeleteWhere(condition, scan));
+    }
+
+    // Deletes objects where the value of a key is one of the values of the key condition.
+    @Override
+    public <T> boolean deleteWhere(KeyCondition condition) {
+        return this.write(() -> this.deleteHandler.handleDeleteWhere(condition));
+    }
+
+    // Deletes objects that match a query.
+    @Override
+    public <T> boolean deleteWhere(Query query) {
+        return this.write(() -> this.deleteHandler.handleDeleteWhere(query));
     }
 
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.client;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A simple condition on the value of a key: the value is equal to one of the given values, compared as text.
+ * A key holding a list matches when the list contains one of the values.
+ * <p>
+ * Unlike a {@link java.util.function.Predicate}, a key condition can be evaluated on the JSON file itself, so
+ * reading the objects that match it from the file only creates the matching objects.
+ */
+public final class KeyCondition {
+
+    private final String key;
+    private final Set<String> values;
+
+    private KeyCondition(String key, Set<String> values) {
+        this.key = key;
+        this.values = values;
+    }
+
+    /**
+     * Creates a condition matching the objects whose key is equal to the value, or whose list contains it.
+     *
+     * @param key   the key whose value is compared.
+     * @param value the value the key must be equal to.
+     * @return the condition.
+     */
+    public static KeyCondition equalTo(String key, String value) {
+        return new KeyCondition(key, Set.of(value));
+    }
+
+    /**
+     * Creates a condition matching the objects whose key is equal to one of the values, or whose list contains one.
+     *
+     * @param key    the key whose value is compared.
+     * @param values the values the key can be equal to.
+     * @return the condition.
+     */
+    public static KeyCondition in(String key, String... values) {
+        return in(key, Arrays.asList(values));
+    }
+
+    /**
+     * Creates a condition matching the objects whose key is equal to one of the values, or whose list contains one.
+     *
+     * @param key    the key whose value is compared.
+     * @param values the values the key can be equal to.
+     * @return the condition.
+     */
+    public static KeyCondition in(String key, Collection<String> values) {
+        return new KeyCondition(key, Set.copyOf(values));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Set<String> getValues() {
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof KeyCondition condition && Objects.equals(this.key, condition.key)
+                && this.values.equals(condition.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.key, this.values);
+    }
+
+    @Override
+    public String toString() {
+        return this.key + " in " + this.values;
+    }
+}
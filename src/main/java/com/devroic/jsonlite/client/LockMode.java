@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.client;
+
+/**
+ * Defines how a JsonLiteClient coordinates access to the JSON file with other clients of the same file.
+ */
+public enum LockMode {
+
+    /**
+     * Clients of the same file within this JVM share a read-write lock, so readers run in parallel and writers
+     * run one at a time (default). Other processes are not coordinated.
+     */
+    LOCAL,
+
+    /**
+     * In addition to the lock of this JVM, every operation locks a sidecar file next to the JSON file
+     * (e.g. people.json.lock) through the operating system, shared for reads and exclusive for writes,
+     * so processes reading the file never see it half-written by another process.
+     * Not supported with {@link StorageMode#APPEND_LOG}.
+     */
+    INTER_PROCESS
+}
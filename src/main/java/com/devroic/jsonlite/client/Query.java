@@ -0,0 +1,287 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A declarative query on the keys of the objects, which the client plans: unlike a {@link java.util.function.Predicate},
+ * its conditions can be answered by the indexes of the client or evaluated on the JSON file, see {@link QueryPlan}.
+ * <pre>{@code
+ * Query query = Query.where("city").eq("New York").and("cars").contains("Tesla").orderBy("name").limit(50);
+ * }</pre>
+ * An object matches a query when it matches all of its conditions. Text values are compared with their case,
+ * and a key holding a list matches when the list contains one of the values.
+ */
+public final class Query {
+
+    private final List<KeyCondition> conditions = new ArrayList<>();
+    private final List<Range> ranges = new ArrayList<>();
+    private String orderKey;
+    private boolean descending;
+    private int offset;
+    private int limit = Integer.MAX_VALUE;
+
+    private Query() {
+    }
+
+    /**
+     * Starts a query with a condition on the given key.
+     *
+     * @param key the key of the first condition.
+     * @return the condition to complete.
+     */
+    public static Condition where(String key) {
+        return new Query().new Condition(key);
+    }
+
+    /**
+     * Adds a condition on the given key, which the objects must match as well.
+     *
+     * @param key the key of the condition.
+     * @return the condition to complete.
+     */
+    public Condition and(String key) {
+        return new Condition(key);
+    }
+
+    /**
+     * Orders the matching objects by the ascending values of a comparable key. Objects without a value for the key
+     * are not selected, as with selectOrderBy.
+     *
+     * @param key the key to order by.
+     * @return this query.
+     */
+    public Query orderBy(String key) {
+        this.orderKey = key;
+        this.descending = false;
+        return this;
+    }
+
+    /**
+     * Orders the matching objects by the descending values of a comparable key.
+     *
+     * @param key the key to order by.
+     * @return this query.
+     */
+    public Query orderByDescending(String key) {
+        this.orderKey = key;
+        this.descending = true;
+        return this;
+    }
+
+    /**
+     * Skips the first matching objects.
+     *
+     * @param offset the number of matching objects to skip.
+     * @return this query.
+     */
+    public Query offset(int offset) {
+        this.offset = offset;
+        return this;
+    }
+
+    /**
+     * Limits the number of matching objects.
+     *
+     * @param limit the maximum number of objects.
+     * @return this query.
+     */
+    public Query limit(int limit) {
+        this.limit = limit;
+        return this;
+    }
+
+    public List<KeyCondition> getConditions() {
+        return Collections.unmodifiableList(conditions);
+    }
+
+    public List<Range> getRanges() {
+        return Collections.unmodifiableList(ranges);
+    }
+
+    public String getOrderKey() {
+        return orderKey;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public boolean hasLimit() {
+        return limit != Integer.MAX_VALUE;
+    }
+
+    // The parts of the query as a value that does not change with the query, identifying it in the result cache
+    List<Object> parts() {
+        return Arrays.asList(List.copyOf(this.conditions), List.copyOf(this.ranges), this.orderKey, this.descending,
+                this.offset, this.limit);
+    }
+
+    @Override
+    public String toString() {
+        List<String> clauses = new ArrayList<>();
+        this.conditions.forEach(condition -> clauses.add(condition.toString()));
+        this.ranges.forEach(range -> clauses.add(range.toString()));
+        StringBuilder query = new StringBuilder(clauses.isEmpty() ? "all" : String.join(" and ", clauses));
+        if (this.orderKey != null) {
+            query.append(" order by ").append(this.orderKey).append(this.descending ? " desc" : "");
+        }
+        if (this.offset > 0) {
+            query.append(" offset ").append(this.offset);
+        }
+        if (this.hasLimit()) {
+            query.append(" limit ").append(this.limit);
+        }
+        return query.toString();
+    }
+
+    /**
+     * A condition on a key of a query, completed by one of its comparisons.
+     */
+    public final class Condition {
+
+        private final String key;
+
+        private Condition(String key) {
+            this.key = key;
+        }
+
+        /**
+         * Matches the objects whose key is equal to the value, or whose list contains it.
+         *
+         * @param value the value the key must be equal to.
+         * @return the query.
+         */
+        public Query eq(String value) {
+            return this.add(KeyCondition.equalTo(this.key, value));
+        }
+
+        /**
+         * Matches the objects whose key is equal to one of the values, or whose list contains one of them.
+         *
+         * @param values the values the key can be equal to.
+         * @return the query.
+         */
+        public Query in(String... values) {
+            return this.add(KeyCondition.in(this.key, Arrays.asList(values)));
+        }
+
+        /**
+         * Matches the objects whose list contains the value.
+         *
+         * @param value the value the list must contain.
+         * @return the query.
+         */
+        public Query contains(String value) {
+            return this.add(KeyCondition.equalTo(this.key, value));
+        }
+
+        /**
+         * Matches the objects whose comparable key is between the bounds, both inclusive.
+         *
+         * @param from the lower bound, or null for no lower bound.
+         * @param to   the upper bound, or null for no upper bound.
+         * @return the query.
+         */
+        public Query between(Object from, Object to) {
+            Query.this.ranges.add(new Range(this.key, from, to));
+            return Query.this;
+        }
+
+        /**
+         * Matches the objects whose comparable key is greater than or equal to the bound.
+         *
+         * @param from the lower bound.
+         * @return the query.
+         */
+        public Query atLeast(Object from) {
+            return this.between(from, null);
+        }
+
+        /**
+         * Matches the objects whose comparable key is lower than or equal to the bound.
+         *
+         * @param to the upper bound.
+         * @return the query.
+         */
+        public Query atMost(Object to) {
+            return this.between(null, to);
+        }
+
+        private Query add(KeyCondition condition) {
+            Query.this.conditions.add(condition);
+            return Query.this;
+        }
+    }
+
+    /**
+     * A condition on the value of a comparable key between two inclusive bounds, where a null bound is unbounded.
+     */
+    public static final class Range {
+
+        private final String key;
+        private final Object from;
+        private final Object to;
+
+        private Range(String key, Object from, Object to) {
+            this.key = key;
+            this.from = from;
+            this.to = to;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public Object getFrom() {
+            return from;
+        }
+
+        public Object getTo() {
+            return to;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Range range && Objects.equals(this.key, range.key)
+                    && Objects.equals(this.from, range.from) && Objects.equals(this.to, range.to);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.key, this.from, this.to);
+        }
+
+        @Override
+        public String toString() {
+            return this.key + " between " + this.from + " and " + this.to;
+        }
+    }
+}
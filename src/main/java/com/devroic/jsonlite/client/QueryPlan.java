@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.client;
+
+import java.util.List;
+
+/**
+ * The plan chosen by the client to run a {@link Query}, as returned by explain: how the candidate objects are found,
+ * how many candidates are expected, and how the matching objects are ordered.
+ * <p>
+ * The client estimates the candidates of every index that can answer a condition of the query and uses the most
+ * selective one: the primary index for conditions on the ID, or the secondary or sorted index with the fewest
+ * candidates. The posting lists of several secondary indexes are intersected. Without a usable index, the objects
+ * are walked in the order of the sorted index of the order key, or read from the file comparing the values of a key
+ * on its tokens, or scanned. Every candidate is still checked against all the conditions, so the plan changes the
+ * cost of a query but never its result.
+ */
+public final class QueryPlan {
+
+    /**
+     * How the candidate objects of a query are found.
+     */
+    public enum Access {
+        /**
+         * The objects are looked up by their IDs in the primary index.
+         */
+        PRIMARY_INDEX,
+        /**
+         * The objects of the values of a key are read from its secondary index.
+         */
+        SECONDARY_INDEX,
+        /**
+         * The objects found in the secondary indexes of several keys are intersected.
+         */
+        INDEX_INTERSECTION,
+        /**
+         * The objects whose value is between the bounds are read from the sorted index of the key.
+         */
+        SORTED_INDEX_RANGE,
+        /**
+         * The objects are walked in the order of the sorted index of the order key, until the page is full.
+         */
+        SORTED_INDEX_ORDER,
+        /**
+         * The values of a key are compared on the tokens of the file, and only the candidates are parsed.
+         */
+        TOKEN_PREFILTER,
+        /**
+         * Every object is read and checked, until the page is full when the query is not ordered.
+         */
+        SCAN
+    }
+
+    /**
+     * How the matching objects are ordered.
+     */
+    public enum Order {
+        /**
+         * In the order of the collection.
+         */
+        COLLECTION,
+        /**
+         * In the order of the sorted index that found them.
+         */
+        INDEX,
+        /**
+         * Only the objects up to the end of the page are kept while reading, with a bounded heap.
+         */
+        TOP_K,
+        /**
+         * All the matching objects are sorted.
+         */
+        SORT
+    }
+
+    private final Access access;
+    private final List<String> indexKeys;
+    private final long estimatedCandidates;
+    private final Order order;
+
+    public QueryPlan(Access access, List<String> indexKeys, long estimatedCandidates, Order order) {
+        this.access = access;
+        this.indexKeys = List.copyOf(indexKeys);
+        this.estimatedCandidates = estimatedCandidates;
+        this.order = order;
+    }
+
+    public Access getAccess() {
+        return access;
+    }
+
+    // The keys of the indexes used to find the candidates, or the key compared on the tokens of the file
+    public List<String> getIndexKeys() {
+        return indexKeys;
+    }
+
+    // The number of candidates found by the indexes, or -1 when the candidates are not known before reading them
+    public long getEstimatedCandidates() {
+        return estimatedCandidates;
+    }
+
+    public Order getOrder() {
+        return order;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder plan = new StringBuilder(this.access.name());
+        if (!this.indexKeys.isEmpty()) {
+            plan.append(this.indexKeys);
+        }
+        if (this.estimatedCandidates >= 0) {
+            plan.append(", ").append(this.estimatedCandidates).append(" candidate(s)");
+        }
+        return plan.append(", order ").append(this.order).toString();
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.client;
+
+/**
+ * Defines how the JSON file is read when the collection is loaded or streamed.
+ */
+public enum ReadMode {
+
+    /**
+     * The file is read through a buffered input stream on every load (default).
+     */
+    BUFFERED,
+
+    /**
+     * The file is memory-mapped and parsed from the mapped pages, saving the system calls and copies of stream reads.
+     * The mapping is reused by every read while the file is unchanged, which suits clients re-reading the same file,
+     * e.g. with {@link CacheMode#NONE}. The file is saved by writing a temporary file and renaming it over the JSON
+     * file, so a mapping in use is never truncated. Files larger than 2 GB are read as with {@link #BUFFERED}.
+     */
+    MEMORY_MAPPED
+}
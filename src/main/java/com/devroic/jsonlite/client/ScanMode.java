@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.client;
+
+/**
+ * Defines how the conditions of selectWhere, updateWhere and deleteWhere are evaluated over the collection.
+ */
+public enum ScanMode {
+
+    /**
+     * The condition is evaluated on one object after the other, by the calling thread (default).
+     */
+    SEQUENTIAL,
+
+    /**
+     * The collection is split into chunks whose objects are evaluated concurrently on a ForkJoinPool, when it holds
+     * at least the parallel scan threshold of objects. Results keep the order of the collection.
+     * The condition must be safe to call from several threads at once.
+     */
+    PARALLEL
+}
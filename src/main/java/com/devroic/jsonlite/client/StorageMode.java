@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.devroic.jsonlite.client;
+
+/**
+ * Defines how a JsonLiteClient persists mutations into the JSON file.
+ */
+public enum StorageMode {
+
+    /**
+     * Every mutation rewrites the whole JSON file (default).
+     */
+    REWRITE,
+
+    /**
+     * Mutations are appended as compact entries to a log file next to the JSON file (e.g. people.json.log),
+     * and a background compaction folds the log back into the JSON file once it grows past the configured
+     * threshold. The collection is kept in memory, and the log is replayed on top of the JSON file on startup.
+     */
+    APPEND_LOG
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.client;
+
+/**
+ * Defines when the mutations of a JsonLiteClient are persisted into the JSON file.
+ */
+public enum WriteMode {
+
+    /**
+     * Every mutating operation persists its changes before returning (default).
+     */
+    SYNC,
+
+    /**
+     * Mutations are applied in memory right away and persisted by a background flusher, which coalesces the mutations
+     * of concurrent operations into one write. Every mutating operation still waits until its changes are persisted.
+     * The collection is kept in memory, and changes made to the file outside the client are not detected.
+     */
+    GROUP_COMMIT,
+
+    /**
+     * Mutations are applied in memory right away and mutating operations return without waiting for the background
+     * flusher to persist them. {@link com.devroic.jsonlite.JsonLiteClient#flush()} waits for the pending mutations.
+     * The collection is kept in memory, and changes made to the file outside the client are not detected.
+     */
+    ASYNC
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.devroic.jsonlite.index;
+
+import com.devroic.jsonlite.messages.WarningMessages;
+import com.devroic.jsonlite.storage.Mutation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The indexes of an in-memory collection: the primary index on the idKey, and the secondary and sorted indexes on other keys.
+ * The indexes are built once when the collection is loaded and then maintained from the mutations of every commit.
+ * <p>
+ * Each object is given an ordinal that follows its position in the collection: objects are only appended,
+ * replaced in place or removed, so new objects get increasing ordinals and replacements inherit the ordinal
+ * of the object they replace.
+ * <p>
+ * Indexes that were published to readers are never changed: a commit changes a {@link #copy() copy} of them instead.
+ * A copy shares what the commit does not change with the published indexes, so it costs copying the arrays of the
+ * ordinals and of the primary index, not allocating an entry for every indexed object.
+ */
+public class CollectionIndexes {
+
+    private static final Logger logger = LoggerFactory.getLogger(CollectionIndexes.class);
+
+    private final String name;
+    private final Class<?> type;
+    private final String idKey;
+    private final Map<String, SecondaryIndex> secondaryIndexes = new LinkedHashMap<>();
+    private final Map<String, SortedIndex> sortedIndexes = new LinkedHashMap<>();
+    // All the secondary and sorted indexes, which are maintained by the ordinals of the objects
+    private final List<OrdinalIndex> ordinalIndexes = new ArrayList<>();
+    private IdentityHashMap<Object, Long> ordinals = new IdentityHashMap<>();
+    private long nextOrdinal;
+
+    // Null when there is no idKey or the collection has duplicate IDs
+    private PrimaryIndex primaryIndex;
+    // False when the same object instance appears twice in the collection, which the ordinals cannot tell apart
+    private boolean ordinalIndexesValid = true;
+
+    public CollectionIndexes(String name, Class<?> type, String idKey, List<String> indexedKeys, List<String> sortedKeys) {
+        this.name = name;
+        this.type = type;
+        this.idKey = idKey;
+        for (String key : indexedKeys) {
+            SecondaryIndex index = new SecondaryIndex(key);
+            this.secondaryIndexes.put(key.toLowerCase(Locale.ROOT), index);
+            this.ordinalIndexes.add(index);
+        }
+        for (String key : sortedKeys) {
+            SortedIndex index = new SortedIndex(key);
+            this.sortedIndexes.put(key.toLowerCase(Locale.ROOT), index);
+            this.ordinalIndexes.add(index);
+        }
+    }
+
+    // Returns a copy of the indexes, which can be changed without affecting the readers of these indexes
+    public CollectionIndexes copy() {
+        CollectionIndexes copy = new CollectionIndexes(this.name, this.type, this.idKey, List.of(), List.of());
+        for (OrdinalIndex index : this.ordinalIndexes) {
+            OrdinalIndex indexCopy = index.copy();
+            if (indexCopy instanceof SecondaryIndex secondaryIndex) {
+                copy.secondaryIndexes.put(index.getKey().toLowerCase(Locale.ROOT), secondaryIndex);
+            } else if (indexCopy instanceof SortedIndex sortedIndex) {
+                copy.sortedIndexes.put(index.getKey().toLowerCase(Locale.ROOT), sortedIndex);
+            }
+            copy.ordinalIndexes.add(indexCopy);
+        }
+        @SuppressWarnings("unchecked")
+        IdentityHashMap<Object, Long> ordinals = (IdentityHashMap<Object, Long>) this.ordinals.clone();
+        copy.ordinals = ordinals;
+        copy.nextOrdinal = this.nextOrdinal;
+        copy.primaryIndex = this.primaryIndex != null ? this.primaryIndex.copy() : null;
+        copy.ordinalIndexesValid = this.ordinalIndexesValid;
+        return copy;
+    }
+
+    // Returns new indexes on the same keys, built from a freshly loaded collection
+    public CollectionIndexes rebuilt(List<Object> objects) {
+        CollectionIndexes indexes = new CollectionIndexes(this.name, this.type, this.idKey,
+                this.secondaryIndexes.values().stream().map(OrdinalIndex::getKey).toList(),
+                this.sortedIndexes.values().stream().map(OrdinalIndex::getKey).toList());
+        indexes.rebuild(objects);
+        return indexes;
+    }
+
+    public PrimaryIndex getPrimaryIndex() {
+        return primaryIndex;
+    }
+
+    // Returns the secondary index of the key, or null if the key is not indexed
+    public SecondaryIndex getSecondaryIndex(String key) {
+        return this.ordinalIndexesValid ? this.secondaryIndexes.get(key.toLowerCase(Locale.ROOT)) : null;
+    }
+
+    public boolean hasSecondaryIndex(String key) {
+        return this.secondaryIndexes.containsKey(key.toLowerCase(Locale.ROOT));
+    }
+
+    // Returns the sorted index of the key, or null if the key is not indexed
+    public SortedIndex getSortedIndex(String key) {
+        return this.ordinalIndexesValid ? this.sortedIndexes.get(key.toLowerCase(Locale.ROOT)) : null;
+    }
+
+    public boolean hasSortedIndex(String key) {
+        return this.sortedIndexes.containsKey(key.toLowerCase(Locale.ROOT));
+    }
+
+    // Adds a secondary index on the key and builds it from the current collection
+    public void addSecondaryIndex(String key, List<Object> objects) {
+        SecondaryIndex index = new SecondaryIndex(key);
+        this.secondaryIndexes.put(key.toLowerCase(Locale.ROOT), index);
+        this.addOrdinalIndex(index, objects);
+    }
+
+    // Adds a sorted index on the key and builds it from the current collection
+    public void addSortedIndex(String key, List<Object> objects) {
+        SortedIndex index = new SortedIndex(key);
+        this.sortedIndexes.put(key.toLowerCase(Locale.ROOT), index);
+        this.addOrdinalIndex(index, objects);
+    }
+
+    private void addOrdinalIndex(OrdinalIndex index, List<Object> objects) {
+        this.ordinalIndexes.add(index);
+        if (this.ordinalIndexes.size() == 1) {
+            this.rebuild(objects);
+            return;
+        }
+        for (Map.Entry<Object, Long> entry : this.ordinals.entrySet()) {
+            index.add(entry.getKey(), entry.getValue());
+        }
+    }
+
+    // Builds all the indexes from a freshly loaded collection
+    public void rebuild(List<Object> objects) {
+        this.primaryIndex = null;
+        if (this.idKey != null && !this.idKey.isBlank()) {
+            this.primaryIndex = PrimaryIndex.create(this.type, this.idKey);
+            if (!this.primaryIndex.addAll(objects)) {
+                logger.warn(WarningMessages.DUPLICATE_IDS_NOT_INDEXED, this.name, this.idKey);
+                this.primaryIndex = null;
+            }
+        }
+
+        this.ordinals.clear();
+        this.nextOrdinal = 0;
+        this.ordinalIndexesValid = true;
+        this.ordinalIndexes.forEach(OrdinalIndex::clear);
+        if (this.ordinalIndexes.isEmpty()) {
+            return;
+        }
+        for (Object object : objects) {
+            if (!this.addOrdered(object)) {
+                return;
+            }
+        }
+    }
+
+    // Applies the mutations of a commit to the indexes instead of rebuilding them
+    public void apply(List<Mutation> mutations) {
+        for (Mutation mutation : mutations) {
+            this.applyToPrimaryIndex(mutation);
+            if (!this.ordinalIndexes.isEmpty() && this.ordinalIndexesValid) {
+                this.applyToOrdinalIndexes(mutation);
+            }
+        }
+    }
+
+    private void applyToPrimaryIndex(Mutation mutation) {
+        if (this.primaryIndex == null) {
+            return;
+        }
+        boolean consistent = true;
+        switch (mutation.getType()) {
+            case INSERT -> consistent = this.primaryIndex.add(mutation.getValue());
+            case UPDATE -> {
+                this.primaryIndex.remove(mutation.getPrevious());
+                consistent = this.primaryIndex.add(mutation.getValue());
+            }
+            case DELETE -> this.primaryIndex.remove(mutation.getPrevious());
+            case CLEAR -> this.primaryIndex.clear();
+        }
+        if (!consistent) {
+            // A mutation introduced a duplicate ID (e.g. updateKey on the idKey), lookups fall back to scanning
+            logger.warn(WarningMessages.DUPLICATE_IDS_NOT_INDEXED, this.name, this.idKey);
+            this.primaryIndex = null;
+        }
+    }
+
+    private void applyToOrdinalIndexes(Mutation mutation) {
+        switch (mutation.getType()) {
+            case INSERT -> this.addOrdered(mutation.getValue());
+            case UPDATE -> {
+                Long ordinal = this.ordinals.remove(mutation.getPrevious());
+                if (ordinal == null) {
+                    this.ordinalIndexesValid = false;
+                    return;
+                }
+                for (OrdinalIndex index : this.ordinalIndexes) {
+                    index.remove(ordinal);
+                }
+                if (this.ordinals.putIfAbsent(mutation.getValue(), ordinal) != null) {
+                    this.ordinalIndexesValid = false;
+                    return;
+                }
+                for (OrdinalIndex index : this.ordinalIndexes) {
+                    index.add(mutation.getValue(), ordinal);
+                }
+            }
+            case DELETE -> {
+                Long ordinal = this.ordinals.remove(mutation.getPrevious());
+                if (ordinal == null) {
+                    this.ordinalIndexesValid = false;
+                    return;
+                }
+                for (OrdinalIndex index : this.ordinalIndexes) {
+                    index.remove(ordinal);
+                }
+            }
+            case CLEAR -> {
+                this.ordinals.clear();
+                this.ordinalIndexes.forEach(OrdinalIndex::clear);
+            }
+        }
+    }
+
+    private boolean addOrdered(Object object) {
+        long ordinal = this.nextOrdinal++;
+        if (this.ordinals.putIfAbsent(object, ordinal) != null) {
+            logger.warn(WarningMessages.SHARED_INSTANCES_NOT_INDEXED, this.name);
+            this.ordinalIndexesValid = false;
+            return false;
+        }
+        for (OrdinalIndex index : this.ordinalIndexes) {
+            index.add(object, ordinal);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.index;
+
+import com.devroic.jsonlite.utils.JsonLiteClientOperationsHelper;
+
+import java.util.Arrays;
+
+/**
+ * Primary index keyed by the string representation of the ID, used for String and non-integral numeric IDs.
+ * It uses open addressing with linear probing over arrays, like {@link LongPrimaryIndex}, so copying it for a
+ * commit copies two arrays instead of allocating an entry for every object.
+ */
+public class HashPrimaryIndex implements PrimaryIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private final String idKey;
+    private String[] keys;
+    private Object[] values;
+    private int size;
+
+    public HashPrimaryIndex(String idKey) {
+        this.idKey = idKey;
+        this.keys = new String[INITIAL_CAPACITY];
+        this.values = new Object[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public Object get(String id) {
+        if (id == null) {
+            return null;
+        }
+        return this.values[this.findSlot(id)];
+    }
+
+    @Override
+    public boolean add(Object object) {
+        String id = JsonLiteClientOperationsHelper.getFieldValue(object, this.idKey);
+        if (id.isEmpty()) {
+            return true;
+        }
+        int slot = this.findSlot(id);
+        if (this.values[slot] != null) {
+            return false;
+        }
+        this.keys[slot] = id;
+        this.values[slot] = object;
+        if (++this.size > this.keys.length * LOAD_FACTOR) {
+            this.resize();
+        }
+        return true;
+    }
+
+    @Override
+    public void remove(Object object) {
+        String id = JsonLiteClientOperationsHelper.getFieldValue(object, this.idKey);
+        int slot = this.findSlot(id);
+        if (this.values[slot] != object) {
+            return;
+        }
+        this.keys[slot] = null;
+        this.values[slot] = null;
+        this.size--;
+        // Shift back the following entries of the probe sequence, so that lookups never stop at the freed slot
+        int mask = this.keys.length - 1;
+        int free = slot;
+        int next = (slot + 1) & mask;
+        while (this.values[next] != null) {
+            int home = hash(this.keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                this.keys[free] = this.keys[next];
+                this.values[free] = this.values[next];
+                this.keys[next] = null;
+                this.values[next] = null;
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.keys, null);
+        Arrays.fill(this.values, null);
+        this.size = 0;
+    }
+
+    @Override
+    public PrimaryIndex copy() {
+        HashPrimaryIndex copy = new HashPrimaryIndex(this.idKey);
+        copy.keys = this.keys.clone();
+        copy.values = this.values.clone();
+        copy.size = this.size;
+        return copy;
+    }
+
+    // Returns the slot holding the key, or the empty slot where it would be inserted
+    private int findSlot(String key) {
+        int mask = this.keys.length - 1;
+        int slot = hash(key) & mask;
+        while (this.values[slot] != null && !this.keys[slot].equals(key)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        String[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        this.keys = new String[oldKeys.length * 2];
+        this.values = new Object[oldValues.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = this.findSlot(oldKeys[i]);
+                this.keys[slot] = oldKeys[i];
+                this.values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    // Spreads the bits of the string hash, since linear probing only uses its low bits
+    private static int hash(String key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.devroic.jsonlite.index;
+
+import com.devroic.jsonlite.utils.JsonLiteClientOperationsHelper;
+
+import java.util.Arrays;
+
+/**
+ * Primary index for integral IDs, using open addressing with linear probing over primitive long keys,
+ * so that lookups neither box the ID nor compare strings.
+ */
+public class LongPrimaryIndex implements PrimaryIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private final String idKey;
+    private long[] keys;
+    private Object[] values;
+    private int size;
+
+    public LongPrimaryIndex(String idKey) {
+        this.idKey = idKey;
+        this.keys = new long[INITIAL_CAPACITY];
+        this.values = new Object[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public Object get(String id) {
+        long key;
+        try {
+            key = Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        // IDs are matched on their string representation, so "007" must not find the object with ID 7
+        if (!Long.toString(key).equals(id)) {
+            return null;
+        }
+        int slot = this.findSlot(key);
+        return this.values[slot];
+    }
+
+    @Override
+    public boolean add(Object object) {
+        Object id = JsonLiteClientOperationsHelper.getRawFieldValue(object, this.idKey);
+        if (id == null) {
+            return true;
+        }
+        long key = ((Number) id).longValue();
+        int slot = this.findSlot(key);
+        if (this.values[slot] != null) {
+            return false;
+        }
+        this.keys[slot] = key;
+        this.values[slot] = object;
+        if (++this.size > this.keys.length * LOAD_FACTOR) {
+            this.resize();
+        }
+        return true;
+    }
+
+    @Override
+    public void remove(Object object) {
+        Object id = JsonLiteClientOperationsHelper.getRawFieldValue(object, this.idKey);
+        if (id == null) {
+            return;
+        }
+        int slot = this.findSlot(((Number) id).longValue());
+        if (this.values[slot] != object) {
+            return;
+        }
+        this.values[slot] = null;
+        this.size--;
+        // Shift back the following entries of the probe sequence, so that lookups never stop at the freed slot
+        int mask = this.keys.length - 1;
+        int free = slot;
+        int next = (slot + 1) & mask;
+        while (this.values[next] != null) {
+            int home = hash(this.keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                this.keys[free] = this.keys[next];
+                this.values[free] = this.values[next];
+                this.values[next] = null;
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.values, null);
+        this.size = 0;
+    }
+
+    @Override
+    public PrimaryIndex copy() {
+        LongPrimaryIndex copy = new LongPrimaryIndex(this.idKey);
+        copy.keys = this.keys.clone();
+        copy.values = this.values.clone();
+        copy.size = this.size;
+        return copy;
+    }
+
+    // Returns the slot holding the key, or the empty slot where it would be inserted
+    private int findSlot(long key) {
+        int mask = this.keys.length - 1;
+        int slot = hash(key) & mask;
+        while (this.values[slot] != null && this.keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        long[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        this.keys = new long[oldKeys.length * 2];
+        this.values = new Object[oldValues.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = this.findSlot(oldKeys[i]);
+                this.keys[slot] = oldKeys[i];
+                this.values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
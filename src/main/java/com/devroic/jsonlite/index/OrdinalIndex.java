@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.index;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index on a key that is maintained by CollectionIndexes, where every object is identified by its ordinal.
+ * <p>
+ * The objects of each value are kept in a posting list ordered by their ordinals. A copy of an index shares the
+ * posting lists of the index it was copied from, and only copies the posting lists it changes, so a commit costs
+ * the values it changes instead of every indexed object.
+ * <p>
+ * The values each object was indexed under are recorded by its ordinal, and the object is removed from those values.
+ * The object itself may have been changed in place since it was indexed, e.g. a cached object edited by the caller
+ * before updating it, so its current values can differ from the ones it is indexed under.
+ */
+abstract class OrdinalIndex {
+
+    protected final String key;
+    // The posting lists created by this index, which it may change in place, or null when it created all of them
+    private Set<NavigableMap<Long, Object>> ownedPostings;
+    // The values each ordinal is indexed under
+    private OrdinalValues indexedValues = new OrdinalValues();
+
+    protected OrdinalIndex(String key) {
+        this.key = key;
+    }
+
+    // Returns a new posting list, owned by this index
+    protected NavigableMap<Long, Object> newPostings() {
+        NavigableMap<Long, Object> postings = new TreeMap<>();
+        if (this.ownedPostings != null) {
+            this.ownedPostings.add(postings);
+        }
+        return postings;
+    }
+
+    // Returns the posting list to change in place: the list itself when this index owns it, or its copy otherwise,
+    // which the caller must put in place of the shared list
+    protected NavigableMap<Long, Object> writablePostings(NavigableMap<Long, Object> postings) {
+        if (this.ownedPostings == null || this.ownedPostings.contains(postings)) {
+            return postings;
+        }
+        NavigableMap<Long, Object> copy = new TreeMap<>(postings);
+        this.ownedPostings.add(copy);
+        return copy;
+    }
+
+    // Marks the posting lists and the indexed values as shared with the index this one is a copy of
+    protected void shareWith(OrdinalIndex original) {
+        this.ownedPostings = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.indexedValues = original.indexedValues.copy();
+    }
+
+    // Marks every posting list as owned and forgets the indexed values, once the shared ones are all dropped
+    protected void reset() {
+        this.ownedPostings = null;
+        this.indexedValues = new OrdinalValues();
+    }
+
+    // Records the values the ordinal is indexed under
+    protected void recordValues(long ordinal, Object values) {
+        this.indexedValues.put(ordinal, values);
+    }
+
+    // Forgets the values the ordinal is indexed under and returns them, or null when it is not indexed
+    protected Object forgetValues(long ordinal) {
+        return this.indexedValues.remove(ordinal);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    abstract void add(Object object, long ordinal);
+
+    // Removes the object of the ordinal from the values it was indexed under
+    abstract void remove(long ordinal);
+
+    abstract void clear();
+
+    // Returns a copy of the index, which can be changed without affecting this index. The copy shares the values and
+    // posting lists of this index until it changes them, so this index must not be changed any more.
+    abstract OrdinalIndex copy();
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.index;
+
+/**
+ * The values an ordinal index recorded for each ordinal, using open addressing with linear probing over primitive
+ * long keys like {@link LongPrimaryIndex}. A copy shares the arrays of the table it was copied from until its first
+ * change, so copying it for a commit that does not change the index costs nothing.
+ */
+final class OrdinalValues {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+    // Whether the arrays are shared with the table this one is a copy of, until the first change
+    private boolean shared;
+
+    OrdinalValues() {
+        this.keys = new long[INITIAL_CAPACITY];
+        this.values = new Object[INITIAL_CAPACITY];
+    }
+
+    void put(long ordinal, Object value) {
+        this.unshare();
+        int slot = this.findSlot(ordinal);
+        if (this.values[slot] != null) {
+            this.values[slot] = value;
+            return;
+        }
+        this.keys[slot] = ordinal;
+        this.values[slot] = value;
+        if (++this.size > this.keys.length * LOAD_FACTOR) {
+            this.resize();
+        }
+    }
+
+    // Removes the value of the ordinal and returns it, or returns null when the ordinal has no value
+    Object remove(long ordinal) {
+        int slot = this.findSlot(ordinal);
+        Object value = this.values[slot];
+        if (value == null) {
+            return null;
+        }
+        this.unshare();
+        this.values[slot] = null;
+        this.size--;
+        // Shift back the following entries of the probe sequence, so that lookups never stop at the freed slot
+        int mask = this.keys.length - 1;
+        int free = slot;
+        int next = (slot + 1) & mask;
+        while (this.values[next] != null) {
+            int home = hash(this.keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                this.keys[free] = this.keys[next];
+                this.values[free] = this.values[next];
+                this.values[next] = null;
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+        return value;
+    }
+
+    OrdinalValues copy() {
+        OrdinalValues copy = new OrdinalValues();
+        copy.keys = this.keys;
+        copy.values = this.values;
+        copy.size = this.size;
+        copy.shared = true;
+        // This table must not be changed any more either, as it shares its arrays with the copy from now on
+        this.shared = true;
+        return copy;
+    }
+
+    // Copies the arrays on the first change of a table sharing them
+    private void unshare() {
+        if (this.shared) {
+            this.keys = this.keys.clone();
+            this.values = this.values.clone();
+            this.shared = false;
+        }
+    }
+
+    // Returns the slot holding the key, or the empty slot where it would be inserted
+    private int findSlot(long key) {
+        int mask = this.keys.length - 1;
+        int slot = hash(key) & mask;
+        while (this.values[slot] != null && this.keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        long[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        this.keys = new long[oldKeys.length * 2];
+        this.values = new Object[oldValues.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = this.findSlot(oldKeys[i]);
+                this.keys[slot] = oldKeys[i];
+                this.values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
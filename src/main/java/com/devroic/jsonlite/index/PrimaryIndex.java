@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.devroic.jsonlite.index;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * Index of the objects of a collection by the value of their idKey, kept up to date on every mutation so that
+ * lookups by ID and duplicate checks do not need to scan the collection.
+ */
+public interface PrimaryIndex {
+
+    /**
+     * Creates the index that fits the type of the ID field: a long-keyed open addressing index for integral IDs,
+     * and a hash index on the string representation of the ID otherwise.
+     *
+     * @param type  the class type of the objects.
+     * @param idKey the key used as the identifier of the objects.
+     * @return an empty primary index.
+     */
+    static PrimaryIndex create(Class<?> type, String idKey) {
+        try {
+            Field field = type.getDeclaredField(idKey);
+            Class<?> fieldType = field.getType();
+            if (fieldType == Long.class || fieldType == Integer.class || fieldType == Short.class || fieldType == Byte.class) {
+                return new LongPrimaryIndex(idKey);
+            }
+        } catch (NoSuchFieldException e) {
+            // The idKey is validated when the client is built, fall back to the string index
+        }
+        return new HashPrimaryIndex(idKey);
+    }
+
+    /**
+     * Returns the object with the given ID.
+     *
+     * @param id the ID of the object, as passed to the client operations.
+     * @return the object with the specified ID, or null if there is none.
+     */
+    Object get(String id);
+
+    /**
+     * Adds an object to the index.
+     *
+     * @param object the object to be indexed.
+     * @return false if another object with the same ID is already indexed, true otherwise.
+     */
+    boolean add(Object object);
+
+    /**
+     * Removes an object from the index, if it is the object indexed for its ID.
+     *
+     * @param object the object to be removed.
+     */
+    void remove(Object object);
+
+    /**
+     * Removes all the objects from the index.
+     */
+    void clear();
+
+    /**
+     * Returns a copy of the index, which can be changed without affecting this index.
+     *
+     * @return a primary index with the same objects.
+     */
+    PrimaryIndex copy();
+
+    /**
+     * Adds all the objects of a collection to the index.
+     *
+     * @param objects the objects to be indexed.
+     * @return false if the collection contains duplicate IDs, true otherwise.
+     */
+    default boolean addAll(List<?> objects) {
+        for (Object object : objects) {
+            if (!add(object)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
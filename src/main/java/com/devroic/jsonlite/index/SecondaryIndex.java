@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.devroic.jsonlite.index;
+
+import com.devroic.jsonlite.utils.JsonLiteClientOperationsHelper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+
+/**
+ * Index of the objects of a collection by the value of a key. Values are matched case-insensitively, and every
+ * element of a list-valued key is indexed, so the index finds the objects whose key equals or contains a value.
+ * The objects of each value are kept ordered by their ordinal, which follows their position in the collection.
+ */
+public class SecondaryIndex extends OrdinalIndex {
+
+    private Map<String, NavigableMap<Long, Object>> objectsByValue = new HashMap<>();
+    // Whether the values are shared with the index this one is a copy of, until the first change
+    private boolean sharedValues;
+
+    public SecondaryIndex(String key) {
+        super(key);
+    }
+
+    // Returns the objects whose key equals or contains the value, in the order of the collection
+    public List<Object> find(String value) {
+        return new ArrayList<>(this.postings(value).values());
+    }
+
+    // Returns the objects whose key equals or contains the value by their ordinals, without copying them
+    public NavigableMap<Long, Object> postings(String value) {
+        NavigableMap<Long, Object> objects = this.objectsByValue.get(normalize(value));
+        return objects == null ? Collections.emptyNavigableMap() : Collections.unmodifiableNavigableMap(objects);
+    }
+
+    // Returns how many objects have a key equal to or containing the value
+    public int count(String value) {
+        NavigableMap<Long, Object> objects = this.objectsByValue.get(normalize(value));
+        return objects == null ? 0 : objects.size();
+    }
+
+    @Override
+    void add(Object object, long ordinal) {
+        Set<String> values = this.valuesOf(object);
+        if (values.isEmpty()) {
+            return;
+        }
+        for (String value : values) {
+            NavigableMap<Long, Object> objects = this.writableValues().get(value);
+            if (objects == null) {
+                objects = this.newPostings();
+            } else {
+                objects = this.writablePostings(objects);
+            }
+            objects.put(ordinal, object);
+            this.objectsByValue.put(value, objects);
+        }
+        // A single value is recorded as is, which spares an array for the common case of a key that is not a list
+        this.recordValues(ordinal, values.size() == 1 ? values.iterator().next() : values.toArray(new String[0]));
+    }
+
+    @Override
+    void remove(long ordinal) {
+        Object recorded = this.forgetValues(ordinal);
+        if (recorded == null) {
+            return;
+        }
+        for (String value : recorded instanceof String single ? new String[]{single} : (String[]) recorded) {
+            NavigableMap<Long, Object> objects = this.objectsByValue.get(value);
+            if (objects != null && objects.containsKey(ordinal)) {
+                if (objects.size() == 1) {
+                    this.writableValues().remove(value);
+                } else {
+                    objects = this.writablePostings(objects);
+                    objects.remove(ordinal);
+                    this.writableValues().put(value, objects);
+                }
+            }
+        }
+    }
+
+    @Override
+    void clear() {
+        this.objectsByValue = new HashMap<>();
+        this.sharedValues = false;
+        this.reset();
+    }
+
+    @Override
+    SecondaryIndex copy() {
+        SecondaryIndex copy = new SecondaryIndex(this.key);
+        copy.objectsByValue = this.objectsByValue;
+        copy.sharedValues = true;
+        copy.shareWith(this);
+        return copy;
+    }
+
+    // Returns the values to change in place, copying the map of the values on the first change of a copy
+    private Map<String, NavigableMap<Long, Object>> writableValues() {
+        if (this.sharedValues) {
+            this.objectsByValue = new HashMap<>(this.objectsByValue);
+            this.sharedValues = false;
+        }
+        return this.objectsByValue;
+    }
+
+    private Set<String> valuesOf(Object object) {
+        Object fieldValue = JsonLiteClientOperationsHelper.getRawFieldValue(object, this.key);
+        Set<String> values = new LinkedHashSet<>();
+        if (fieldValue instanceof Collection<?> elements) {
+            for (Object element : elements) {
+                if (element != null) {
+                    values.add(normalize(element.toString()));
+                }
+            }
+        } else if (fieldValue != null) {
+            values.add(normalize(fieldValue.toString()));
+        }
+        return values;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+}
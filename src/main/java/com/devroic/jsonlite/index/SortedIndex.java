@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.index;
+
+import com.devroic.jsonlite.utils.JsonLiteClientOperationsHelper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Index of the objects of a collection ordered by the natural order of a comparable key, which answers range
+ * and order by queries with a seek instead of a scan and a sort. Objects with equal values are kept ordered by
+ * their ordinal, which follows their position in the collection. Objects without a value for the key are not indexed.
+ */
+public class SortedIndex extends OrdinalIndex {
+
+    private TreeMap<Comparable<Object>, NavigableMap<Long, Object>> objectsByValue = new TreeMap<>();
+    // Whether the values are shared with the index this one is a copy of, until the first change
+    private boolean sharedValues;
+
+    public SortedIndex(String key) {
+        super(key);
+    }
+
+    // Returns the objects whose value is between the bounds, both inclusive, in ascending order. A null bound is unbounded.
+    public List<Object> range(Comparable<Object> from, Comparable<Object> to) {
+        return collect(this.between(from, to), object -> true, Integer.MAX_VALUE);
+    }
+
+    // Returns the objects whose value is between the bounds by their ordinals, so in the order of the collection
+    public NavigableMap<Long, Object> postings(Comparable<Object> from, Comparable<Object> to) {
+        NavigableMap<Long, Object> postings = new TreeMap<>();
+        this.between(from, to).values().forEach(postings::putAll);
+        return postings;
+    }
+
+    // Returns how many objects have a value between the bounds, without collecting them
+    public long count(Comparable<Object> from, Comparable<Object> to) {
+        long count = 0;
+        for (NavigableMap<Long, Object> objectsOfValue : this.between(from, to).values()) {
+            count += objectsOfValue.size();
+        }
+        return count;
+    }
+
+    // Streams all the indexed objects in ascending or descending order of their value
+    public Stream<Object> stream(boolean descending) {
+        return (descending ? this.objectsByValue.descendingMap() : this.objectsByValue).values().stream()
+                .flatMap(objectsOfValue -> objectsOfValue.values().stream());
+    }
+
+    private NavigableMap<Comparable<Object>, NavigableMap<Long, Object>> between(Comparable<Object> from, Comparable<Object> to) {
+        if (from != null && to != null && from.compareTo(to) > 0) {
+            return Collections.emptyNavigableMap();
+        }
+        NavigableMap<Comparable<Object>, NavigableMap<Long, Object>> values = this.objectsByValue;
+        if (from != null) {
+            values = values.tailMap(from, true);
+        }
+        if (to != null) {
+            values = values.headMap(to, true);
+        }
+        return values;
+    }
+
+    // Returns the first objects in ascending or descending order of their value, at most limit objects
+    public List<Object> first(int limit, boolean descending) {
+        return collect(descending ? this.objectsByValue.descendingMap() : this.objectsByValue, object -> true, limit);
+    }
+
+    // Returns the lowest or highest value with one of its objects, or null when no object is indexed
+    public Map.Entry<Comparable<Object>, Object> firstEntry(boolean descending) {
+        Map.Entry<Comparable<Object>, NavigableMap<Long, Object>> first =
+                descending ? this.objectsByValue.lastEntry() : this.objectsByValue.firstEntry();
+        return first == null ? null : Map.entry(first.getKey(), first.getValue().firstEntry().getValue());
+    }
+
+    // Returns the first objects whose value is greater than the bound and that match the condition, in ascending
+    // order, at most limit objects. A null bound is unbounded.
+    public List<Object> after(Comparable<Object> from, Predicate<Object> condition, int limit) {
+        return collect(from == null ? this.objectsByValue : this.objectsByValue.tailMap(from, false), condition, limit);
+    }
+
+    private static List<Object> collect(Map<Comparable<Object>, NavigableMap<Long, Object>> values,
+                                        Predicate<Object> condition, int limit) {
+        List<Object> objects = new ArrayList<>();
+        for (NavigableMap<Long, Object> objectsOfValue : values.values()) {
+            for (Object object : objectsOfValue.values()) {
+                if (objects.size() == limit) {
+                    return objects;
+                }
+                if (condition.test(object)) {
+                    objects.add(object);
+                }
+            }
+        }
+        return objects;
+    }
+
+    @Override
+    void add(Object object, long ordinal) {
+        Comparable<Object> value = valueOf(object, this.key);
+        if (value != null) {
+            NavigableMap<Long, Object> objects = this.writableValues().get(value);
+            if (objects == null) {
+                objects = this.newPostings();
+            } else {
+                objects = this.writablePostings(objects);
+            }
+            objects.put(ordinal, object);
+            this.objectsByValue.put(value, objects);
+            this.recordValues(ordinal, value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    void remove(long ordinal) {
+        Comparable<Object> value = (Comparable<Object>) this.forgetValues(ordinal);
+        if (value == null) {
+            return;
+        }
+        NavigableMap<Long, Object> objects = this.objectsByValue.get(value);
+        if (objects != null && objects.containsKey(ordinal)) {
+            if (objects.size() == 1) {
+                this.writableValues().remove(value);
+            } else {
+                objects = this.writablePostings(objects);
+                objects.remove(ordinal);
+                this.writableValues().put(value, objects);
+            }
+        }
+    }
+
+    @Override
+    void clear() {
+        this.objectsByValue = new TreeMap<>();
+        this.sharedValues = false;
+        this.reset();
+    }
+
+    @Override
+    SortedIndex copy() {
+        SortedIndex copy = new SortedIndex(this.key);
+        copy.objectsByValue = this.objectsByValue;
+        copy.sharedValues = true;
+        copy.shareWith(this);
+        return copy;
+    }
+
+    // Returns the values to change in place, copying the map of the values on the first change of a copy
+    private TreeMap<Comparable<Object>, NavigableMap<Long, Object>> writableValues() {
+        if (this.sharedValues) {
+            this.objectsByValue = new TreeMap<>(this.objectsByValue);
+            this.sharedValues = false;
+        }
+        return this.objectsByValue;
+    }
+
+    // Returns the value of the key used for sorting the object, or null if the object has no comparable value
+    @SuppressWarnings("unchecked")
+    public static Comparable<Object> valueOf(Object object, String key) {
+        Object value = JsonLiteClientOperationsHelper.getRawFieldValue(object, key);
+        return value instanceof Comparable<?> ? (Comparable<Object>) value : null;
+    }
+}
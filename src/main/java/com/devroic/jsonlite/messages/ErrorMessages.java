@@ -25,6 +25,26 @@ public class ErrorMessages {
     //Builder Messages
     public static final String JSON_FILE_PATH_NULL = "jsonFilePath cannot be null.";
     public static final String TYPE_NULL = "type cannot be null.";
+    public static final String CACHE_MODE_NULL = "cacheMode cannot be null.";
+    public static final String STORAGE_MODE_NULL = "storageMode cannot be null.";
+    public static final String INVALID_COMPACTION_THRESHOLD = "compactionThreshold must be greater than zero.";
+    public static final String INDEXED_KEY_NULL = "Indexed keys cannot be null or blank.";
+    public static final String INVALID_COMPACTION_RATIO = "compactionRatio must be greater than zero.";
+    public static final String LOCK_MODE_NULL = "lockMode cannot be null.";
+    public static final String INVALID_LOCK_TIMEOUT = "lockTimeout must be greater than zero.";
+    public static final String INTER_PROCESS_LOCK_WITH_APPEND_LOG = "LockMode.INTER_PROCESS is not supported with StorageMode.APPEND_LOG.";
+    public static final String WRITE_MODE_NULL = "writeMode cannot be null.";
+    public static final String INVALID_FLUSH_INTERVAL = "flushInterval must be greater than zero.";
+    public static final String INVALID_FLUSH_THRESHOLD = "flushThreshold must be greater than zero.";
+    public static final String INVALID_MAX_PENDING_MUTATIONS = "maxPendingMutations must be greater than zero.";
+    public static final String SCAN_MODE_NULL = "scanMode cannot be null.";
+    public static final String SCAN_POOL_NULL = "scanPool cannot be null.";
+    public static final String INVALID_PARALLEL_SCAN_THRESHOLD = "parallelScanThreshold must be greater than zero.";
+    public static final String READ_MODE_NULL = "readMode cannot be null.";
+    public static final String INVALID_PARALLEL_LOAD_THRESHOLD = "parallelLoadThreshold must be greater than zero.";
+    public static final String INCOMPATIBLE_STORAGE_ENGINE = "JSON file %s is already open with different options, and one of the clients keeps changes that are not in the file yet. Close the other client or use the same options.";
+    public static final String INVALID_RESULT_CACHE_SIZE = "resultCacheSize must not be negative.";
+    public static final String INTER_PROCESS_LOCK_WITH_WRITE_BEHIND = "LockMode.INTER_PROCESS is only supported with WriteMode.SYNC.";
     public static final String FILE_CREATION_ERROR = "Failed to create the file: %s";
     public static final String MUST_BE_JSON_FILE = "The file must be a JSON file";
     public static final String INVALID_ID_KEY_TYPE = "The idKey '%s' is of type '%s', but only 'String' or numeric types are allowed.";
@@ -39,22 +59,53 @@ public class ErrorMessages {
     public static final String EMPTY_OR_NULL_ID = "ID cannot be empty or null.";
     public static final String INVALID_TYPE = "Invalid type: Expected '%s' but got '%s'.";
     public static final String KEY_NOT_FOUND_IN_CLASS = "The key '%s' does not exist in class '%s'.";
+    public static final String KEY_NOT_COMPARABLE = "The key '%s' is of type '%s', which cannot be sorted.";
+    public static final String KEY_NOT_NUMERIC = "The key '%s' is of type '%s', which is not numeric.";
+    public static final String KEY_CONDITION_NULL = "The key condition cannot be null.";
+    public static final String QUERY_NULL = "The query cannot be null.";
+    public static final String QUERY_NAME_NULL = "The query name cannot be null or empty.";
+    public static final String INVALID_LIMIT = "Limit must be greater than zero, but got %s.";
+    public static final String INVALID_OFFSET = "Offset must not be negative, but got %s.";
+    public static final String SNAPSHOT_READ_ONLY = "A snapshot is read-only, mutating operations must be called on the client.";
+    public static final String CLIENT_CLOSED = "The client is closed, operations must be called on an open client.";
     public static final String ID_MISMATCH_UPDATE = "The ID of the updated object does not match the provided ID: expected '%s', but got '%s'.";
 
     //Operations Messages
     public static final String FAILED_READING = "Failed to read or parse the JSON file.";
     public static final String FAILED_SAVING = "Failed to save into JSON file.";
+    public static final String FAILED_READING_LOG = "Failed to read the mutation log of the JSON file.";
+    public static final String FAILED_SAVING_LOG = "Failed to append into the mutation log of the JSON file.";
+    public static final String LOCK_TIMEOUT = "Timed out after %s ms waiting for the lock file: %s";
+    public static final String LOCK_INTERRUPTED = "Interrupted while waiting for the lock file: %s";
+    public static final String FAILED_LOCKING = "Failed to lock the lock file: %s";
+    public static final String FAILED_UNLOCKING = "Failed to unlock the lock file.";
+    public static final String FAILED_FLUSH = "Failed to flush the pending mutations into the JSON file.";
+    public static final String FLUSH_INTERRUPTED = "Interrupted while waiting for the pending mutations to be flushed into the JSON file.";
+    public static final String FLUSH_BACKLOG_TIMEOUT = "Timed out after %s ms waiting for %s pending mutations to be flushed into the JSON file: %s";
+    public static final String FAILED_COMPACTION = "Failed to compact the mutation log into the JSON file.";
     public static final String FAILED_SELECT_KEY = "Failed to extract values for key: %s";
     public static final String FAILED_SELECT_KEYS = "Failed to extract values for keys: %s";
+    public static final String FAILED_SELECT_FIELDS = "Failed to select fields: %s";
     public static final String FAILED_SELECT_BY_ID = "Failed to extract values from id";
     public static final String FAILED_SELECT_BY_KEY = "Failed to select objects by key: %s, value: %s";
     public static final String FAILED_SELECT_WHERE = "Failed to select objects based on condition";
+    public static final String FAILED_SELECT_RANGE = "Failed to select objects by range of key: %s";
+    public static final String FAILED_SELECT_ORDER_BY = "Failed to select objects ordered by key: %s";
+    public static final String FAILED_SELECT_AFTER = "Failed to select objects after id: %s";
+    public static final String FAILED_COUNT = "Failed to count objects.";
+    public static final String FAILED_EXISTS = "Failed to check if objects exist.";
+    public static final String FAILED_GROUP_BY = "Failed to group objects by key: %s";
+    public static final String FAILED_AGGREGATE = "Failed to aggregate the values of key: %s";
+    public static final String FAILED_QUERY = "Failed to run query: %s";
+    public static final String FAILED_TOP_K = "Failed to select the first %s objects in the order of the comparator.";
     public static final String FAILED_DELETE_ALL = "Failed to delete all objects.";
     public static final String FAILED_DELETE_BY_ID = "Failed to delete values from id";
     public static final String FAILED_DELETE_BY_KEY = "Failed to delete by key value";
     public static final String FAILED_DELETE_BY_CONDITION = "Failed to delete objects based on condition.";
     public static final String FAILED_INSERT = "Failed to insert object into JSON file";
+    public static final String FAILED_INSERT_MULTIPLE = "Failed to insert objects into JSON file, none of the objects were inserted";
     public static final String FAILED_UPDATE_BY_ID = "Failed to update object with ID %s.";
     public static final String FAILED_UPDATE_BY_KEY = "Failed to update objects with key %s.";
+    public static final String FAILED_UPDATE_BY_MATCHING_KEY = "Failed to update objects by key: %s, value: %s";
     public static final String FAILED_UPDATE_WHERE = "Failed to update the value for key where condition matches.";
 }
\ No newline at end of file
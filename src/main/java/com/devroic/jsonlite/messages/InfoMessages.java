@@ -25,16 +25,29 @@ public class InfoMessages {
     //Builder Messages
     public static final String BUILDING_CLIENT = "Building JsonLiteClient with jsonFilePath {} and model type {}.";
     public static final String BUILDING_CLIENT_COMPLETED = "JsonLiteClient building completed!";
+    public static final String ASYNC_EXECUTOR = "Asynchronous JsonLiteClient operations run on {} by default.";
     public static final String CREATING_FILE = "JSON file not found, creating a new JSON file {}.";
 
+    //Storage Messages
+    public static final String CACHE_RELOADED = "JSON file {} was changed outside the client, reloading the cached collection.";
+    public static final String INDEX_CREATED = "Index on key '{}' created for JSON file {}.";
+    public static final String BATCH_COMMITTED = "Batch of {} change(s) committed to JSON file {}.";
+    public static final String MUTATIONS_FLUSHED = "{} pending mutation(s) flushed into JSON file {}.";
+    public static final String LOG_COMPACTED = "Mutation log {} compacted into JSON file {}.";
+    public static final String STORAGE_ENGINE_SHARED = "JSON file {} is already open, sharing its loaded collection.";
+    public static final String STORAGE_ENGINE_CLOSED = "Last client of JSON file {} closed, its loaded collection is released.";
+
     //Operations Messages
     public static final String OBJECT_FOUND_BY_ID = "Object with ID {} found.";
     public static final String OBJECT_DELETED_BY_ID = "Object with ID {} deleted successfully.";
     public static final String OBJECTS_DELETED_BY_KEY = "Deleted {} object(s) where {} = '{}'.";
     public static final String OBJECT_INSERTED = "Object '{}' added successfully.";
+    public static final String OBJECTS_INSERTED = "{} object(s) added successfully.";
     public static final String OBJECTS_UPDATED_BY_KEY = "Updated {} object(s) by setting key '{}' to value '{}'.";
     public static final String OBJECT_UPDATED_BY_ID = "Object with ID '{}' updated successfully.";
     public static final String OBJECTS_UPDATED_WHERE = "Updated {} object(s) by setting key '{}' where condition matched.";
+    public static final String OBJECTS_UPDATED_BY_MATCHING_KEY = "Updated {} object(s) where {} = '{}' with {}.";
     public static final String ALL_OBJECTS_DELETED = "All objects deleted successfully.";
     public static final String OBJECTS_DELETED_BY_CONDITION = "Deleted {} objects that matched the condition.";
+    public static final String QUERY_PLANNED = "Planned query '{}' as {}.";
 }
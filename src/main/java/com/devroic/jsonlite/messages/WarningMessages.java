@@ -26,4 +26,15 @@ public class WarningMessages {
     public static final String OBJECT_NOT_FOUND_BY_ID = "Object with id {} not found.";
     public static final String OBJECT_NOT_FOUND_BY_KEY = "Objects where {} = '{}' not found.";
     public static final String OBJECT_NOT_FOUND_BY_CONDITION = "No objects found that matched the condition.";
+
+    //Storage Messages
+    public static final String STALE_MUTATION_LOG = "Mutation log {} does not match its JSON file and is discarded.";
+    public static final String TRUNCATED_MUTATION_LOG = "Mutation log {} ends with an incomplete entry, which is ignored.";
+    public static final String DUPLICATE_IDS_NOT_INDEXED = "JSON file {} contains duplicate values for idKey '{}', lookups by ID will scan the collection.";
+    public static final String SHARED_INSTANCES_NOT_INDEXED = "JSON file {} contains the same object instance more than once, lookups by key will scan the collection.";
+    public static final String OBJECT_NOT_FOUND_IN_RANGE = "No objects found with key '{}' between '{}' and '{}'.";
+    public static final String INDEX_REQUIRES_MEMORY = "Index on key '{}' is ignored, indexes require CacheMode.IN_MEMORY or StorageMode.APPEND_LOG.";
+    public static final String BATCH_ROLLED_BACK = "Batch on JSON file {} failed, none of its changes were persisted.";
+    public static final String INCOMPATIBLE_STORAGE_ENGINE = "JSON file {} is already open with different options, this client loads its own copy of the collection.";
+    public static final String COMPACTING_AFTER_REPLAY = "Compacting JSON file {} after an incomplete replay of its mutation log.";
 }
@@ -17,6 +17,8 @@
 
 package com.devroic.jsonlite.operations;
 
+import com.devroic.jsonlite.schema.SchemaDescriptor;
+import com.devroic.jsonlite.storage.CollectionStore;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.File;
@@ -27,11 +29,17 @@ public abstract class OperationsBaseHandler {
     protected ObjectMapper objectMapper;
     protected Class<?> type;
     protected String idKey;
+    protected CollectionStore store;
+    protected SchemaDescriptor schema;
+    protected QueryPlanner planner;
 
-    protected OperationsBaseHandler(File jsonFile, Class<?> type, String idKey) {
-        this.objectMapper = new ObjectMapper();
+    protected OperationsBaseHandler(File jsonFile, Class<?> type, String idKey, CollectionStore store) {
+        this.objectMapper = store.getObjectMapper();
         this.jsonFile = jsonFile;
         this.type = type;
         this.idKey = idKey;
+        this.store = store;
+        this.schema = store.getSchema();
+        this.planner = new QueryPlanner(store);
     }
 }
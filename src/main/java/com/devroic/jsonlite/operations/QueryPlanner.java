@@ -0,0 +1,293 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.operations;
+
+import com.devroic.jsonlite.client.KeyCondition;
+import com.devroic.jsonlite.client.Query;
+import com.devroic.jsonlite.client.QueryPlan;
+import com.devroic.jsonlite.index.PrimaryIndex;
+import com.devroic.jsonlite.index.SecondaryIndex;
+import com.devroic.jsonlite.index.SortedIndex;
+import com.devroic.jsonlite.schema.SchemaDescriptor;
+import com.devroic.jsonlite.schema.SchemaField;
+import com.devroic.jsonlite.storage.CollectionStore;
+import com.devroic.jsonlite.utils.JsonLiteClientOperationsHelper;
+import com.devroic.jsonlite.utils.JsonLiteClientValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Plans the queries of the handlers, choosing how their candidates are found from the indexes of the store and
+ * the estimated number of candidates of each index, and runs them. See {@link QueryPlan} for the plans.
+ */
+public class QueryPlanner {
+
+    private final CollectionStore store;
+    private final SchemaDescriptor schema;
+    private final ObjectMapper objectMapper;
+
+    public QueryPlanner(CollectionStore store) {
+        this.store = store;
+        this.schema = store.getSchema();
+        this.objectMapper = store.getObjectMapper();
+    }
+
+    // Chooses how the candidates of the query are found. A reading query may read the file itself, while the query
+    // of a mutating operation finds the objects of its working copy.
+    public QueryPlan plan(Query query, boolean reading) {
+        JsonLiteClientValidator.validateQuery(this.schema, query);
+
+        // A condition on the ID is answered by the primary index with one lookup per value, which no index can beat
+        PrimaryIndex primaryIndex = this.store.getPrimaryIndex();
+        if (primaryIndex != null) {
+            for (KeyCondition condition : query.getConditions()) {
+                if (this.fieldOf(condition.getKey()).id()) {
+                    return new QueryPlan(QueryPlan.Access.PRIMARY_INDEX, List.of(condition.getKey()),
+                            condition.getValues().size(), orderOf(query));
+                }
+            }
+        }
+
+        // The secondary indexes are ordered by their number of candidates, so the most selective one comes first
+        List<KeyCondition> indexed = new ArrayList<>();
+        List<Long> estimates = new ArrayList<>();
+        for (KeyCondition condition : query.getConditions()) {
+            SecondaryIndex secondaryIndex = this.store.getSecondaryIndex(this.fieldOf(condition.getKey()).name());
+            if (secondaryIndex != null) {
+                long estimate = 0;
+                for (String value : condition.getValues()) {
+                    estimate += secondaryIndex.count(value);
+                }
+                int position = 0;
+                while (position < estimates.size() && estimates.get(position) <= estimate) {
+                    position++;
+                }
+                indexed.add(position, condition);
+                estimates.add(position, estimate);
+            }
+        }
+
+        Query.Range bestRange = null;
+        long bestRangeEstimate = Long.MAX_VALUE;
+        for (Query.Range range : query.getRanges()) {
+            SchemaField field = this.fieldOf(range.getKey());
+            SortedIndex sortedIndex = this.store.getSortedIndex(field.name());
+            if (sortedIndex != null) {
+                long estimate = sortedIndex.count(this.bound(field, range.getFrom()), this.bound(field, range.getTo()));
+                if (estimate < bestRangeEstimate) {
+                    bestRange = range;
+                    bestRangeEstimate = estimate;
+                }
+            }
+        }
+
+        if (bestRange != null && (indexed.isEmpty() || bestRangeEstimate < estimates.get(0))) {
+            // A range on the order key already finds its objects in the order of the query
+            boolean ordered = bestRange.getKey().equals(query.getOrderKey());
+            return new QueryPlan(QueryPlan.Access.SORTED_INDEX_RANGE, List.of(bestRange.getKey()), bestRangeEstimate,
+                    ordered ? QueryPlan.Order.INDEX : orderOf(query));
+        }
+        if (!indexed.isEmpty()) {
+            // The candidates of the most selective index are probed in the other indexes, so the intersection
+            // never costs more than checking the conditions of these candidates
+            List<String> keys = indexed.stream().map(KeyCondition::getKey).toList();
+            return new QueryPlan(indexed.size() > 1 ? QueryPlan.Access.INDEX_INTERSECTION : QueryPlan.Access.SECONDARY_INDEX,
+                    keys, estimates.get(0), orderOf(query));
+        }
+        if (query.getOrderKey() != null && this.store.getSortedIndex(this.fieldOf(query.getOrderKey()).name()) != null) {
+            return new QueryPlan(QueryPlan.Access.SORTED_INDEX_ORDER, List.of(query.getOrderKey()), -1, QueryPlan.Order.INDEX);
+        }
+        if (reading && this.store.readsFromFile()) {
+            for (KeyCondition condition : query.getConditions()) {
+                if (this.fieldOf(condition.getKey()).isText()) {
+                    return new QueryPlan(QueryPlan.Access.TOKEN_PREFILTER, List.of(condition.getKey()), -1, orderOf(query));
+                }
+            }
+        }
+        return new QueryPlan(QueryPlan.Access.SCAN, List.of(), -1, orderOf(query));
+    }
+
+    private static QueryPlan.Order orderOf(Query query) {
+        if (query.getOrderKey() == null) {
+            return QueryPlan.Order.COLLECTION;
+        }
+        return query.hasLimit() ? QueryPlan.Order.TOP_K : QueryPlan.Order.SORT;
+    }
+
+    // Runs the plan and returns the objects matching the query, in its order and within its page. The objects
+    // that are not found by an index are read from the store, or taken from the objects of a working copy.
+    public <T> List<T> execute(Query query, QueryPlan plan, List<T> workingObjects) {
+        Predicate<Object> matcher = this.matcher(query);
+        try (Stream<Object> candidates = this.candidates(query, plan, workingObjects)) {
+            Stream<Object> matching = candidates.filter(matcher);
+            List<Object> page;
+            if (plan.getOrder() == QueryPlan.Order.COLLECTION || plan.getOrder() == QueryPlan.Order.INDEX) {
+                // The candidates are already in the order of the query, so reading stops when the page is full
+                page = matching.skip(query.getOffset()).limit(query.getLimit()).toList();
+            } else {
+                String orderName = this.fieldOf(query.getOrderKey()).name();
+                Comparator<Object> comparator = (first, second) ->
+                        SortedIndex.valueOf(first, orderName).compareTo(SortedIndex.valueOf(second, orderName));
+                if (query.isDescending()) {
+                    comparator = comparator.reversed();
+                }
+                Stream<Object> ordered = matching.filter(object -> SortedIndex.valueOf(object, orderName) != null);
+                if (plan.getOrder() == QueryPlan.Order.TOP_K) {
+                    int end = (int) Math.min((long) query.getOffset() + query.getLimit(), Integer.MAX_VALUE);
+                    List<Object> first = JsonLiteClientOperationsHelper.firstSorted(ordered.iterator(), comparator, end);
+                    page = first.subList(Math.min(query.getOffset(), first.size()), first.size());
+                } else {
+                    page = ordered.sorted(comparator).skip(query.getOffset()).toList();
+                }
+            }
+            @SuppressWarnings("unchecked")
+            List<T> typedPage = (List<T>) page;
+            return typedPage;
+        }
+    }
+
+    // Streams the candidates found by the access of the plan, in the order of the collection unless the plan
+    // finds them in the order of a sorted index
+    private Stream<Object> candidates(Query query, QueryPlan plan, List<?> workingObjects) {
+        String key = plan.getIndexKeys().isEmpty() ? null : plan.getIndexKeys().get(0);
+        switch (plan.getAccess()) {
+            case PRIMARY_INDEX -> {
+                PrimaryIndex primaryIndex = this.store.getPrimaryIndex();
+                Set<Object> found = Collections.newSetFromMap(new IdentityHashMap<>());
+                for (String value : this.conditionOn(query, key).getValues()) {
+                    Object object = primaryIndex.get(value);
+                    if (object != null) {
+                        found.add(object);
+                    }
+                }
+                if (found.size() <= 1) {
+                    return found.stream();
+                }
+                // Several objects are put in the order of the collection with a pass over the references
+                List<?> objects = workingObjects != null ? workingObjects : this.store.view();
+                return objects.stream().filter(found::contains).map(Object.class::cast);
+            }
+            case SECONDARY_INDEX -> {
+                return this.postingsOf(this.conditionOn(query, key)).values().stream();
+            }
+            case INDEX_INTERSECTION -> {
+                List<NavigableMap<Long, Object>> postings = new ArrayList<>();
+                for (String indexKey : plan.getIndexKeys()) {
+                    postings.add(this.postingsOf(this.conditionOn(query, indexKey)));
+                }
+                List<NavigableMap<Long, Object>> others = postings.subList(1, postings.size());
+                return postings.get(0).entrySet().stream()
+                        .filter(posting -> others.stream().allMatch(other -> other.containsKey(posting.getKey())))
+                        .map(posting -> posting.getValue());
+            }
+            case SORTED_INDEX_RANGE -> {
+                Query.Range range = query.getRanges().stream().filter(r -> r.getKey().equals(key)).findFirst().orElseThrow();
+                SchemaField field = this.fieldOf(key);
+                SortedIndex sortedIndex = this.store.getSortedIndex(field.name());
+                Comparable<Object> from = this.bound(field, range.getFrom());
+                Comparable<Object> to = this.bound(field, range.getTo());
+                if (plan.getOrder() != QueryPlan.Order.INDEX) {
+                    return sortedIndex.postings(from, to).values().stream();
+                }
+                List<Object> objects = sortedIndex.range(from, to);
+                if (query.isDescending()) {
+                    objects = new ArrayList<>(objects);
+                    Collections.reverse(objects);
+                }
+                return objects.stream();
+            }
+            case SORTED_INDEX_ORDER -> {
+                return this.store.getSortedIndex(this.fieldOf(key).name()).stream(query.isDescending());
+            }
+            case TOKEN_PREFILTER -> {
+                KeyCondition condition = this.conditionOn(query, key);
+                List<Object> candidates = this.store.readMatching(this.fieldOf(key).jsonName(), condition.getValues(), false);
+                if (candidates != null) {
+                    return candidates.stream();
+                }
+                return this.store.readLazily();
+            }
+            default -> {
+                if (workingObjects != null) {
+                    return workingObjects.stream().map(Object.class::cast);
+                }
+                return this.store.readLazily();
+            }
+        }
+    }
+
+    // Returns the objects of the values of the condition by their ordinals, merging the postings of several values
+    private NavigableMap<Long, Object> postingsOf(KeyCondition condition) {
+        SecondaryIndex secondaryIndex = this.store.getSecondaryIndex(this.fieldOf(condition.getKey()).name());
+        if (condition.getValues().size() == 1) {
+            return secondaryIndex.postings(condition.getValues().iterator().next());
+        }
+        NavigableMap<Long, Object> postings = new TreeMap<>();
+        for (String value : condition.getValues()) {
+            postings.putAll(secondaryIndex.postings(value));
+        }
+        return postings;
+    }
+
+    // Every candidate is checked against all the conditions, since the indexes compare the values ignoring case
+    // and only answer some of the conditions
+    private Predicate<Object> matcher(Query query) {
+        Predicate<Object> matcher = object -> true;
+        for (KeyCondition condition : query.getConditions()) {
+            String name = this.fieldOf(condition.getKey()).name();
+            Set<String> values = condition.getValues();
+            matcher = matcher.and(object -> JsonLiteClientOperationsHelper.hasMatchingKeyValue(object, name, values));
+        }
+        for (Query.Range range : query.getRanges()) {
+            SchemaField field = this.fieldOf(range.getKey());
+            Comparable<Object> from = this.bound(field, range.getFrom());
+            Comparable<Object> to = this.bound(field, range.getTo());
+            matcher = matcher.and(object -> {
+                Comparable<Object> value = SortedIndex.valueOf(object, field.name());
+                return value != null
+                        && (from == null || value.compareTo(from) >= 0)
+                        && (to == null || value.compareTo(to) <= 0);
+            });
+        }
+        return matcher;
+    }
+
+    private KeyCondition conditionOn(Query query, String key) {
+        return query.getConditions().stream().filter(condition -> condition.getKey().equals(key)).findFirst().orElseThrow();
+    }
+
+    private SchemaField fieldOf(String key) {
+        return this.schema.getField(key);
+    }
+
+    // The bounds are converted to the type of the key, so e.g. a String bound can be used for a numeric key
+    @SuppressWarnings("unchecked")
+    private Comparable<Object> bound(SchemaField field, Object bound) {
+        return bound == null ? null : (Comparable<Object>) this.objectMapper.convertValue(bound, field.type());
+    }
+}
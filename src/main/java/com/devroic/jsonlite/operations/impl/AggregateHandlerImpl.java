@@ -0,0 +1,266 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.operations.impl;
+
+import com.devroic.jsonlite.index.PrimaryIndex;
+import com.devroic.jsonlite.index.SortedIndex;
+import com.devroic.jsonlite.messages.ErrorMessages;
+import com.devroic.jsonlite.operations.OperationsBaseHandler;
+import com.devroic.jsonlite.operations.interfaces.AggregateHandler;
+import com.devroic.jsonlite.schema.SchemaField;
+import com.devroic.jsonlite.storage.CollectionStore;
+import com.devroic.jsonlite.utils.JsonLiteClientOperationsHelper;
+import com.devroic.jsonlite.utils.JsonLiteClientValidator;
+import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+public class AggregateHandlerImpl extends OperationsBaseHandler implements AggregateHandler {
+
+    public AggregateHandlerImpl(File jsonFile, Class<?> type, String idKey, CollectionStore store) {
+        super(jsonFile, type, idKey, store);
+    }
+
+    @Override
+    public long handleCount() {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            // From the file the objects are only counted, skipping every one of them without parsing its fields
+            long[] count = new long[1];
+            if (this.store.visitFields(List.of(), row -> count[0]++)) {
+                return count[0];
+            }
+            return this.store.view().size();
+        } catch (RuntimeException e) {
+            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_COUNT, e);
+        }
+    }
+
+    @Override
+    public <T> long handleCountWhere(Predicate<T> condition) {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            try (Stream<T> objects = this.store.readLazily()) {
+                return objects.filter(condition).count();
+            }
+        } catch (RuntimeException e) {
+            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_COUNT, e);
+        }
+    }
+
+    @Override
+    public boolean handleExists(String id) {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            JsonLiteClientValidator.validateIdKeyExistence(this.idKey);
+
+            PrimaryIndex primaryIndex = this.store.getPrimaryIndex();
+            if (primaryIndex != null && id != null && !id.isEmpty()) {
+                return primaryIndex.get(id) != null;
+            }
+            try (Stream<Object> objects = this.store.readLazily()) {
+                return objects.anyMatch(object -> JsonLiteClientOperationsHelper.getFieldValue(object, idKey).equals(id));
+            }
+        } catch (RuntimeException e) {
+            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_EXISTS, e);
+        }
+    }
+
+    @Override
+    public <T> boolean handleExistsWhere(Predicate<T> condition) {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            // Reading stops at the first matching object
+            try (Stream<T> objects = this.store.readLazily()) {
+                return objects.anyMatch(condition);
+            }
+        } catch (RuntimeException e) {
+            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_EXISTS, e);
+        }
+    }
+
+    @Override
+    public Map<String, Long> handleGroupByCount(String key) {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            JsonLiteClientValidator.validateKey(this.schema, key);
+
+            // Values are counted in the order they are first found. An object holding a list is counted once
+            // for every distinct element, and objects without a value are not counted.
+            Map<String, Long> counts = new LinkedHashMap<>();
+            this.forEachValue(this.schema.getField(key), value -> {
+                if (value instanceof Collection<?> elements) {
+                    Set<String> distinct = new HashSet<>();
+                    for (Object element : elements) {
+                        if (element != null && distinct.add(element.toString())) {
+                            counts.merge(element.toString(), 1L, Long::sum);
+                        }
+                    }
+                } else if (value != null) {
+                    counts.merge(value.toString(), 1L, Long::sum);
+                }
+            });
+            return counts;
+        } catch (RuntimeException e) {
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.FAILED_GROUP_BY, key), e);
+        }
+    }
+
+    @Override
+    public Number handleMin(String key) {
+        return this.extreme(key, false);
+    }
+
+    @Override
+    public Number handleMax(String key) {
+        return this.extreme(key, true);
+    }
+
+    // Returns the lowest or highest value of a numeric key, or null when no object has a value for it
+    private Number extreme(String key, boolean highest) {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            JsonLiteClientValidator.validateNumericKey(this.schema, key);
+            SchemaField field = this.schema.getField(key);
+
+            // The sorted index of the key holds the extremes at its ends. An object changed in place without an update
+            // is still indexed under its previous value, in which case the values are aggregated instead.
+            SortedIndex sortedIndex = this.store.getSortedIndex(field.name());
+            if (sortedIndex != null) {
+                Map.Entry<Comparable<Object>, Object> first = sortedIndex.firstEntry(highest);
+                if (first == null) {
+                    return null;
+                }
+                Comparable<Object> value = SortedIndex.valueOf(first.getValue(), field.name());
+                if (first.getKey().equals(value)) {
+                    return (Number) value;
+                }
+            }
+            NumericAggregate aggregate = this.aggregate(field);
+            Number extreme = highest ? aggregate.max : aggregate.min;
+            return extreme == null ? null : (Number) objectMapper.convertValue(extreme, field.type());
+        } catch (RuntimeException e) {
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.FAILED_AGGREGATE, key), e);
+        }
+    }
+
+    @Override
+    public Number handleSum(String key) {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            JsonLiteClientValidator.validateNumericKey(this.schema, key);
+            NumericAggregate aggregate = this.aggregate(this.schema.getField(key));
+            return aggregate.integral ? (Number) aggregate.longSum : (Number) aggregate.doubleSum;
+        } catch (RuntimeException e) {
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.FAILED_AGGREGATE, key), e);
+        }
+    }
+
+    @Override
+    public Double handleAvg(String key) {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            JsonLiteClientValidator.validateNumericKey(this.schema, key);
+            NumericAggregate aggregate = this.aggregate(this.schema.getField(key));
+            if (aggregate.count == 0) {
+                return null;
+            }
+            double sum = aggregate.integral ? aggregate.longSum : aggregate.doubleSum;
+            return sum / aggregate.count;
+        } catch (RuntimeException e) {
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.FAILED_AGGREGATE, key), e);
+        }
+    }
+
+    // Aggregates the values of a numeric key in one pass. Values stored as text, as written by the update
+    // operations, are converted to the type of the key.
+    private NumericAggregate aggregate(SchemaField field) {
+        NumericAggregate aggregate = new NumericAggregate(isIntegral(field.type()));
+        this.forEachValue(field, value -> {
+            if (value != null) {
+                aggregate.add(value instanceof Number number ? number : (Number) objectMapper.convertValue(value, field.type()));
+            }
+        });
+        return aggregate;
+    }
+
+    // Passes the value of the key of every object to the visitor. When the collection is read from the file only
+    // this field is parsed, as a plain value: a string, a number, a boolean or a list. Otherwise the values
+    // are taken from the objects.
+    private void forEachValue(SchemaField field, Consumer<Object> visitor) {
+        boolean fromFile = this.store.visitFields(List.of(field.jsonName()), row -> {
+            JsonNode valueNode = row[0];
+            visitor.accept(valueNode == null || valueNode.isNull() ? null : objectMapper.convertValue(valueNode, Object.class));
+        });
+        if (!fromFile) {
+            for (Object object : this.store.view()) {
+                visitor.accept(JsonLiteClientOperationsHelper.getRawFieldValue(object, field.name()));
+            }
+        }
+    }
+
+    private static boolean isIntegral(Class<?> type) {
+        return type == long.class || type == int.class || type == short.class || type == byte.class
+                || type == Long.class || type == Integer.class || type == Short.class || type == Byte.class;
+    }
+
+    // Count, sum and extremes of numeric values: integral values are summed exactly as longs, the others as doubles
+    private static final class NumericAggregate {
+
+        private final boolean integral;
+        private long count;
+        private long longSum;
+        private double doubleSum;
+        private Number min;
+        private Number max;
+
+        private NumericAggregate(boolean integral) {
+            this.integral = integral;
+        }
+
+        private void add(Number value) {
+            this.count++;
+            if (this.integral) {
+                this.longSum = Math.addExact(this.longSum, value.longValue());
+            } else {
+                this.doubleSum += value.doubleValue();
+            }
+            if (this.min == null || this.compare(value, this.min) < 0) {
+                this.min = value;
+            }
+            if (this.max == null || this.compare(value, this.max) > 0) {
+                this.max = value;
+            }
+        }
+
+        private int compare(Number first, Number second) {
+            return this.integral
+                    ? Long.compare(first.longValue(), second.longValue())
+                    : Double.compare(first.doubleValue(), second.doubleValue());
+        }
+    }
+}
@@ -17,30 +17,35 @@
 
 package com.devroic.jsonlite.operations.impl;
 
+import com.devroic.jsonlite.client.KeyCondition;
+import com.devroic.jsonlite.client.Query;
+import com.devroic.jsonlite.client.QueryPlan;
 import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.index.PrimaryIndex;
+import com.devroic.jsonlite.index.SecondaryIndex;
 import com.devroic.jsonlite.messages.ErrorMessages;
 import com.devroic.jsonlite.messages.InfoMessages;
 import com.devroic.jsonlite.messages.WarningMessages;
 import com.devroic.jsonlite.operations.OperationsBaseHandler;
 import com.devroic.jsonlite.operations.interfaces.DeleteHandler;
-import com.devroic.jsonlite.operations.interfaces.SelectHandler;
+import com.devroic.jsonlite.storage.CollectionStore;
+import com.devroic.jsonlite.storage.WorkingCopy;
 import com.devroic.jsonlite.utils.JsonLiteClientOperationsHelper;
 import com.devroic.jsonlite.utils.JsonLiteClientValidator;
+import com.devroic.jsonlite.utils.ParallelScan;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.function.Predicate;
 
 public class DeleteHandlerImpl extends OperationsBaseHandler implements DeleteHandler {
 
-    private final SelectHandler selectHandler;
-
-    public DeleteHandlerImpl(File jsonFile, Class<?> type, String idKey) {
-        super(jsonFile, type, idKey);
-        this.selectHandler = new SelectHandlerImpl(this.jsonFile, this.type, this.idKey);
+    public DeleteHandlerImpl(File jsonFile, Class<?> type, String idKey, CollectionStore store) {
+        super(jsonFile, type, idKey, store);
     }
 
     private static final Logger logger = LoggerFactory.getLogger(DeleteHandlerImpl.class);
@@ -49,8 +54,9 @@ public class DeleteHandlerImpl extends OperationsBaseHandler implements DeleteHa
     public <T> boolean handleDeleteAll() {
         try {
             JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
-            List<T> emptyList = new ArrayList<>();
-            JsonLiteClientOperationsHelper.saveToFile(objectMapper, emptyList, jsonFile);
+            WorkingCopy workingCopy = this.store.begin();
+            workingCopy.clear();
+            this.store.commit(workingCopy);
             logger.info(InfoMessages.ALL_OBJECTS_DELETED);
             return true;
         } catch (RuntimeException e) {
@@ -65,10 +71,19 @@ public class DeleteHandlerImpl extends OperationsBaseHandler implements DeleteHa
             JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
             JsonLiteClientValidator.validateIdKeyExistence(this.idKey);
 
-            List<T> objects = this.selectHandler.handleSelectAll();
-            long count = objects.stream()
-                    .filter(object -> JsonLiteClientOperationsHelper.getFieldValue(object, idKey).equals(id))
-                    .count();
+            WorkingCopy workingCopy = this.store.begin();
+            int count;
+            PrimaryIndex primaryIndex = this.store.getPrimaryIndex();
+            if (primaryIndex != null && id != null && !id.isEmpty()) {
+                // The index guarantees the ID is unique, so the object is removed without scanning the collection
+                Object existingObject = primaryIndex.get(id);
+                count = existingObject != null ? 1 : 0;
+                if (existingObject != null) {
+                    workingCopy.remove(workingCopy.positionOf(existingObject));
+                }
+            } else {
+                count = workingCopy.removeIf(object -> JsonLiteClientOperationsHelper.getFieldValue(object, idKey).equals(id));
+            }
 
             if (count > 1) {
                 throw new JsonLiteClientOperationException(String.format(ErrorMessages.MULTIPLE_OBJECTS_FOUND, count, id));
@@ -77,12 +92,9 @@ public class DeleteHandlerImpl extends OperationsBaseHandler implements DeleteHa
                 return false;
             }
 
-            boolean isDeleted = objects.removeIf(object -> JsonLiteClientOperationsHelper.getFieldValue(object, idKey).equals(id));
-            if (isDeleted) {
-                JsonLiteClientOperationsHelper.saveToFile(this.objectMapper, objects, this.jsonFile);
-                logger.info(InfoMessages.OBJECT_DELETED_BY_ID, id);
-            }
-            return isDeleted;
+            this.store.commit(workingCopy);
+            logger.info(InfoMessages.OBJECT_DELETED_BY_ID, id);
+            return true;
         } catch (RuntimeException e) {
             throw new JsonLiteClientOperationException(ErrorMessages.FAILED_DELETE_BY_ID, e);
         }
@@ -92,50 +104,114 @@ public class DeleteHandlerImpl extends OperationsBaseHandler implements DeleteHa
     public <T> boolean handleDeleteByKey(String key, String value) {
         try {
             JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
-            JsonLiteClientValidator.validateKey(this.type, key);
-
-            List<T> objects = this.selectHandler.handleSelectAll();
-            long count = objects.stream()
-                    .filter(object -> JsonLiteClientOperationsHelper.hasMatchingKeyValue(object, key, value))
-                    .count();
+            JsonLiteClientValidator.validateKey(this.schema, key);
+            String fieldName = this.schema.getField(key).name();
+
+            WorkingCopy workingCopy = this.store.begin();
+            int count;
+
+            // With a secondary index only the candidates of the value are checked instead of every object
+            SecondaryIndex secondaryIndex = this.store.getSecondaryIndex(fieldName);
+            if (secondaryIndex != null) {
+                Set<Object> matchingObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+                secondaryIndex.find(value).stream()
+                        .filter(object -> JsonLiteClientOperationsHelper.hasMatchingKeyValue(object, fieldName, value))
+                        .forEach(matchingObjects::add);
+                count = matchingObjects.isEmpty() ? 0 : workingCopy.removeIf(matchingObjects::contains);
+            } else {
+                count = workingCopy.removeIf(object -> JsonLiteClientOperationsHelper.hasMatchingKeyValue(object, fieldName, value));
+            }
 
             if (count == 0) {
                 logger.warn(WarningMessages.OBJECT_NOT_FOUND_BY_KEY, key, value);
                 return false;
             }
 
-            boolean isDeleted = objects.removeIf(object -> JsonLiteClientOperationsHelper.hasMatchingKeyValue(object, key, value));
-            if (isDeleted) {
-                JsonLiteClientOperationsHelper.saveToFile(this.objectMapper, objects, this.jsonFile);
-                logger.info(InfoMessages.OBJECTS_DELETED_BY_KEY, count, key, value);
-            }
-            return isDeleted;
+            this.store.commit(workingCopy);
+            logger.info(InfoMessages.OBJECTS_DELETED_BY_KEY, count, key, value);
+            return true;
         } catch (RuntimeException e) {
             throw new JsonLiteClientOperationException(ErrorMessages.FAILED_DELETE_BY_KEY, e);
         }
     }
 
-    public <T> boolean handleDeleteWhere(Predicate<T> condition) {
+    @Override
+    public <T> boolean handleDeleteWhere(KeyCondition condition) {
         try {
-            List<T> objects = this.selectHandler.handleSelectAll();
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            JsonLiteClientValidator.validateKeyCondition(this.schema, condition);
+            String fieldName = this.schema.getField(condition.getKey()).name();
+            Set<String> values = condition.getValues();
+
+            WorkingCopy workingCopy = this.store.begin();
+            int count;
+
+            // A secondary index only finds the candidates of one value, so it is used for an equality condition
+            SecondaryIndex secondaryIndex = values.size() == 1 ? this.store.getSecondaryIndex(fieldName) : null;
+            if (secondaryIndex != null) {
+                Set<Object> matchingObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+                secondaryIndex.find(values.iterator().next()).stream()
+                        .filter(object -> JsonLiteClientOperationsHelper.hasMatchingKeyValue(object, fieldName, values))
+                        .forEach(matchingObjects::add);
+                count = matchingObjects.isEmpty() ? 0 : workingCopy.removeIf(matchingObjects::contains);
+            } else {
+                count = workingCopy.removeIf(object -> JsonLiteClientOperationsHelper.hasMatchingKeyValue(object, fieldName, values));
+            }
 
-            List<T> matchingObjects = objects.stream()
-                    .filter(condition)
-                    .toList();
+            if (count == 0) {
+                logger.warn(WarningMessages.OBJECT_NOT_FOUND_BY_CONDITION);
+                return false;
+            }
 
-            if (matchingObjects.isEmpty()) {
+            this.store.commit(workingCopy);
+            logger.info(InfoMessages.OBJECTS_DELETED_BY_CONDITION, count);
+            return true;
+        } catch (RuntimeException e) {
+            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_DELETE_BY_CONDITION, e);
+        }
+    }
+
+    @Override
+    public <T> boolean handleDeleteWhere(Query query) {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            WorkingCopy workingCopy = this.store.begin();
+            QueryPlan plan = this.planner.plan(query, false);
+            logger.info(InfoMessages.QUERY_PLANNED, query, plan);
+
+            // The objects found by the plan are removed by reference in a single pass over the working copy
+            Set<Object> matchingObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+            matchingObjects.addAll(this.planner.execute(query, plan, workingCopy.objects()));
+            int count = matchingObjects.isEmpty() ? 0 : workingCopy.removeIf(matchingObjects::contains);
+
+            if (count == 0) {
                 logger.warn(WarningMessages.OBJECT_NOT_FOUND_BY_CONDITION);
                 return false;
             }
 
-            boolean isDeleted = objects.removeAll(matchingObjects);
+            this.store.commit(workingCopy);
+            logger.info(InfoMessages.OBJECTS_DELETED_BY_CONDITION, count);
+            return true;
+        } catch (RuntimeException e) {
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.FAILED_QUERY, query), e);
+        }
+    }
+
+    public <T> boolean handleDeleteWhere(Predicate<T> condition, ParallelScan scan) {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+
+            WorkingCopy workingCopy = this.store.begin();
+            int count = workingCopy.removeIf(condition, scan);
 
-            if (isDeleted) {
-                JsonLiteClientOperationsHelper.saveToFile(objectMapper, objects, jsonFile);
-                logger.info(InfoMessages.OBJECTS_DELETED_BY_CONDITION, matchingObjects.size());
+            if (count == 0) {
+                logger.warn(WarningMessages.OBJECT_NOT_FOUND_BY_CONDITION);
+                return false;
             }
 
-            return isDeleted;
+            this.store.commit(workingCopy);
+            logger.info(InfoMessages.OBJECTS_DELETED_BY_CONDITION, count);
+            return true;
         } catch (Exception e) {
             throw new JsonLiteClientOperationException(ErrorMessages.FAILED_DELETE_BY_CONDITION, e);
         }
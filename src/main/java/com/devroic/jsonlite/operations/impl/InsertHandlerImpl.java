@@ -17,27 +17,28 @@
 
 package com.devroic.jsonlite.operations.impl;
 
+import com.devroic.jsonlite.index.PrimaryIndex;
 import com.devroic.jsonlite.messages.InfoMessages;
 import com.devroic.jsonlite.operations.OperationsBaseHandler;
 import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
 import com.devroic.jsonlite.messages.ErrorMessages;
 import com.devroic.jsonlite.operations.interfaces.InsertHandler;
-import com.devroic.jsonlite.operations.interfaces.SelectHandler;
+import com.devroic.jsonlite.storage.CollectionStore;
+import com.devroic.jsonlite.storage.WorkingCopy;
 import com.devroic.jsonlite.utils.JsonLiteClientOperationsHelper;
 import com.devroic.jsonlite.utils.JsonLiteClientValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class InsertHandlerImpl extends OperationsBaseHandler implements InsertHandler {
 
-    private final SelectHandler selectHandler;
-
-    public InsertHandlerImpl(File jsonFile, Class<?> type, String idKey) {
-        super(jsonFile, type, idKey);
-        this.selectHandler = new SelectHandlerImpl(this.jsonFile, this.type, this.idKey);
+    public InsertHandlerImpl(File jsonFile, Class<?> type, String idKey, CollectionStore store) {
+        super(jsonFile, type, idKey, store);
     }
 
     private static final Logger logger = LoggerFactory.getLogger(InsertHandlerImpl.class);
@@ -48,7 +49,7 @@ public class InsertHandlerImpl extends OperationsBaseHandler implements InsertHa
             JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
             JsonLiteClientValidator.validateClassMatch(this.type, object);
 
-            List<T> objects = this.selectHandler.handleSelectAll();
+            WorkingCopy workingCopy = this.store.begin();
 
             if (idKey != null && !idKey.isBlank()) {
                 String newObjectId = JsonLiteClientOperationsHelper.getFieldValue(object, idKey);
@@ -56,7 +57,10 @@ public class InsertHandlerImpl extends OperationsBaseHandler implements InsertHa
                     throw new JsonLiteClientOperationException(
                             ErrorMessages.EMPTY_OR_NULL_ID);
                 }
-                boolean isDuplicate = objects.stream()
+                PrimaryIndex primaryIndex = this.store.getPrimaryIndex();
+                boolean isDuplicate = primaryIndex != null
+                        ? primaryIndex.get(newObjectId) != null
+                        : workingCopy.objects().stream()
                         .anyMatch(existingObject -> JsonLiteClientOperationsHelper.getFieldValue(existingObject, idKey).equals(newObjectId));
                 if (isDuplicate) {
                     throw new JsonLiteClientOperationException(
@@ -64,18 +68,62 @@ public class InsertHandlerImpl extends OperationsBaseHandler implements InsertHa
                 }
             }
 
-            objects.add(object);
-            JsonLiteClientOperationsHelper.saveToFile(objectMapper, objects, jsonFile);
+            workingCopy.add(object);
+            this.store.commit(workingCopy);
             logger.info(InfoMessages.OBJECT_INSERTED, object);
         } catch (RuntimeException e) {
             throw new JsonLiteClientOperationException(ErrorMessages.FAILED_INSERT, e);
         }
     }
 
+    // Inserts all the objects with a single load and a single save. If any object is invalid nothing is inserted.
     @Override
     public <T> void handleInsertMultiple(List<T> objects) {
-        for (T object : objects) {
-            handleInsert(object);
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            for (T object : objects) {
+                JsonLiteClientValidator.validateClassMatch(this.type, object);
+            }
+            if (objects.isEmpty()) {
+                return;
+            }
+
+            WorkingCopy workingCopy = this.store.begin();
+
+            if (idKey != null && !idKey.isBlank()) {
+                // Without a primary index the existing IDs are collected once, instead of scanning for every object
+                PrimaryIndex primaryIndex = this.store.getPrimaryIndex();
+                Set<String> existingIds = null;
+                if (primaryIndex == null) {
+                    existingIds = new HashSet<>();
+                    for (Object existingObject : workingCopy.objects()) {
+                        existingIds.add(JsonLiteClientOperationsHelper.getFieldValue(existingObject, idKey));
+                    }
+                }
+                Set<String> batchIds = new HashSet<>();
+                for (T object : objects) {
+                    String newObjectId = JsonLiteClientOperationsHelper.getFieldValue(object, idKey);
+                    if (newObjectId == null || newObjectId.isBlank()) {
+                        throw new JsonLiteClientOperationException(
+                                ErrorMessages.EMPTY_OR_NULL_ID);
+                    }
+                    boolean isDuplicate = !batchIds.add(newObjectId) || (primaryIndex != null
+                            ? primaryIndex.get(newObjectId) != null
+                            : existingIds.contains(newObjectId));
+                    if (isDuplicate) {
+                        throw new JsonLiteClientOperationException(
+                                String.format(ErrorMessages.DUPLICATE_ID, newObjectId, idKey));
+                    }
+                }
+            }
+
+            for (T object : objects) {
+                workingCopy.add(object);
+            }
+            this.store.commit(workingCopy);
+            logger.info(InfoMessages.OBJECTS_INSERTED, objects.size());
+        } catch (RuntimeException e) {
+            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_INSERT_MULTIPLE, e);
         }
     }
 }
@@ -17,76 +17,124 @@
 
 package com.devroic.jsonlite.operations.impl;
 
+import com.devroic.jsonlite.client.KeyCondition;
+import com.devroic.jsonlite.client.Query;
+import com.devroic.jsonlite.client.QueryPlan;
+import com.devroic.jsonlite.index.PrimaryIndex;
+import com.devroic.jsonlite.index.SecondaryIndex;
+import com.devroic.jsonlite.index.SortedIndex;
 import com.devroic.jsonlite.messages.ErrorMessages;
 import com.devroic.jsonlite.messages.InfoMessages;
 import com.devroic.jsonlite.messages.WarningMessages;
 import com.devroic.jsonlite.operations.OperationsBaseHandler;
 import com.devroic.jsonlite.operations.interfaces.SelectHandler;
+import com.devroic.jsonlite.schema.SchemaField;
+import com.devroic.jsonlite.storage.CollectionStore;
 import com.devroic.jsonlite.utils.JsonLiteClientOperationsHelper;
 import com.devroic.jsonlite.utils.JsonLiteClientValidator;
+import com.devroic.jsonlite.utils.ParallelScan;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 public class SelectHandlerImpl extends OperationsBaseHandler implements SelectHandler {
     private static final Logger logger = LoggerFactory.getLogger(SelectHandlerImpl.class);
 
-    public SelectHandlerImpl(File jsonFile, Class<?> type, String idKey) {
-        super(jsonFile, type, idKey);
+    public SelectHandlerImpl(File jsonFile, Class<?> type, String idKey, CollectionStore store) {
+        super(jsonFile, type, idKey, store);
     }
 
     @Override
     public <T> List<T> handleSelectAll() {
-        try {
-            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
-            if (jsonFile.length() == 0) {
-                return new ArrayList<>();
+        JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+        return this.store.immutableView();
+    }
+
+    // Read-only access to the collection for the select operations that only filter or extract values
+    private <T> List<T> readAll() {
+        JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+        return this.store.view();
+    }
+
+    // Extracts the values of the given JSON keys from every object, as trees in the order of the keys.
+    // When the collection is read from the file only these fields are parsed, without binding the objects.
+    private List<JsonNode[]> project(List<String> jsonKeys) {
+        List<JsonNode[]> rows = this.store.readFields(jsonKeys);
+        if (rows != null) {
+            return rows;
+        }
+        List<Object> allObjects = readAll();
+        rows = new ArrayList<>(allObjects.size());
+        for (Object obj : allObjects) {
+            JsonNode jsonNode = objectMapper.valueToTree(obj);
+            JsonNode[] row = new JsonNode[jsonKeys.size()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = jsonNode.get(jsonKeys.get(i));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    // Reads the objects that may have one of the values for the key. When the key holds text and the collection is
+    // read from the file, the values are compared on the tokens of the file and only the candidates are bound.
+    @SuppressWarnings("unchecked")
+    private <T> List<T> candidates(SchemaField field, Set<String> values, boolean ignoreCase) {
+        if (field.isText()) {
+            List<Object> candidates = this.store.readMatching(field.jsonName(), values, ignoreCase);
+            if (candidates != null) {
+                return (List<T>) candidates;
             }
-            return objectMapper.readValue(jsonFile,
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, this.type));
-        } catch (IOException e) {
-            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_READING, e);
         }
+        return readAll();
+    }
+
+    // Resolves the keys to their JSON names once, instead of for every object
+    private List<String> jsonKeys(String... keys) {
+        List<String> jsonKeys = new ArrayList<>();
+        for (String key : keys) {
+            JsonLiteClientValidator.validateKey(this.schema, key);
+            jsonKeys.add(this.schema.getField(key).jsonName());
+        }
+        return jsonKeys;
     }
 
     @Override
     public List<List<String>> handleSelectKey(String key) {
         try {
             JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
-            JsonLiteClientValidator.validateKey(this.type, key);
+            List<String> jsonKeys = this.jsonKeys(key);
 
-            List<Object> allObjects = handleSelectAll();
             List<List<String>> values = new ArrayList<>();
-            String lowerCaseKey = key.toLowerCase();
-
-            for (Object obj : allObjects) {
-                JsonNode jsonNode = objectMapper.valueToTree(obj);
-                jsonNode.fieldNames().forEachRemaining(field -> {
-                    if (field.toLowerCase().equals(lowerCaseKey)) {
-                        JsonNode valueNode = jsonNode.get(field);
-                        if (valueNode != null) {
-                            List<String> valueList = new ArrayList<>();
-                            if (valueNode.isArray()) {
-                                for (JsonNode arrayElement : valueNode) {
-                                    valueList.add(arrayElement.asText());
-                                }
-                                values.add(valueList);
-                            } else {
-                                if (!valueNode.asText().equals("null")) {
-                                    valueList.add(valueNode.asText());
-                                    values.add(valueList);
-                                }
-                            }
+            for (JsonNode[] row : this.project(jsonKeys)) {
+                JsonNode valueNode = row[0];
+                if (valueNode != null) {
+                    List<String> valueList = new ArrayList<>();
+                    if (valueNode.isArray()) {
+                        for (JsonNode arrayElement : valueNode) {
+                            valueList.add(arrayElement.asText());
+                        }
+                        values.add(valueList);
+                    } else {
+                        if (!valueNode.asText().equals("null")) {
+                            valueList.add(valueNode.asText());
+                            values.add(valueList);
                         }
                     }
-                });
+                }
             }
             return values;
         } catch (RuntimeException e) {
@@ -104,18 +152,10 @@ public class SelectHandlerImpl extends OperationsBaseHandler implements SelectHa
             }
 
             List<List<String>> groupedValues = new ArrayList<>();
-            List<Object> allObjects = handleSelectAll();
-
-            for (Object obj : allObjects) {
+            for (JsonNode[] row : this.project(this.jsonKeys(keys))) {
                 List<String> groupedValuesForObject = new ArrayList<>();
 
-                for (String key : keys) {
-                    JsonLiteClientValidator.validateKey(this.type, key);
-
-                    String lowerCaseKey = key.toLowerCase();
-                    JsonNode jsonNode = objectMapper.valueToTree(obj);
-                    JsonNode valueNode = jsonNode.get(lowerCaseKey);
-
+                for (JsonNode valueNode : row) {
                     if (valueNode != null) {
                         if (valueNode.isArray()) {
                             List<String> valueList = new ArrayList<>();
@@ -140,16 +180,47 @@ public class SelectHandlerImpl extends OperationsBaseHandler implements SelectHa
         }
     }
 
+    @Override
+    public List<Map<String, Object>> handleSelectFields(String... keys) {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            List<String> jsonKeys = this.jsonKeys(keys);
+
+            List<Map<String, Object>> rows = new ArrayList<>();
+            for (JsonNode[] row : this.project(jsonKeys)) {
+                // Each row holds the requested keys in their order, with plain values: strings, numbers, booleans,
+                // lists and maps, or null when the object has no value for the key
+                Map<String, Object> fields = new LinkedHashMap<>();
+                for (int i = 0; i < keys.length; i++) {
+                    JsonNode valueNode = row[i];
+                    fields.put(keys[i], valueNode == null || valueNode.isNull() ? null : objectMapper.treeToValue(valueNode, Object.class));
+                }
+                rows.add(fields);
+            }
+            return rows;
+        } catch (Exception e) {
+            throw new JsonLiteClientOperationException(
+                    String.format(ErrorMessages.FAILED_SELECT_FIELDS, String.join(", ", keys)), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
     public <T> T handleSelectById(String id) {
         try {
             JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
             JsonLiteClientValidator.validateIdKeyExistence(this.idKey);
 
-            List<T> allObjects = handleSelectAll();
-            T foundObject = allObjects.stream()
-                    .filter(object -> JsonLiteClientOperationsHelper.getFieldValue(object, idKey).equals(id))
-                    .findFirst()
-                    .orElse(null);
+            T foundObject;
+            PrimaryIndex primaryIndex = this.store.getPrimaryIndex();
+            if (primaryIndex != null && id != null && !id.isEmpty()) {
+                foundObject = (T) primaryIndex.get(id);
+            } else {
+                List<T> allObjects = readAll();
+                foundObject = allObjects.stream()
+                        .filter(object -> JsonLiteClientOperationsHelper.getFieldValue(object, idKey).equals(id))
+                        .findFirst()
+                        .orElse(null);
+            }
             if (foundObject != null) {
                 logger.info(InfoMessages.OBJECT_FOUND_BY_ID, id);
             } else {
@@ -162,20 +233,28 @@ public class SelectHandlerImpl extends OperationsBaseHandler implements SelectHa
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> List<T> handleSelectByKey(String key, String value) {
         try {
             JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
-            JsonLiteClientValidator.validateKey(this.type, key);
+            JsonLiteClientValidator.validateKey(this.schema, key);
+            SchemaField field = this.schema.getField(key);
 
-            List<T> objects = handleSelectAll();
-            String lowerCaseKey = key.toLowerCase();
+            // With a secondary index only the candidates of the value are checked instead of every object
+            SecondaryIndex secondaryIndex = this.store.getSecondaryIndex(field.name());
+            List<T> objects;
+            if (secondaryIndex != null) {
+                objects = (List<T>) secondaryIndex.find(value);
+            } else {
+                objects = value != null ? this.candidates(field, Set.of(value), true) : readAll();
+            }
 
             List<T> matchedObjects = new ArrayList<>();
             for (T object : objects) {
                 JsonNode jsonNode = objectMapper.valueToTree(object);
-                JsonNode valueNode = jsonNode.get(lowerCaseKey);
+                JsonNode valueNode = jsonNode.get(field.jsonName());
 
-                if (valueNode != null && valueNode.asText().equalsIgnoreCase(value)) {
+                if (valueNode != null && matchesIgnoreCase(valueNode, value)) {
                     matchedObjects.add(object);
                 }
             }
@@ -189,13 +268,51 @@ public class SelectHandlerImpl extends OperationsBaseHandler implements SelectHa
     }
 
     @Override
-    public <T> List<T> handleSelectWhere(Predicate<T> condition) {
+    @SuppressWarnings("unchecked")
+    public <T> List<T> handleSelectByKey(String key, String value, int offset, int limit) {
         try {
             JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
-            List<T> objects = handleSelectAll();
-            List<T> matchingObjects = objects.stream()
-                    .filter(condition)
-                    .toList();
+            JsonLiteClientValidator.validateKey(this.schema, key);
+            JsonLiteClientValidator.validatePage(offset, limit);
+            SchemaField field = this.schema.getField(key);
+            Predicate<T> matchesValue = object -> {
+                JsonNode valueNode = objectMapper.valueToTree(object).get(field.jsonName());
+                return valueNode != null && matchesIgnoreCase(valueNode, value);
+            };
+
+            List<T> page;
+            SecondaryIndex secondaryIndex = this.store.getSecondaryIndex(field.name());
+            try (Stream<T> objects = secondaryIndex != null ? ((List<T>) secondaryIndex.find(value)).stream() : this.store.readLazily()) {
+                page = objects.filter(matchesValue).skip(offset).limit(limit).toList();
+            }
+            if (page.isEmpty()) {
+                logger.warn(WarningMessages.OBJECT_NOT_FOUND_BY_KEY, key, value);
+            }
+            return page;
+        } catch (RuntimeException e) {
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.FAILED_SELECT_BY_KEY, key, value), e);
+        }
+    }
+
+    // A value matches a scalar node equal to it, or an array node containing it, ignoring case
+    private static boolean matchesIgnoreCase(JsonNode valueNode, String value) {
+        if (valueNode.isArray()) {
+            for (JsonNode arrayElement : valueNode) {
+                if (arrayElement.asText().equalsIgnoreCase(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return valueNode.asText().equalsIgnoreCase(value);
+    }
+
+    @Override
+    public <T> List<T> handleSelectWhere(Predicate<T> condition, ParallelScan scan) {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            List<T> objects = readAll();
+            List<T> matchingObjects = Collections.unmodifiableList(scan.filter(objects, condition));
             if (matchingObjects.isEmpty()) {
                 logger.warn(WarningMessages.OBJECT_NOT_FOUND_BY_CONDITION);
             }
@@ -204,4 +321,209 @@ public class SelectHandlerImpl extends OperationsBaseHandler implements SelectHa
             throw new JsonLiteClientOperationException(ErrorMessages.FAILED_SELECT_WHERE, e);
         }
     }
+
+    @Override
+    public <T> List<T> handleSelectWhere(Predicate<T> condition, int offset, int limit) {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            JsonLiteClientValidator.validatePage(offset, limit);
+            List<T> page;
+            try (Stream<T> objects = this.store.readLazily()) {
+                page = objects.filter(condition).skip(offset).limit(limit).toList();
+            }
+            if (page.isEmpty()) {
+                logger.warn(WarningMessages.OBJECT_NOT_FOUND_BY_CONDITION);
+            }
+            return page;
+        } catch (Exception e) {
+            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_SELECT_WHERE, e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> handleSelectAfter(Predicate<T> condition, String afterId, int limit) {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            JsonLiteClientValidator.validateIdKeyExistence(this.idKey);
+            JsonLiteClientValidator.validateComparableKey(this.schema, this.idKey);
+            if (limit <= 0) {
+                throw new IllegalArgumentException(String.format(ErrorMessages.INVALID_LIMIT, limit));
+            }
+            SchemaField field = this.schema.getField(this.idKey);
+            String fieldName = field.name();
+
+            // The ID is converted to the type of the ID key, so the IDs are ordered by their values, e.g. numerically
+            Comparable<Object> after = afterId == null ? null : (Comparable<Object>) objectMapper.convertValue(afterId, field.type());
+
+            // With a sorted index on the ID the page starts with a seek and ends as soon as it is full
+            SortedIndex sortedIndex = this.store.getSortedIndex(fieldName);
+            if (sortedIndex != null) {
+                return (List<T>) sortedIndex.after(after, object -> condition.test((T) object), limit);
+            }
+            // Otherwise only the lowest IDs after the given one are kept while scanning, instead of sorting every object
+            try (Stream<T> objects = this.store.readLazily()) {
+                Iterator<T> candidates = objects
+                        .filter(object -> {
+                            Comparable<Object> id = SortedIndex.valueOf(object, fieldName);
+                            return id != null && (after == null || id.compareTo(after) > 0) && condition.test(object);
+                        })
+                        .iterator();
+                return JsonLiteClientOperationsHelper.firstSorted(candidates, byValueOf(fieldName), limit);
+            }
+        } catch (RuntimeException e) {
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.FAILED_SELECT_AFTER, afterId), e);
+        }
+    }
+
+    @Override
+    public <T> List<T> handleTopK(Comparator<T> comparator, int k) {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            if (k <= 0) {
+                throw new IllegalArgumentException(String.format(ErrorMessages.INVALID_LIMIT, k));
+            }
+            try (Stream<T> objects = this.store.readLazily()) {
+                return JsonLiteClientOperationsHelper.firstSorted(objects.iterator(), comparator, k);
+            }
+        } catch (RuntimeException e) {
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.FAILED_TOP_K, k), e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> handleSelectWhere(KeyCondition condition) {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            JsonLiteClientValidator.validateKeyCondition(this.schema, condition);
+            SchemaField field = this.schema.getField(condition.getKey());
+            Set<String> values = condition.getValues();
+
+            // A secondary index only finds the candidates of one value, so it is used for an equality condition
+            SecondaryIndex secondaryIndex = values.size() == 1 ? this.store.getSecondaryIndex(field.name()) : null;
+            List<T> objects = secondaryIndex != null
+                    ? (List<T>) secondaryIndex.find(values.iterator().next())
+                    : this.candidates(field, values, false);
+
+            List<T> matchingObjects = new ArrayList<>();
+            for (T object : objects) {
+                if (JsonLiteClientOperationsHelper.hasMatchingKeyValue(object, field.name(), values)) {
+                    matchingObjects.add(object);
+                }
+            }
+            if (matchingObjects.isEmpty()) {
+                logger.warn(WarningMessages.OBJECT_NOT_FOUND_BY_CONDITION);
+            }
+            return Collections.unmodifiableList(matchingObjects);
+        } catch (RuntimeException e) {
+            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_SELECT_WHERE, e);
+        }
+    }
+
+    @Override
+    public <T> List<T> handleSelectWhere(Query query) {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            QueryPlan plan = this.planner.plan(query, true);
+            logger.info(InfoMessages.QUERY_PLANNED, query, plan);
+            List<T> matchingObjects = this.planner.execute(query, plan, null);
+            if (matchingObjects.isEmpty()) {
+                logger.warn(WarningMessages.OBJECT_NOT_FOUND_BY_CONDITION);
+            }
+            return matchingObjects;
+        } catch (RuntimeException e) {
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.FAILED_QUERY, query), e);
+        }
+    }
+
+    @Override
+    public QueryPlan handleExplain(Query query) {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            return this.planner.plan(query, true);
+        } catch (RuntimeException e) {
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.FAILED_QUERY, query), e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> handleSelectRange(String key, Object from, Object to) {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            JsonLiteClientValidator.validateComparableKey(this.schema, key);
+            SchemaField field = this.schema.getField(key);
+            String fieldName = field.name();
+
+            // The bounds are converted to the type of the key, so e.g. a String bound can be used for a numeric key
+            Comparable<Object> lower = from == null ? null : (Comparable<Object>) objectMapper.convertValue(from, field.type());
+            Comparable<Object> upper = to == null ? null : (Comparable<Object>) objectMapper.convertValue(to, field.type());
+
+            List<T> matchingObjects;
+            SortedIndex sortedIndex = this.store.getSortedIndex(fieldName);
+            if (sortedIndex != null) {
+                matchingObjects = (List<T>) sortedIndex.range(lower, upper);
+            } else {
+                List<T> objects = readAll();
+                matchingObjects = objects.stream()
+                        .filter(object -> {
+                            Comparable<Object> value = SortedIndex.valueOf(object, fieldName);
+                            return value != null
+                                    && (lower == null || value.compareTo(lower) >= 0)
+                                    && (upper == null || value.compareTo(upper) <= 0);
+                        })
+                        .sorted(byValueOf(fieldName))
+                        .toList();
+            }
+            if (matchingObjects.isEmpty()) {
+                logger.warn(WarningMessages.OBJECT_NOT_FOUND_IN_RANGE, key, from, to);
+            }
+            return matchingObjects;
+        } catch (RuntimeException e) {
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.FAILED_SELECT_RANGE, key), e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> handleSelectOrderBy(String key, int limit, boolean descending) {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            JsonLiteClientValidator.validateComparableKey(this.schema, key);
+            if (limit <= 0) {
+                throw new IllegalArgumentException(String.format(ErrorMessages.INVALID_LIMIT, limit));
+            }
+            String fieldName = this.schema.getField(key).name();
+
+            SortedIndex sortedIndex = this.store.getSortedIndex(fieldName);
+            if (sortedIndex != null) {
+                return (List<T>) sortedIndex.first(limit, descending);
+            }
+            // Objects with equal values keep the order of the collection in both directions, as in the sorted index.
+            // Only the first objects are kept while scanning, instead of sorting every object.
+            Comparator<T> comparator = byValueOf(fieldName);
+            try (Stream<T> objects = this.store.readLazily()) {
+                Iterator<T> candidates = objects.filter(object -> SortedIndex.valueOf(object, fieldName) != null).iterator();
+                return JsonLiteClientOperationsHelper.firstSorted(candidates, descending ? comparator.reversed() : comparator, limit);
+            }
+        } catch (RuntimeException e) {
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.FAILED_SELECT_ORDER_BY, key), e);
+        }
+    }
+
+    private static <T> Comparator<T> byValueOf(String key) {
+        return (first, second) -> SortedIndex.valueOf(first, key).compareTo(SortedIndex.valueOf(second, key));
+    }
+
+    @Override
+    public <T> Stream<T> handleStream() {
+        JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+        return this.store.stream();
+    }
+
+    @Override
+    public <T> Stream<T> handleStreamWhere(Predicate<T> condition) {
+        return this.<T>handleStream().filter(condition);
+    }
 }
@@ -17,14 +17,22 @@
 
 package com.devroic.jsonlite.operations.impl;
 
+import com.devroic.jsonlite.client.KeyCondition;
+import com.devroic.jsonlite.client.Query;
+import com.devroic.jsonlite.client.QueryPlan;
+import com.devroic.jsonlite.index.PrimaryIndex;
+import com.devroic.jsonlite.index.SecondaryIndex;
 import com.devroic.jsonlite.messages.ErrorMessages;
 import com.devroic.jsonlite.messages.InfoMessages;
 import com.devroic.jsonlite.messages.WarningMessages;
 import com.devroic.jsonlite.operations.OperationsBaseHandler;
-import com.devroic.jsonlite.operations.interfaces.SelectHandler;
+import com.devroic.jsonlite.storage.CollectionStore;
+import com.devroic.jsonlite.storage.WorkingCopy;
 import com.devroic.jsonlite.operations.interfaces.UpdateHandler;
 import com.devroic.jsonlite.utils.JsonLiteClientOperationsHelper;
 import com.devroic.jsonlite.utils.JsonLiteClientValidator;
+import com.devroic.jsonlite.utils.ParallelScan;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
@@ -33,55 +41,54 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 
 public class UpdateHandlerImpl extends OperationsBaseHandler implements UpdateHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(UpdateHandlerImpl.class);
-    private final SelectHandler selectHandler;
-
-    public UpdateHandlerImpl(File jsonFile, Class<?> type, String idKey) {
-        super(jsonFile, type, idKey);
-        this.selectHandler = new SelectHandlerImpl(this.jsonFile, this.type, this.idKey);
+    public UpdateHandlerImpl(File jsonFile, Class<?> type, String idKey, CollectionStore store) {
+        super(jsonFile, type, idKey, store);
     }
 
     @Override
     public <T> boolean handleUpdateKey(String key, Object newValue) {
         try {
             JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
-            JsonLiteClientValidator.validateKey(this.type, key);
+            JsonLiteClientValidator.validateKey(this.schema, key);
+            String jsonKey = this.schema.getField(key).jsonName();
 
-            List<T> objects = this.selectHandler.handleSelectAll();
+            WorkingCopy workingCopy = this.store.begin();
+            List<T> objects = workingCopy.objects();
             boolean updated = false;
             int updatedCount = 0;
 
             // Iterate through the objects and update the specific key
-            for (T object : objects) {
+            for (int i = 0; i < objects.size(); i++) {
+                T object = objects.get(i);
                 JsonNode jsonNode = objectMapper.valueToTree(object);
-                JsonNode targetNode = jsonNode.get(key);
+                JsonNode targetNode = jsonNode.get(jsonKey);
 
                 // Check if the key exists and update the value
                 if (targetNode != null) {
                     if (newValue instanceof List<?>) {
                         // If the new value is a list, convert it to a JSON array
-                        ((ObjectNode) jsonNode).set(key, objectMapper.valueToTree(newValue));
+                        ((ObjectNode) jsonNode).set(jsonKey, objectMapper.valueToTree(newValue));
                     } else {
                         // Otherwise, just update the key with the new value
-                        ((ObjectNode) jsonNode).put(key, newValue.toString());
+                        ((ObjectNode) jsonNode).put(jsonKey, newValue.toString());
                     }
                     updated = true;
                     updatedCount++;
 
                     // Update the object in the list after modifying its JSON representation
                     T updatedObject = objectMapper.treeToValue(jsonNode, (Class<T>) object.getClass());
-                    objects.set(objects.indexOf(object), updatedObject);
+                    workingCopy.set(i, updatedObject);
                 }
             }
 
             // If any objects were updated, save the updated list to the file
             if (updated) {
-                JsonLiteClientOperationsHelper.saveToFile(objectMapper, objects, jsonFile);
+                this.store.commit(workingCopy);
                 logger.info(InfoMessages.OBJECTS_UPDATED_BY_KEY, updatedCount, key, newValue);
             }
 
@@ -98,48 +105,56 @@ public class UpdateHandlerImpl extends OperationsBaseHandler implements UpdateHa
             JsonLiteClientValidator.validateIdKeyExistence(this.idKey);
             JsonLiteClientValidator.validateClassMatch(this.type, updatedObject);
 
-            List<T> objects = this.selectHandler.handleSelectAll();
-            AtomicBoolean updated = new AtomicBoolean(false);
+            WorkingCopy workingCopy = this.store.begin();
+            List<T> objects = workingCopy.objects();
+            boolean updated = false;
 
-            List<T> updatedObjects = objects.stream().map(object -> {
-                String objectId = JsonLiteClientOperationsHelper.getFieldValue(object, idKey);
-                if (objectId.equals(id)) {
-                    String updatedObjectId = JsonLiteClientOperationsHelper.getFieldValue(updatedObject, idKey);
-                    if (!updatedObjectId.equals(id)) {
-                        throw new JsonLiteClientOperationException(
-                                String.format(ErrorMessages.ID_MISMATCH_UPDATE, id, updatedObjectId));
-                    }
-                    updated.set(true);
-                    return updatedObject;
+            // With a primary index the position of the object is found without scanning the collection
+            List<Integer> matchingIndexes;
+            PrimaryIndex primaryIndex = this.store.getPrimaryIndex();
+            if (primaryIndex != null && id != null && !id.isEmpty()) {
+                Object existingObject = primaryIndex.get(id);
+                matchingIndexes = existingObject != null ? List.of(workingCopy.positionOf(existingObject)) : List.of();
+            } else {
+                matchingIndexes = JsonLiteClientOperationsHelper.findMatchingIndexes(objects,
+                        object -> JsonLiteClientOperationsHelper.getFieldValue(object, idKey).equals(id));
+            }
+
+            for (int index : matchingIndexes) {
+                String updatedObjectId = JsonLiteClientOperationsHelper.getFieldValue(updatedObject, idKey);
+                if (!updatedObjectId.equals(id)) {
+                    throw new JsonLiteClientOperationException(
+                            String.format(ErrorMessages.ID_MISMATCH_UPDATE, id, updatedObjectId));
                 }
-                return object;
-            }).toList();
+                workingCopy.set(index, updatedObject);
+                updated = true;
+            }
 
-            if (updated.get()) {
-                JsonLiteClientOperationsHelper.saveToFile(objectMapper, updatedObjects, jsonFile);
+            if (updated) {
+                this.store.commit(workingCopy);
                 logger.info(InfoMessages.OBJECT_UPDATED_BY_ID, id);
             } else {
                 logger.warn(WarningMessages.OBJECT_NOT_FOUND_BY_ID, id);
             }
 
-            return updated.get();
+            return updated;
         } catch (Exception e) {
             throw new JsonLiteClientOperationException(String.format(ErrorMessages.FAILED_UPDATE_BY_ID, id), e);
         }
     }
 
     @Override
-    public <T> boolean handleUpdateWhere(Predicate<T> condition, String key, Object newValue) {
+    public <T> boolean handleUpdateWhere(Predicate<T> condition, String key, Object newValue, ParallelScan scan) {
         try {
             JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
-            JsonLiteClientValidator.validateKey(this.type, key);
+            JsonLiteClientValidator.validateKey(this.schema, key);
+            String jsonKey = this.schema.getField(key).jsonName();
 
-            List<T> objects = this.selectHandler.handleSelectAll();
-            List<T> matchingObjects = objects.stream()
-                    .filter(condition)
-                    .toList();
+            WorkingCopy workingCopy = this.store.begin();
+            List<T> objects = workingCopy.objects();
+            List<Integer> matchingIndexes = scan.findMatchingIndexes(objects, condition);
 
-            if (matchingObjects.isEmpty()) {
+            if (matchingIndexes.isEmpty()) {
                 logger.warn(WarningMessages.OBJECT_NOT_FOUND_BY_CONDITION);
                 return false;
             }
@@ -148,31 +163,32 @@ public class UpdateHandlerImpl extends OperationsBaseHandler implements UpdateHa
             int updatedCount = 0;
 
             // Iterate only over matching objects instead of all objects
-            for (T object : matchingObjects) {
+            for (int index : matchingIndexes) {
+                T object = objects.get(index);
                 JsonNode jsonNode = objectMapper.valueToTree(object);
-                JsonNode targetNode = jsonNode.get(key);
+                JsonNode targetNode = jsonNode.get(jsonKey);
 
                 // Check if the key exists and update the value
                 if (targetNode != null) {
                     if (newValue instanceof List<?>) {
                         // If the new value is a list, convert it to a JSON array
-                        ((ObjectNode) jsonNode).set(key, objectMapper.valueToTree(newValue));
+                        ((ObjectNode) jsonNode).set(jsonKey, objectMapper.valueToTree(newValue));
                     } else {
                         // Otherwise, just update the key with the new value
-                        ((ObjectNode) jsonNode).put(key, newValue.toString());
+                        ((ObjectNode) jsonNode).put(jsonKey, newValue.toString());
                     }
                     updated = true;
                     updatedCount++;
 
                     // Update the object in the list after modifying its JSON representation
                     T updatedObject = objectMapper.treeToValue(jsonNode, (Class<T>) object.getClass());
-                    objects.set(objects.indexOf(object), updatedObject);
+                    workingCopy.set(index, updatedObject);
                 }
             }
 
             // If any objects were updated, save the updated list to the file
             if (updated) {
-                JsonLiteClientOperationsHelper.saveToFile(objectMapper, objects, jsonFile);
+                this.store.commit(workingCopy);
                 logger.info(InfoMessages.OBJECTS_UPDATED_WHERE, updatedCount, key, newValue);
             }
 
@@ -183,59 +199,177 @@ public class UpdateHandlerImpl extends OperationsBaseHandler implements UpdateHa
     }
 
     @Override
-    public <T> boolean handleUpdateWhere(Predicate<T> condition, Map<String, Object> updates) {
+    public <T> boolean handleUpdateWhere(Predicate<T> condition, Map<String, Object> updates, ParallelScan scan) {
         try {
             JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
 
-            List<T> objects = this.selectHandler.handleSelectAll();
-            List<T> matchingObjects = objects.stream()
-                    .filter(condition)
-                    .toList();
+            WorkingCopy workingCopy = this.store.begin();
+            List<T> objects = workingCopy.objects();
+            List<Integer> matchingIndexes = scan.findMatchingIndexes(objects, condition);
 
-            if (matchingObjects.isEmpty()) {
+            if (matchingIndexes.isEmpty()) {
                 logger.warn(WarningMessages.OBJECT_NOT_FOUND_BY_CONDITION);
                 return false;
             }
 
-            boolean updated = false;
-            int updatedCount = 0;
+            int updatedCount = this.applyUpdates(workingCopy, matchingIndexes, updates);
+            if (updatedCount > 0) {
+                this.store.commit(workingCopy);
+                logger.info(InfoMessages.OBJECTS_UPDATED_WHERE, updatedCount, updates);
+            }
 
-            for (T object : matchingObjects) {
-                JsonNode jsonNode = objectMapper.valueToTree(object);
-                ObjectNode objectNode = (ObjectNode) jsonNode;
-
-                for (var entry : updates.entrySet()) {
-                    String key = entry.getKey();
-                    JsonLiteClientValidator.validateKey(this.type, key);
-                    Object newValue = entry.getValue();
-
-                    if (jsonNode.has(key)) {
-                        if (newValue instanceof List<?>) {
-                            objectNode.set(key, objectMapper.valueToTree(newValue));
-                        } else {
-                            objectNode.put(key, newValue.toString());
-                        }
-                        updated = true;
-                    }
-                }
+            return updatedCount > 0;
+        } catch (Exception e) {
+            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_UPDATE_WHERE, e);
+        }
+    }
 
-                if (updated) {
-                    T updatedObject = objectMapper.treeToValue(jsonNode, (Class<T>) object.getClass());
-                    objects.set(objects.indexOf(object), updatedObject);
-                    updatedCount++;
-                }
+    @Override
+    public <T> boolean handleUpdateWhere(KeyCondition condition, Map<String, Object> updates) {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            JsonLiteClientValidator.validateKeyCondition(this.schema, condition);
+            String fieldName = this.schema.getField(condition.getKey()).name();
+            Set<String> values = condition.getValues();
+
+            WorkingCopy workingCopy = this.store.begin();
+            List<T> objects = workingCopy.objects();
+            List<Integer> matchingIndexes;
+
+            // A secondary index only finds the candidates of one value, so it is used for an equality condition
+            SecondaryIndex secondaryIndex = values.size() == 1 ? this.store.getSecondaryIndex(fieldName) : null;
+            if (secondaryIndex != null) {
+                List<Object> matchingObjects = secondaryIndex.find(values.iterator().next()).stream()
+                        .filter(object -> JsonLiteClientOperationsHelper.hasMatchingKeyValue(object, fieldName, values))
+                        .toList();
+                matchingIndexes = workingCopy.positionsOf(matchingObjects);
+            } else {
+                matchingIndexes = JsonLiteClientOperationsHelper.findMatchingIndexes(objects,
+                        object -> JsonLiteClientOperationsHelper.hasMatchingKeyValue(object, fieldName, values));
             }
 
-            if (updated) {
-                JsonLiteClientOperationsHelper.saveToFile(objectMapper, objects, jsonFile);
+            if (matchingIndexes.isEmpty()) {
+                logger.warn(WarningMessages.OBJECT_NOT_FOUND_BY_CONDITION);
+                return false;
+            }
+
+            int updatedCount = this.applyUpdates(workingCopy, matchingIndexes, updates);
+            if (updatedCount > 0) {
+                this.store.commit(workingCopy);
                 logger.info(InfoMessages.OBJECTS_UPDATED_WHERE, updatedCount, updates);
             }
 
-            return updated;
+            return updatedCount > 0;
         } catch (Exception e) {
             throw new JsonLiteClientOperationException(ErrorMessages.FAILED_UPDATE_WHERE, e);
         }
     }
 
+    @Override
+    public <T> boolean handleUpdateWhere(Query query, Map<String, Object> updates) {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            WorkingCopy workingCopy = this.store.begin();
+            QueryPlan plan = this.planner.plan(query, false);
+            logger.info(InfoMessages.QUERY_PLANNED, query, plan);
+            List<Integer> matchingIndexes = workingCopy.positionsOf(this.planner.execute(query, plan, workingCopy.objects()));
 
+            if (matchingIndexes.isEmpty()) {
+                logger.warn(WarningMessages.OBJECT_NOT_FOUND_BY_CONDITION);
+                return false;
+            }
+
+            int updatedCount = this.applyUpdates(workingCopy, matchingIndexes, updates);
+            if (updatedCount > 0) {
+                this.store.commit(workingCopy);
+                logger.info(InfoMessages.OBJECTS_UPDATED_WHERE, updatedCount, updates);
+            }
+
+            return updatedCount > 0;
+        } catch (Exception e) {
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.FAILED_QUERY, query), e);
+        }
+    }
+
+    @Override
+    public <T> boolean handleUpdateByKey(String key, String value, Map<String, Object> updates) {
+        try {
+            JsonLiteClientValidator.validateJsonFileExistence(this.jsonFile);
+            JsonLiteClientValidator.validateKey(this.schema, key);
+            String fieldName = this.schema.getField(key).name();
+
+            WorkingCopy workingCopy = this.store.begin();
+            List<T> objects = workingCopy.objects();
+            List<Integer> matchingIndexes;
+
+            // With a secondary index only the candidates of the value are checked instead of every object
+            SecondaryIndex secondaryIndex = this.store.getSecondaryIndex(fieldName);
+            if (secondaryIndex != null) {
+                List<Object> matchingObjects = secondaryIndex.find(value).stream()
+                        .filter(object -> JsonLiteClientOperationsHelper.hasMatchingKeyValue(object, fieldName, value))
+                        .toList();
+                matchingIndexes = workingCopy.positionsOf(matchingObjects);
+            } else {
+                matchingIndexes = JsonLiteClientOperationsHelper.findMatchingIndexes(objects,
+                        object -> JsonLiteClientOperationsHelper.hasMatchingKeyValue(object, fieldName, value));
+            }
+
+            if (matchingIndexes.isEmpty()) {
+                logger.warn(WarningMessages.OBJECT_NOT_FOUND_BY_KEY, key, value);
+                return false;
+            }
+
+            int updatedCount = this.applyUpdates(workingCopy, matchingIndexes, updates);
+            if (updatedCount > 0) {
+                this.store.commit(workingCopy);
+                logger.info(InfoMessages.OBJECTS_UPDATED_BY_MATCHING_KEY, updatedCount, key, value, updates);
+            }
+
+            return updatedCount > 0;
+        } catch (Exception e) {
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.FAILED_UPDATE_BY_MATCHING_KEY, key, value), e);
+        }
+    }
+
+    // Sets the key-value pairs on the objects at the given positions and returns how many objects were updated
+    private <T> int applyUpdates(WorkingCopy workingCopy, List<Integer> matchingIndexes, Map<String, Object> updates)
+            throws JsonProcessingException {
+        List<T> objects = workingCopy.objects();
+        boolean updated = false;
+        int updatedCount = 0;
+
+        // Keys are validated and resolved to their JSON names once, instead of for every matching object
+        Map<String, Object> jsonUpdates = new LinkedHashMap<>();
+        for (var entry : updates.entrySet()) {
+            JsonLiteClientValidator.validateKey(this.schema, entry.getKey());
+            jsonUpdates.put(this.schema.getField(entry.getKey()).jsonName(), entry.getValue());
+        }
+
+        for (int index : matchingIndexes) {
+            T object = objects.get(index);
+            JsonNode jsonNode = objectMapper.valueToTree(object);
+            ObjectNode objectNode = (ObjectNode) jsonNode;
+
+            for (var entry : jsonUpdates.entrySet()) {
+                String key = entry.getKey();
+                Object newValue = entry.getValue();
+
+                if (jsonNode.has(key)) {
+                    if (newValue instanceof List<?>) {
+                        objectNode.set(key, objectMapper.valueToTree(newValue));
+                    } else {
+                        objectNode.put(key, newValue.toString());
+                    }
+                    updated = true;
+                }
+            }
+
+            if (updated) {
+                T updatedObject = objectMapper.treeToValue(jsonNode, (Class<T>) object.getClass());
+                workingCopy.set(index, updatedObject);
+                updatedCount++;
+            }
+        }
+        return updatedCount;
+    }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.operations.interfaces;
+
+import java.util.Map;
+import java.util.function.Predicate;
+
+public interface AggregateHandler {
+    long handleCount();
+
+    <T> long handleCountWhere(Predicate<T> condition);
+
+    boolean handleExists(String id);
+
+    <T> boolean handleExistsWhere(Predicate<T> condition);
+
+    Map<String, Long> handleGroupByCount(String key);
+
+    Number handleMin(String key);
+
+    Number handleMax(String key);
+
+    Number handleSum(String key);
+
+    Double handleAvg(String key);
+}
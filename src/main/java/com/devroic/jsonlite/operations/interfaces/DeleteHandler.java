@@ -17,6 +17,10 @@
 
 package com.devroic.jsonlite.operations.interfaces;
 
+import com.devroic.jsonlite.client.KeyCondition;
+import com.devroic.jsonlite.client.Query;
+import com.devroic.jsonlite.utils.ParallelScan;
+
 import java.util.function.Predicate;
 
 public interface DeleteHandler {
@@ -26,5 +30,9 @@ public interface DeleteHandler {
 
     <T> boolean handleDeleteByKey(String key, String value);
 
-    <T> boolean handleDeleteWhere(Predicate<T> condition);
+    <T> boolean handleDeleteWhere(Predicate<T> condition, ParallelScan scan);
+
+    <T> boolean handleDeleteWhere(KeyCondition condition);
+
+    <T> boolean handleDeleteWhere(Query query);
 }
@@ -17,8 +17,16 @@
 
 package com.devroic.jsonlite.operations.interfaces;
 
+import com.devroic.jsonlite.client.KeyCondition;
+import com.devroic.jsonlite.client.Query;
+import com.devroic.jsonlite.client.QueryPlan;
+import com.devroic.jsonlite.utils.ParallelScan;
+
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 public interface SelectHandler {
     <T> List<T> handleSelectAll();
@@ -27,10 +35,34 @@ public interface SelectHandler {
 
     List<List<String>> handleSelectKeys(String... keys);
 
+    List<Map<String, Object>> handleSelectFields(String... keys);
+
     <T> T handleSelectById(String id);
 
     <T> List<T> handleSelectByKey(String key, String value);
 
-    <T> List<T> handleSelectWhere(Predicate<T> condition);
+    <T> List<T> handleSelectByKey(String key, String value, int offset, int limit);
+
+    <T> List<T> handleSelectWhere(Predicate<T> condition, ParallelScan scan);
+
+    <T> List<T> handleSelectWhere(KeyCondition condition);
+
+    <T> List<T> handleSelectWhere(Query query);
+
+    QueryPlan handleExplain(Query query);
+
+    <T> List<T> handleSelectWhere(Predicate<T> condition, int offset, int limit);
+
+    <T> List<T> handleSelectAfter(Predicate<T> condition, String afterId, int limit);
+
+    <T> List<T> handleTopK(Comparator<T> comparator, int k);
+
+    <T> List<T> handleSelectRange(String key, Object from, Object to);
+
+    <T> List<T> handleSelectOrderBy(String key, int limit, boolean descending);
+
+    <T> Stream<T> handleStream();
+
+    <T> Stream<T> handleStreamWhere(Predicate<T> condition);
 
 }
@@ -17,6 +17,10 @@
 
 package com.devroic.jsonlite.operations.interfaces;
 
+import com.devroic.jsonlite.client.KeyCondition;
+import com.devroic.jsonlite.client.Query;
+import com.devroic.jsonlite.utils.ParallelScan;
+
 import java.util.Map;
 import java.util.function.Predicate;
 
@@ -25,8 +29,14 @@ public interface UpdateHandler {
 
     <T> boolean handleUpdateById(String id, T updatedObject);
 
-    <T> boolean handleUpdateWhere(Predicate<T> condition, String key, Object newValue);
+    <T> boolean handleUpdateWhere(Predicate<T> condition, String key, Object newValue, ParallelScan scan);
+
+    <T> boolean handleUpdateWhere(Predicate<T> condition, Map<String, Object> updates, ParallelScan scan);
+
+    <T> boolean handleUpdateWhere(KeyCondition condition, Map<String, Object> updates);
+
+    <T> boolean handleUpdateWhere(Query query, Map<String, Object> updates);
 
-    <T> boolean handleUpdateWhere(Predicate<T> condition, Map<String, Object> updates);
+    <T> boolean handleUpdateByKey(String key, String value, Map<String, Object> updates);
 
 }
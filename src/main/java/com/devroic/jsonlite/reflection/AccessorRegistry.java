@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.reflection;
+
+/**
+ * Process-wide registry of the accessors of every type used by the clients. The accessors of a type are resolved
+ * the first time the type is seen, which is when a client for it is built, and are shared by all the clients.
+ */
+public class AccessorRegistry {
+
+    private static final ClassValue<TypeAccessors> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected TypeAccessors computeValue(Class<?> type) {
+            return new TypeAccessors(type);
+        }
+    };
+
+    // Private constructor to prevent instantiation of this utility class
+    private AccessorRegistry() {
+    }
+
+    public static TypeAccessors forType(Class<?> type) {
+        return ACCESSORS.get(type);
+    }
+
+    // Reads the value of the key from the object, keeping its original type
+    public static Object get(Object object, String key) {
+        return ACCESSORS.get(object.getClass()).getAccessor(key).get(object);
+    }
+}
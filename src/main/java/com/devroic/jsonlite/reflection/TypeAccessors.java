@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.reflection;
+
+import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.messages.ErrorMessages;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * The accessors of a type, resolved once and cached, so reading a key of an object is a plain method call
+ * instead of a reflective lookup and invocation.
+ * <p>
+ * The getter of a key is the public no-argument method named "get" followed by the key with its first letter in upper
+ * case. Getters are turned into Functions with LambdaMetafactory, and called through a MethodHandle instead when the
+ * generated class could not link to them, e.g. when the type is loaded by a child class loader of a webapp or plugin.
+ */
+public class TypeAccessors {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final ClassLoader LIBRARY_LOADER = TypeAccessors.class.getClassLoader();
+
+    private final Class<?> type;
+    private final Map<String, PropertyAccessor> accessors = new ConcurrentHashMap<>();
+
+    TypeAccessors(Class<?> type) {
+        this.type = type;
+        for (Field field : type.getDeclaredFields()) {
+            // Resolve the getters of the declared fields upfront, keys without a getter fail when they are used
+            Method getter = findGetter(type, field.getName());
+            if (getter != null) {
+                PropertyAccessor accessor = createAccessor(getter);
+                if (accessor != null) {
+                    this.accessors.put(field.getName(), accessor);
+                }
+            }
+        }
+    }
+
+    // Returns the accessor of the key, resolving and caching it on first use
+    public PropertyAccessor getAccessor(String key) {
+        PropertyAccessor accessor = this.accessors.get(key);
+        if (accessor != null) {
+            return accessor;
+        }
+        Method getter = findGetter(this.type, key);
+        accessor = getter != null ? createAccessor(getter) : null;
+        if (accessor == null) {
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.MISSING_GETTER, this.type.getSimpleName(), key));
+        }
+        this.accessors.put(key, accessor);
+        return accessor;
+    }
+
+    private static Method findGetter(Class<?> type, String key) {
+        if (key == null || key.isEmpty()) {
+            return null;
+        }
+        try {
+            Method getter = type.getMethod("get" + key.substring(0, 1).toUpperCase() + key.substring(1));
+            return getter.getParameterCount() == 0 && getter.getReturnType() != void.class ? getter : null;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    // Returns null when the getter cannot be accessed, e.g. when the class is not public
+    @SuppressWarnings("unchecked")
+    private static PropertyAccessor createAccessor(Method getter) {
+        MethodHandle handle;
+        try {
+            handle = LOOKUP.unreflect(getter);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+        Class<?> valueType = MethodType.methodType(getter.getReturnType()).wrap().returnType();
+        // The generated class is defined in the loader of this library, so it can only link to the types it can see
+        if (!isVisibleFromLibrary(getter.getDeclaringClass()) || !isVisibleFromLibrary(getter.getReturnType())) {
+            return new PropertyAccessor(invoker(handle), valueType);
+        }
+        try {
+            CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    MethodType.methodType(valueType, getter.getDeclaringClass()));
+            return new PropertyAccessor((Function<Object, Object>) callSite.getTarget().invoke(), valueType);
+        } catch (Throwable e) {
+            // The getter cannot be implemented by a generated class, it is called through its method handle instead
+            return new PropertyAccessor(invoker(handle), valueType);
+        }
+    }
+
+    private static boolean isVisibleFromLibrary(Class<?> type) {
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, LIBRARY_LOADER) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static Function<Object, Object> invoker(MethodHandle handle) {
+        MethodHandle genericHandle = handle.asType(MethodType.methodType(Object.class, Object.class));
+        return object -> {
+            try {
+                return genericHandle.invokeExact(object);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.schema;
+
+import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.messages.ErrorMessages;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The keys of the objects of a collection, built once per client from the declared fields of its type.
+ * <p>
+ * Keys given to the operations are resolved here, ignoring case, either by the name of the Java field or by the
+ * name of the JSON property, so that the operations neither scan the fields of the class nor guess the JSON name.
+ */
+public class SchemaDescriptor {
+
+    private final Class<?> type;
+    private final String idKey;
+    private final List<SchemaField> fields;
+    // Fields by their Java name and by their JSON name, in lower case
+    private final Map<String, SchemaField> fieldsByKey = new HashMap<>();
+    private final SchemaField idField;
+
+    public SchemaDescriptor(Class<?> type, String idKey) {
+        this.type = type;
+        this.idKey = idKey;
+
+        // The JSON names are the ones Jackson uses when reading and writing the objects
+        ObjectMapper objectMapper = new ObjectMapper();
+        BeanDescription description = objectMapper.getSerializationConfig().introspect(objectMapper.constructType(type));
+        Map<String, String> jsonNames = new HashMap<>();
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            jsonNames.put(property.getInternalName(), property.getName());
+        }
+
+        Map<String, SchemaField> declaredFields = new LinkedHashMap<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (field.isSynthetic() || Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            Class<?> fieldType = field.getType();
+            SchemaField schemaField = new SchemaField(
+                    field.getName(),
+                    jsonNames.getOrDefault(field.getName(), field.getName()),
+                    MethodType.methodType(fieldType).wrap().returnType(),
+                    Collection.class.isAssignableFrom(fieldType) || fieldType.isArray(),
+                    field.getName().equals(idKey),
+                    elementType(field));
+            declaredFields.put(field.getName(), schemaField);
+            this.fieldsByKey.put(field.getName().toLowerCase(Locale.ROOT), schemaField);
+        }
+        // JSON names are looked up after the Java names, so a Java name is never shadowed by a JSON name
+        for (SchemaField schemaField : declaredFields.values()) {
+            this.fieldsByKey.putIfAbsent(schemaField.jsonName().toLowerCase(Locale.ROOT), schemaField);
+        }
+        this.fields = List.copyOf(declaredFields.values());
+        this.idField = idKey != null ? declaredFields.get(idKey) : null;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public String getIdKey() {
+        return idKey;
+    }
+
+    public List<SchemaField> getFields() {
+        return fields;
+    }
+
+    // Returns the field of the idKey, or null if the client has no idKey
+    public SchemaField getIdField() {
+        return idField;
+    }
+
+    public boolean hasField(String key) {
+        return key != null && this.fieldsByKey.containsKey(key.toLowerCase(Locale.ROOT));
+    }
+
+    // Returns the field of the key, matching its Java or JSON name ignoring case
+    public SchemaField getField(String key) {
+        SchemaField field = key != null ? this.fieldsByKey.get(key.toLowerCase(Locale.ROOT)) : null;
+        if (field == null) {
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.KEY_NOT_FOUND_IN_CLASS, key, this.type.getSimpleName()));
+        }
+        return field;
+    }
+
+    // Returns the type of the elements of a collection or array field, when it is declared as a class
+    private static Class<?> elementType(Field field) {
+        if (field.getType().isArray()) {
+            return field.getType().getComponentType();
+        }
+        if (Collection.class.isAssignableFrom(field.getType())
+                && field.getGenericType() instanceof ParameterizedType parameterized
+                && parameterized.getActualTypeArguments().length == 1
+                && parameterized.getActualTypeArguments()[0] instanceof Class<?> elementClass) {
+            return elementClass;
+        }
+        return null;
+    }
+}
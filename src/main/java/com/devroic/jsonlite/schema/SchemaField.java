@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.schema;
+
+/**
+ * A key of the objects of a collection, as described by the SchemaDescriptor of their type.
+ *
+ * @param name     the name of the Java field, used for reading the value through its getter.
+ * @param jsonName the name of the property in the JSON file, which can differ from the field name (e.g. with @JsonProperty).
+ * @param type     the type of the field, with primitive types boxed.
+ * @param list     whether the field holds a collection or an array of values.
+ * @param id       whether the field is the idKey of the client.
+ * @param elementType the type of the elements of a collection or array field, or null if it is not known.
+ */
+public record SchemaField(String name, String jsonName, Class<?> type, boolean list, boolean id, Class<?> elementType) {
+
+    // Whether every value of the field is a string, kept in the objects exactly as it is written in the JSON file
+    public boolean isText() {
+        return this.list ? this.elementType == String.class : this.type == String.class;
+    }
+}
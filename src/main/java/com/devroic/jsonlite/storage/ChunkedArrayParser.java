@@ -0,0 +1,253 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.storage;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Parses the top-level array of a JSON document in chunks bound concurrently on a ForkJoinPool.
+ * A single pass over the bytes finds the boundaries of the elements, tracking strings, escapes and the depth of
+ * brackets, and cuts the array at the commas between elements into chunks of about the same size. Each chunk is
+ * then parsed as an array of its own, and the parsed chunks are concatenated in the order of the document.
+ * The document is read from a file, from bytes in memory or from a mapped buffer.
+ * Documents the scanner cannot split (e.g. not an array, or with a byte order mark) are left to a regular parse.
+ */
+final class ChunkedArrayParser {
+
+    // Smallest chunk bound by a single task, below which splitting costs more than it saves
+    private static final long MIN_CHUNK_SIZE = 256L * 1024;
+    // Number of chunks per worker thread, so workers finishing early can take the chunks of slower ones
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final JavaType collectionType;
+    private final ForkJoinPool pool;
+
+    ChunkedArrayParser(ObjectMapper objectMapper, JavaType collectionType, ForkJoinPool pool) {
+        this.objectMapper = objectMapper;
+        this.collectionType = collectionType;
+        this.pool = pool;
+    }
+
+    // Parses the array of the file, or returns null if the file cannot be split.
+    // Chunks are read from the file by each worker, so the whole file is never held in memory as bytes.
+    List<Object> parse(File file) throws IOException {
+        List<long[]> chunks;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file.toPath()), BUFFER_SIZE)) {
+            chunks = split(in, this.chunkSize(file.length()));
+        }
+        if (chunks == null) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return this.bind(chunks, (from, to) -> new ByteArrayInputStream(readChunk(channel, from, to)));
+        }
+    }
+
+    // Parses the array of the content, or returns null if the content cannot be split
+    List<Object> parse(byte[] content) throws IOException {
+        List<long[]> chunks = split(new ByteArrayInputStream(content), this.chunkSize(content.length));
+        if (chunks == null) {
+            return null;
+        }
+        return this.bind(chunks, (from, to) -> enclosed(new ByteArrayInputStream(content, (int) from, (int) (to - from))));
+    }
+
+    // Parses the array of a mapped file, or returns null if the file cannot be split.
+    // Both the scanner and the workers read the mapped pages directly, each through its own view of the buffer.
+    List<Object> parse(ByteBuffer content) throws IOException {
+        List<long[]> chunks = split(new ByteBufferBackedInputStream(content.duplicate()), this.chunkSize(content.remaining()));
+        if (chunks == null) {
+            return null;
+        }
+        return this.bind(chunks, (from, to) -> enclosed(new ByteBufferBackedInputStream(content.slice((int) from, (int) (to - from)))));
+    }
+
+    private long chunkSize(long length) {
+        return Math.max(MIN_CHUNK_SIZE, length / ((long) this.pool.getParallelism() * CHUNKS_PER_THREAD));
+    }
+
+    // Binds every chunk on the pool and concatenates the parsed elements in the order of the chunks
+    private List<Object> bind(List<long[]> chunks, ChunkReader reader) throws IOException {
+        List<ForkJoinTask<List<Object>>> tasks = new ArrayList<>(chunks.size());
+        for (long[] chunk : chunks) {
+            tasks.add(this.pool.submit(() -> {
+                try {
+                    return this.objectMapper.<List<Object>>readValue(reader.read(chunk[0], chunk[1]), this.collectionType);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        }
+        List<List<Object>> parsed = new ArrayList<>(tasks.size());
+        int size = 0;
+        try {
+            for (ForkJoinTask<List<Object>> task : tasks) {
+                List<Object> elements = task.join();
+                parsed.add(elements);
+                size += elements.size();
+            }
+        } catch (UncheckedIOException e) {
+            tasks.forEach(task -> task.cancel(false));
+            throw e.getCause();
+        }
+        List<Object> objects = new ArrayList<>(size);
+        parsed.forEach(objects::addAll);
+        return objects;
+    }
+
+    // Returns the ranges of bytes, from inclusive to exclusive, holding the elements of each chunk of the top-level
+    // array, or null if the input is not a single array the scanner can split.
+    // Bytes of multi-byte UTF-8 characters never match the ASCII structural characters, so they need no decoding.
+    static List<long[]> split(InputStream in, long chunkSize) throws IOException {
+        List<long[]> chunks = new ArrayList<>();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long position = -1;
+        long chunkStart = -1;
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        boolean closed = false;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                position++;
+                byte b = buffer[i];
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (b == '\\') {
+                        escaped = true;
+                    } else if (b == '"') {
+                        inString = false;
+                    }
+                    continue;
+                }
+                if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                    continue;
+                }
+                if (closed) {
+                    return null;
+                }
+                switch (b) {
+                    case '"' -> {
+                        if (depth == 0) {
+                            return null;
+                        }
+                        inString = true;
+                    }
+                    case '[', '{' -> {
+                        if (depth == 0) {
+                            if (b != '[' || chunkStart >= 0) {
+                                return null;
+                            }
+                            chunkStart = position + 1;
+                        }
+                        depth++;
+                    }
+                    case ']', '}' -> {
+                        if (--depth < 0) {
+                            return null;
+                        }
+                        if (depth == 0) {
+                            if (b != ']' || !addChunk(chunks, chunkStart, position)) {
+                                return null;
+                            }
+                            closed = true;
+                        }
+                    }
+                    case ',' -> {
+                        if (depth == 1 && position - chunkStart >= chunkSize) {
+                            if (!addChunk(chunks, chunkStart, position)) {
+                                return null;
+                            }
+                            chunkStart = position + 1;
+                        }
+                    }
+                    default -> {
+                        if (depth == 0) {
+                            return null;
+                        }
+                    }
+                }
+            }
+        }
+        return closed ? chunks : null;
+    }
+
+    // Adds a chunk, unless it is too large to be read into a single array
+    private static boolean addChunk(List<long[]> chunks, long from, long to) {
+        if (to - from > Integer.MAX_VALUE - 2) {
+            return false;
+        }
+        chunks.add(new long[]{from, to});
+        return true;
+    }
+
+    // Reads the elements of a chunk from the file, enclosed in brackets so they parse as an array
+    private static byte[] readChunk(FileChannel channel, long from, long to) throws IOException {
+        byte[] bytes = enclosed((int) (to - from));
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 2);
+        long position = from;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("JSON file ended while reading the chunk at " + position);
+            }
+            position += read;
+        }
+        return bytes;
+    }
+
+    // Encloses the elements of a chunk in brackets without copying them, so they parse as an array
+    private static InputStream enclosed(InputStream elements) {
+        return new SequenceInputStream(new SequenceInputStream(new ByteArrayInputStream(new byte[]{'['}), elements),
+                new ByteArrayInputStream(new byte[]{']'}));
+    }
+
+    private static byte[] enclosed(int length) {
+        byte[] bytes = new byte[length + 2];
+        bytes[0] = '[';
+        bytes[length + 1] = ']';
+        return bytes;
+    }
+
+    @FunctionalInterface
+    private interface ChunkReader {
+        InputStream read(long from, long to) throws IOException;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.storage;
+
+import com.devroic.jsonlite.index.CollectionIndexes;
+
+import java.util.List;
+
+/**
+ * A version of the collection of a JSON file. Snapshots of collections kept in memory are published by every commit,
+ * so readers use the current snapshot without locking while writers build the next version.
+ * <p>
+ * The list of objects and the indexes of a published snapshot never change, but the objects are shared with every
+ * caller they are returned to and with the later snapshots that still hold them. An object changed in place by a
+ * caller changes every snapshot holding it, and is written to the file by the next commit, so callers must change a
+ * copy of an object and pass the copy to an update operation.
+ *
+ * @param version     the version of the collection, increased by every published snapshot of the store.
+ * @param objects     the unmodifiable objects of the collection.
+ * @param fingerprint the fingerprint of the file the collection was read from or written to, or null if not known.
+ * @param indexes     the indexes of the objects, never changed once published, or null if the collection is not kept in memory.
+ */
+public record CollectionSnapshot(long version, List<Object> objects, FileFingerprint fingerprint, CollectionIndexes indexes) {
+}
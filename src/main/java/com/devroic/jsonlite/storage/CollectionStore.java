@@ -0,0 +1,809 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.devroic.jsonlite.storage;
+
+import com.devroic.jsonlite.client.CacheMode;
+import com.devroic.jsonlite.client.LockMode;
+import com.devroic.jsonlite.client.ReadMode;
+import com.devroic.jsonlite.client.StorageMode;
+import com.devroic.jsonlite.client.WriteMode;
+import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.index.CollectionIndexes;
+import com.devroic.jsonlite.index.PrimaryIndex;
+import com.devroic.jsonlite.index.SecondaryIndex;
+import com.devroic.jsonlite.index.SortedIndex;
+import com.devroic.jsonlite.schema.SchemaDescriptor;
+import com.devroic.jsonlite.messages.ErrorMessages;
+import com.devroic.jsonlite.messages.InfoMessages;
+import com.devroic.jsonlite.messages.WarningMessages;
+import com.devroic.jsonlite.utils.JsonLiteClientOperationsHelper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Loads and persists the collection of a JSON file for all the operation handlers of a client.
+ * When the cache mode is {@link CacheMode#IN_MEMORY} the parsed collection is kept in memory and is
+ * only parsed again when the size or modification time of the file changes.
+ * When the storage mode is {@link StorageMode#APPEND_LOG} mutations are appended to a {@link MutationLog}
+ * instead of rewriting the file, and the log is folded back into the file by a background compaction.
+ * <p>
+ * Operations are guarded by the {@link FileLocks lock of the file}, shared by all the stores of the same file.
+ * Every mutating operation is a unit of work that holds the write lock from loading the collection until its changes
+ * are committed, so concurrent writers cannot lose each other's changes. Read operations run in parallel, under the
+ * read lock unless the collection is in memory.
+ * <p>
+ * A collection kept in memory is published as {@link CollectionSnapshot snapshots} whose lists and indexes never change:
+ * every commit builds the next version of the list and of the indexes on copies, and swaps it in as a whole. Read
+ * operations pin the current snapshot without locking, so they never wait for writers and always see a single version
+ * of the collection. The objects themselves are shared by the snapshots and returned to callers without copying them.
+ * <p>
+ * With a write-behind {@link WriteMode} commits only publish the next snapshot and queue their mutations, which a
+ * background flusher persists together after the flush interval, or right away once the flush threshold is reached.
+ * With {@link LockMode#INTER_PROCESS} the lock also holds a lock on a sidecar file through the operating system,
+ * so other processes using the same mode never read the file while it is being written.
+ */
+public class CollectionStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(CollectionStore.class);
+
+    // Logs smaller than this are never compacted because of the ratio, to avoid compacting small files on every write
+    private static final long MIN_RATIO_COMPACTION_SIZE = 64L * 1024;
+
+    // Single background thread shared by all the stores for compacting their mutation logs
+    private static final ExecutorService COMPACTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "jsonlite-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Single background thread shared by all the stores for flushing their pending mutations
+    private static final ScheduledExecutorService FLUSHER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "jsonlite-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The stores with pending mutations, which are flushed when the JVM exits
+    private static final Set<CollectionStore> WRITE_BEHIND_STORES = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> WRITE_BEHIND_STORES.forEach(CollectionStore::flushPending),
+                "jsonlite-flush-on-exit"));
+    }
+
+    private final File jsonFile;
+    private final ObjectMapper objectMapper;
+    private final JsonFileReader fileReader;
+    private final StorageOptions options;
+    private final MutationLog mutationLog;
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean(false);
+
+    private final SchemaDescriptor schema;
+    // The indexes the first snapshot is built with, which only describe the indexed keys
+    private final CollectionIndexes emptyIndexes;
+
+    // The current version of the collection when it is kept in memory, replaced as a whole by every commit
+    private final AtomicReference<CollectionSnapshot> current = new AtomicReference<>();
+
+    // Incremented by every change of the collection, made by this store or to the file outside it
+    private final AtomicLong writeGeneration = new AtomicLong();
+    // The fingerprint of the file at the current write generation
+    private volatile FileFingerprint generationFingerprint;
+
+    // The working copy of the unit of work running on the current thread, a single operation or a batch
+    private final ThreadLocal<WorkingCopy> unitOfWork = new ThreadLocal<>();
+    // The snapshot the operation running on the current thread reads, so all its reads see the same version
+    private final ThreadLocal<Pin> pinned = new ThreadLocal<>();
+    private final FileLock lock;
+    // Number of clients using this store, guarded by the CollectionStores registry
+    int references;
+
+    // The committed mutations that are not persisted yet, and the future completed once they are
+    private List<Mutation> pendingMutations = new ArrayList<>();
+    private CompletableFuture<Void> pendingFlush;
+    private boolean flushScheduled;
+
+    public CollectionStore(File jsonFile, SchemaDescriptor schema, StorageOptions options) {
+        Class<?> type = schema.getType();
+        this.jsonFile = jsonFile;
+        this.schema = schema;
+        // Indexes are kept by the Java names of their keys, which are used for reading the values of the objects
+        this.emptyIndexes = new CollectionIndexes(jsonFile.getPath(), type, schema.getIdKey(),
+                this.fieldNames(options.getIndexedKeys()), this.fieldNames(options.getSortedKeys()));
+        this.objectMapper = new ObjectMapper();
+        this.fileReader = new JsonFileReader(jsonFile, this.objectMapper, type, options.getScanPool(),
+                options.getParallelLoadThreshold(), options.getReadMode() == ReadMode.MEMORY_MAPPED);
+        this.options = options;
+        this.lock = FileLocks.lockFor(jsonFile);
+        this.mutationLog = options.getStorageMode() == StorageMode.APPEND_LOG
+                ? new MutationLog(jsonFile, this.objectMapper, type)
+                : null;
+    }
+
+    public SchemaDescriptor getSchema() {
+        return schema;
+    }
+
+    public File getJsonFile() {
+        return jsonFile;
+    }
+
+    public StorageOptions getOptions() {
+        return options;
+    }
+
+    // The object mapper shared by every handler working on this store
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    private List<String> fieldNames(List<String> keys) {
+        return keys.stream().map(key -> this.schema.getField(key).name()).toList();
+    }
+
+    // Returns a mutable copy of the collection that the caller is free to modify
+    public <T> List<T> load() {
+        return new ArrayList<>(this.view());
+    }
+
+    // Returns a read-only view of the collection, which is the snapshot itself when the collection is in memory.
+    // Within a unit of work the view includes the changes it has made so far.
+    public <T> List<T> view() {
+        WorkingCopy workingCopy = this.unitOfWork.get();
+        return workingCopy != null ? workingCopy.objects() : this.committedView();
+    }
+
+    // Returns an unmodifiable collection that can be handed to callers: the snapshot itself without copying it,
+    // or a copy of the changes of a unit of work, which keeps changing until the unit of work ends
+    public <T> List<T> immutableView() {
+        WorkingCopy workingCopy = this.unitOfWork.get();
+        return workingCopy != null
+                ? Collections.unmodifiableList(new ArrayList<>(workingCopy.<T>objects()))
+                : this.committedView();
+    }
+
+    // Whether a read operation can read the file itself instead of the objects of the collection, which does not
+    // hold when they are kept in memory, pinned by a snapshot, or changed by the running unit of work
+    public boolean readsFromFile() {
+        Pin pin = this.pinned.get();
+        return !this.options.isMemoryResident() && !this.hasUncommittedChanges() && (pin == null || pin.snapshot == null);
+    }
+
+    // Reads only the given fields of every object from the file, as trees in the order of the JSON keys, or returns
+    // null when the objects themselves have to be read
+    public List<JsonNode[]> readFields(List<String> jsonKeys) {
+        return this.readsFromFile() ? this.fileReader.readFields(jsonKeys) : null;
+    }
+
+    // Passes only the given fields of every object from the file to the visitor, one object at a time, or returns
+    // false when the objects themselves have to be read. Without keys the objects are only counted by the visitor.
+    public boolean visitFields(List<String> jsonKeys, Consumer<JsonNode[]> visitor) {
+        if (!this.readsFromFile()) {
+            return false;
+        }
+        this.fileReader.forEachFields(jsonKeys, visitor);
+        return true;
+    }
+
+    // Streams the objects of a read operation in the order of the collection. When they are read from the file they
+    // are parsed one at a time, so an operation that stops early never creates the remaining objects. The stream
+    // must be closed to release the file.
+    public <T> Stream<T> readLazily() {
+        return this.readsFromFile() ? this.fileReader.stream() : this.<T>view().stream();
+    }
+
+    // Reads the objects whose text value of the JSON key may be one of the values, binding only these objects, or
+    // returns null when the whole collection has to be read instead, in the same cases as readFields. The returned
+    // objects must still be checked against the values.
+    public List<Object> readMatching(String jsonKey, Set<String> values, boolean ignoreCase) {
+        return this.readsFromFile() ? this.fileReader.readMatching(jsonKey, values, ignoreCase) : null;
+    }
+
+    // Runs a read operation on one snapshot of the collection. When the collection is in memory and its snapshot is
+    // up to date with the file, the operation runs without locking, while writers build the next snapshot.
+    // Otherwise it runs under the read lock, which inter-process reads always take.
+    public <R> R read(Supplier<R> operation) {
+        if (this.pinned.get() != null) {
+            return operation.get();
+        }
+        if (this.lock.isWriteLockedByCurrentThread()) {
+            return this.runPinned(null, operation);
+        }
+        if (this.options.isMemoryResident() && !this.options.isInterProcess()) {
+            CollectionSnapshot snapshot = this.current.get();
+            if (snapshot != null && this.isUpToDate(snapshot)) {
+                return this.runPinned(snapshot, operation);
+            }
+        }
+        FileLock.Hold hold = this.acquireShared();
+        try {
+            return this.runPinned(null, operation);
+        } finally {
+            hold.close();
+        }
+    }
+
+    // Runs a read operation on the given snapshot, without locking since the snapshot never changes
+    public <R> R read(CollectionSnapshot snapshot, Supplier<R> operation) {
+        Pin previous = this.pinned.get();
+        if (previous != null && previous.snapshot == snapshot) {
+            return operation.get();
+        }
+        try {
+            return this.runPinned(snapshot, operation);
+        } finally {
+            if (previous != null) {
+                this.pinned.set(previous);
+            }
+        }
+    }
+
+    // Returns the current snapshot of the collection, read from the file when it is not kept in memory
+    public CollectionSnapshot snapshot() {
+        return this.read(this::committedSnapshot);
+    }
+
+    private <R> R runPinned(CollectionSnapshot snapshot, Supplier<R> operation) {
+        this.pinned.set(new Pin(snapshot));
+        try {
+            return operation.get();
+        } finally {
+            this.pinned.remove();
+        }
+    }
+
+    // Runs a mutating operation as a unit of work under the write lock: the changes it makes through begin() are
+    // committed once when it returns, or discarded if it throws. Operations of a running unit of work join it.
+    public <R> R write(Supplier<R> operation) {
+        if (this.unitOfWork.get() != null) {
+            return operation.get();
+        }
+        // The thread already holds the write lock of the file through another client of the same file
+        Committed<R> committed;
+        if (this.lock.isWriteLockedByCurrentThread()) {
+            committed = this.runUnitOfWork(operation);
+        } else {
+            FileLock.Hold hold = this.lock.acquireExclusive(this.options.isInterProcess(), this.options.getLockTimeout());
+            try {
+                committed = this.runUnitOfWork(operation);
+            } finally {
+                hold.close();
+            }
+        }
+        // With group commit the operation waits for the flush without holding the lock, so other writers can join it
+        if (this.options.getWriteMode() == WriteMode.GROUP_COMMIT) {
+            awaitPersisted(committed.persisted());
+        }
+        return committed.result();
+    }
+
+    private FileLock.Hold acquireShared() {
+        return this.lock.acquireShared(this.options.isInterProcess(), this.options.getLockTimeout());
+    }
+
+    // Returns the write generation of the collection, which is greater than the generation returned before any
+    // change of the collection. A change of the file made outside the store starts a new generation once it is
+    // noticed, which with a write-behind mode is never since the file is owned by the client.
+    public long getWriteGeneration() {
+        if (!this.options.isWriteBehind()) {
+            FileFingerprint fingerprint = FileFingerprint.of(this.jsonFile);
+            if (!Objects.equals(fingerprint, this.generationFingerprint)) {
+                this.generationFingerprint = fingerprint;
+                this.writeGeneration.incrementAndGet();
+            }
+        }
+        return this.writeGeneration.get();
+    }
+
+    // Starts a new write generation once a change of the collection is visible to read operations
+    private void nextWriteGeneration() {
+        if (!this.options.isWriteBehind()) {
+            this.generationFingerprint = FileFingerprint.of(this.jsonFile);
+        }
+        this.writeGeneration.incrementAndGet();
+    }
+
+    // Whether the current thread runs a mutating operation on the file, whose reads may see uncommitted changes
+    public boolean isWriting() {
+        return this.unitOfWork.get() != null || this.lock.isWriteLockedByCurrentThread();
+    }
+
+    // Returns the counters of the lock of the file, shared by all the clients of the file within this JVM
+    public LockMetrics getLockMetrics() {
+        return this.lock.getMetrics();
+    }
+
+    private <R> Committed<R> runUnitOfWork(Supplier<R> operation) {
+        Pin previous = this.pinned.get();
+        WorkingCopy workingCopy = new WorkingCopy(() -> new ArrayList<>(this.committedView()));
+        R result;
+        CompletableFuture<Void> persisted;
+        this.pinned.set(new Pin(null));
+        try {
+            this.unitOfWork.set(workingCopy);
+            try {
+                result = operation.get();
+            } finally {
+                this.unitOfWork.remove();
+            }
+            persisted = this.commit(workingCopy);
+        } finally {
+            if (previous != null) {
+                this.pinned.set(previous);
+            } else {
+                this.pinned.remove();
+            }
+        }
+        return new Committed<>(result, persisted);
+    }
+
+    private static void awaitPersisted(CompletableFuture<Void> persisted) {
+        try {
+            persisted.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_FLUSH, e);
+        }
+    }
+
+    // Indexes describe the committed collection, so they cannot be used once the unit of work has changed it
+    private boolean hasUncommittedChanges() {
+        WorkingCopy workingCopy = this.unitOfWork.get();
+        return workingCopy != null && workingCopy.isModified();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> committedView() {
+        return (List<T>) this.committedSnapshot().objects();
+    }
+
+    // Returns the snapshot pinned by the running operation, resolving it on first use so operations that never
+    // read the collection never read the file
+    private CollectionSnapshot committedSnapshot() {
+        Pin pin = this.pinned.get();
+        if (pin == null) {
+            return this.latestSnapshot();
+        }
+        if (pin.snapshot == null) {
+            pin.snapshot = this.latestSnapshot();
+        }
+        return pin.snapshot;
+    }
+
+    private CollectionSnapshot latestSnapshot() {
+        if (!this.options.isMemoryResident()) {
+            return new CollectionSnapshot(0, Collections.unmodifiableList(this.fileReader.readAll()), null, null);
+        }
+        CollectionSnapshot snapshot = this.current.get();
+        return snapshot != null && this.isUpToDate(snapshot) ? snapshot : this.reload();
+    }
+
+    private boolean isUpToDate(CollectionSnapshot snapshot) {
+        // With a write-behind mode the collection in memory is ahead of the file, which is owned by the client
+        if (this.options.isWriteBehind()) {
+            return true;
+        }
+        FileFingerprint fingerprint = FileFingerprint.of(this.jsonFile);
+        return fingerprint != null && fingerprint.equals(snapshot.fingerprint());
+    }
+
+    // Parses the file again, unless another thread already did so, and publishes it as the next snapshot
+    private synchronized CollectionSnapshot reload() {
+        CollectionSnapshot snapshot = this.current.get();
+        // The fingerprint is taken before reading, so a change made while reading is detected on the next call
+        FileFingerprint fingerprint = FileFingerprint.of(this.jsonFile);
+        if (snapshot != null && fingerprint != null && fingerprint.equals(snapshot.fingerprint())) {
+            return snapshot;
+        }
+        if (snapshot != null) {
+            logger.info(InfoMessages.CACHE_RELOADED, this.jsonFile.getPath());
+        }
+        List<Object> objects;
+        if (this.mutationLog != null) {
+            objects = this.readWithLog();
+            // Replaying an unusable log compacts it into the file, which changes its fingerprint
+            fingerprint = FileFingerprint.of(this.jsonFile);
+        } else {
+            objects = this.fileReader.readAll();
+        }
+        objects = Collections.unmodifiableList(objects);
+        CollectionIndexes indexes = (snapshot != null ? snapshot.indexes() : this.emptyIndexes).rebuilt(objects);
+        return this.publish(objects, fingerprint, indexes);
+    }
+
+    private CollectionSnapshot publish(List<Object> objects, FileFingerprint fingerprint, CollectionIndexes indexes) {
+        CollectionSnapshot previous = this.current.get();
+        CollectionSnapshot snapshot = new CollectionSnapshot(previous != null ? previous.version() + 1 : 1,
+                objects, fingerprint, indexes);
+        this.current.set(snapshot);
+        this.nextWriteGeneration();
+        return snapshot;
+    }
+
+    // Returns the primary index of the current collection, or null if lookups by ID have to scan the collection
+    public PrimaryIndex getPrimaryIndex() {
+        if (!this.options.isMemoryResident() || this.hasUncommittedChanges() || this.schema.getIdField() == null) {
+            return null;
+        }
+        return this.committedSnapshot().indexes().getPrimaryIndex();
+    }
+
+    // Returns the secondary index of the key for the current collection, or null if lookups by the key have to scan
+    public SecondaryIndex getSecondaryIndex(String key) {
+        if (!this.options.isMemoryResident() || this.hasUncommittedChanges()) {
+            return null;
+        }
+        return this.committedSnapshot().indexes().getSecondaryIndex(key);
+    }
+
+    // Adds a secondary index on the key, which is built right away and maintained by every following commit
+    public void createIndex(String key) {
+        if (!this.options.isMemoryResident()) {
+            logger.warn(WarningMessages.INDEX_REQUIRES_MEMORY, key);
+            return;
+        }
+        String fieldName = this.schema.getField(key).name();
+        // The index is added to a copy of the indexes, published with the next snapshot under the write lock
+        this.write(() -> {
+            synchronized (this) {
+                CollectionSnapshot snapshot = this.committedSnapshot();
+                if (!snapshot.indexes().hasSecondaryIndex(fieldName)) {
+                    CollectionIndexes indexes = snapshot.indexes().copy();
+                    indexes.addSecondaryIndex(fieldName, snapshot.objects());
+                    this.publish(snapshot.objects(), snapshot.fingerprint(), indexes);
+                    logger.info(InfoMessages.INDEX_CREATED, key, this.jsonFile.getPath());
+                }
+            }
+            return null;
+        });
+    }
+
+    // Adds the indexes of the options that the store does not maintain yet, for a client attaching to the store
+    void createIndexes(StorageOptions options) {
+        if (!this.options.isMemoryResident()) {
+            return;
+        }
+        options.getIndexedKeys().forEach(this::createIndex);
+        options.getSortedKeys().forEach(this::createSortedIndex);
+    }
+
+    // Returns the sorted index of the key for the current collection, or null if queries on the key have to scan and sort
+    public SortedIndex getSortedIndex(String key) {
+        if (!this.options.isMemoryResident() || this.hasUncommittedChanges()) {
+            return null;
+        }
+        return this.committedSnapshot().indexes().getSortedIndex(key);
+    }
+
+    // Adds a sorted index on the key, which is built right away and maintained by every following commit
+    public void createSortedIndex(String key) {
+        if (!this.options.isMemoryResident()) {
+            logger.warn(WarningMessages.INDEX_REQUIRES_MEMORY, key);
+            return;
+        }
+        String fieldName = this.schema.getField(key).name();
+        // The index is added to a copy of the indexes, published with the next snapshot under the write lock
+        this.write(() -> {
+            synchronized (this) {
+                CollectionSnapshot snapshot = this.committedSnapshot();
+                if (!snapshot.indexes().hasSortedIndex(fieldName)) {
+                    CollectionIndexes indexes = snapshot.indexes().copy();
+                    indexes.addSortedIndex(fieldName, snapshot.objects());
+                    this.publish(snapshot.objects(), snapshot.fingerprint(), indexes);
+                    logger.info(InfoMessages.INDEX_CREATED, key, this.jsonFile.getPath());
+                }
+            }
+            return null;
+        });
+    }
+
+    // Returns the collection as a stream, parsing the file lazily one element at a time unless it is kept in memory.
+    // The stream must be closed to release the file.
+    // The read lock is held until the stream is closed, so a stream must be closed before writing from the same thread.
+    public <T> Stream<T> stream() {
+        if (this.options.isMemoryResident() || this.pinned.get() != null) {
+            return this.read(() -> this.<T>view()).stream();
+        }
+        if (this.lock.isWriteLockedByCurrentThread()) {
+            return this.fileReader.stream();
+        }
+        FileLock.Hold hold = this.acquireShared();
+        try {
+            return this.fileReader.<T>stream().onClose(hold::close);
+        } catch (RuntimeException e) {
+            hold.close();
+            throw e;
+        }
+    }
+
+    // Starts a mutating operation on a private copy of the collection, or on the copy of the unit of work of this thread
+    public WorkingCopy begin() {
+        WorkingCopy workingCopy = this.unitOfWork.get();
+        return workingCopy != null ? workingCopy : new WorkingCopy(this::load);
+    }
+
+    // Runs the operations as a single unit of work: they all change one working copy, which is committed once at
+    // the end. If an operation throws, the working copy is discarded and none of the changes are persisted.
+    // Operations run by a nested batch become part of the outer batch.
+    public void runBatch(Runnable operations) {
+        if (this.unitOfWork.get() != null) {
+            operations.run();
+            return;
+        }
+        try {
+            int changes = this.write(() -> {
+                operations.run();
+                return this.unitOfWork.get().getMutations().size();
+            });
+            logger.info(InfoMessages.BATCH_COMMITTED, changes, this.jsonFile.getPath());
+        } catch (RuntimeException | Error e) {
+            logger.warn(WarningMessages.BATCH_ROLLED_BACK, this.jsonFile.getPath());
+            throw e;
+        }
+    }
+
+    // Persists the changes of a working copy and publishes its collection as the next snapshot. Returns the future
+    // completed once the changes are persisted, which is later than the commit with a write-behind mode.
+    // The working copy of a unit of work is only committed when the unit of work ends.
+    public synchronized CompletableFuture<Void> commit(WorkingCopy workingCopy) {
+        if (!workingCopy.isModified() || workingCopy == this.unitOfWork.get()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (this.options.isWriteBehind()) {
+            this.awaitPendingBelowLimit();
+        }
+        List<Object> objects = Collections.unmodifiableList(workingCopy.getResult());
+        if (!this.options.isMemoryResident()) {
+            this.save(objects);
+            return CompletableFuture.completedFuture(null);
+        }
+        // The snapshot the changes were made on, which also makes sure the log is replayed before appending to it
+        CollectionSnapshot base = this.committedSnapshot();
+        CollectionIndexes indexes = base.indexes().copy();
+        indexes.apply(workingCopy.getMutations());
+        if (this.options.isWriteBehind()) {
+            this.publish(objects, base.fingerprint(), indexes);
+            return this.queueForFlush(workingCopy.getMutations());
+        }
+        if (this.mutationLog != null) {
+            this.mutationLog.append(workingCopy.getMutations());
+            this.publish(objects, base.fingerprint(), indexes);
+            this.scheduleCompactionIfNeeded(base.fingerprint());
+            return CompletableFuture.completedFuture(null);
+        }
+        this.save(objects);
+        this.publish(objects, FileFingerprint.of(this.jsonFile), indexes);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    // Backpressure: waits until the flusher has caught up before adding more pending mutations, at most the lock timeout
+    private void awaitPendingBelowLimit() {
+        long timeout = this.options.getLockTimeout();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        while (this.pendingMutations.size() >= this.options.getMaxPendingMutations()) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) {
+                throw new JsonLiteClientOperationException(String.format(ErrorMessages.FLUSH_BACKLOG_TIMEOUT,
+                        timeout, this.pendingMutations.size(), this.jsonFile.getPath()));
+            }
+            this.scheduleFlush(true);
+            try {
+                this.wait(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JsonLiteClientOperationException(ErrorMessages.FLUSH_INTERRUPTED, e);
+            }
+        }
+    }
+
+    private CompletableFuture<Void> queueForFlush(List<Mutation> mutations) {
+        if (this.pendingFlush == null) {
+            this.pendingFlush = new CompletableFuture<>();
+            WRITE_BEHIND_STORES.add(this);
+        }
+        this.pendingMutations.addAll(mutations);
+        this.scheduleFlush(this.pendingMutations.size() >= this.options.getFlushThreshold());
+        return this.pendingFlush;
+    }
+
+    // Schedules a flush after the flush interval, or right away
+    private void scheduleFlush(boolean now) {
+        if (now) {
+            FLUSHER.execute(this::flushPending);
+        } else if (!this.flushScheduled) {
+            this.flushScheduled = true;
+            FLUSHER.schedule(this::flushPending, this.options.getFlushInterval(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Returns a future completed once the mutations committed so far are persisted, flushing them right away
+    public synchronized CompletableFuture<Void> flush() {
+        if (this.pendingFlush == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        this.scheduleFlush(true);
+        return this.pendingFlush;
+    }
+
+    // Persists the pending mutations: the whole collection is written once for all of them, or they are appended
+    // to the mutation log. If persisting fails they stay pending, and are retried by the next flush.
+    private synchronized void flushPending() {
+        this.flushScheduled = false;
+        if (this.pendingFlush == null) {
+            return;
+        }
+        List<Mutation> mutations = this.pendingMutations;
+        CompletableFuture<Void> persisted = this.pendingFlush;
+        try {
+            if (this.mutationLog != null) {
+                this.mutationLog.append(mutations);
+                CollectionSnapshot snapshot = this.current.get();
+                this.scheduleCompactionIfNeeded(snapshot != null ? snapshot.fingerprint() : null);
+            } else {
+                this.save(this.current.get().objects());
+            }
+            logger.info(InfoMessages.MUTATIONS_FLUSHED, mutations.size(), this.jsonFile.getPath());
+            this.completePending();
+        } catch (RuntimeException e) {
+            logger.error(ErrorMessages.FAILED_FLUSH, e);
+            this.pendingFlush = new CompletableFuture<>();
+            this.scheduleFlush(false);
+            persisted.completeExceptionally(e);
+        }
+        this.notifyAll();
+    }
+
+    // Marks the pending mutations as persisted
+    private void completePending() {
+        CompletableFuture<Void> persisted = this.pendingFlush;
+        this.pendingMutations = new ArrayList<>();
+        this.pendingFlush = null;
+        WRITE_BEHIND_STORES.remove(this);
+        if (persisted != null) {
+            persisted.complete(null);
+        }
+    }
+
+    // Folds the mutation log into the JSON file, writing the file atomically and starting a new empty log.
+    // The compaction runs under the write lock, so the log does not change while it is folded.
+    public void compact() {
+        if (this.mutationLog == null) {
+            return;
+        }
+        this.write(() -> {
+            synchronized (this) {
+                CollectionSnapshot snapshot = this.committedSnapshot();
+                FileFingerprint fingerprint = this.writeCompacted(snapshot.objects());
+                this.publish(snapshot.objects(), fingerprint, snapshot.indexes());
+                // The compacted file already contains the pending mutations, which must not be appended to the new log
+                this.completePending();
+                this.notifyAll();
+            }
+            return null;
+        });
+    }
+
+    // Rewrites the JSON file with the collection, replacing the file instead of truncating it when it may be mapped
+    private void save(List<Object> objects) {
+        if (this.options.getReadMode() == ReadMode.MEMORY_MAPPED) {
+            JsonLiteClientOperationsHelper.saveToFileAtomically(this.objectMapper, objects, this.jsonFile);
+        } else {
+            JsonLiteClientOperationsHelper.saveToFile(this.objectMapper, objects, this.jsonFile);
+        }
+        this.nextWriteGeneration();
+    }
+
+    private FileFingerprint writeCompacted(List<Object> objects) {
+        Path jsonPath = this.jsonFile.toPath();
+        Path tempPath = jsonPath.resolveSibling(this.jsonFile.getName() + ".tmp");
+        CRC32 crc = new CRC32();
+        try (OutputStream out = new CheckedOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)), crc)) {
+            this.objectMapper.writeValue(out, objects);
+        } catch (IOException e) {
+            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_SAVING, e);
+        }
+        try {
+            long size = Files.size(tempPath);
+            Files.move(tempPath, jsonPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            this.mutationLog.reset(size, crc.getValue());
+        } catch (IOException e) {
+            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_SAVING, e);
+        }
+        logger.info(InfoMessages.LOG_COMPACTED, this.mutationLog.getPath(), this.jsonFile.getPath());
+        return FileFingerprint.of(this.jsonFile);
+    }
+
+    private void scheduleCompactionIfNeeded(FileFingerprint fingerprint) {
+        long logSize = this.mutationLog.size();
+        long baseSize = fingerprint != null ? fingerprint.size() : 0;
+        boolean needsCompaction = logSize >= this.options.getCompactionThreshold()
+                || (logSize >= MIN_RATIO_COMPACTION_SIZE && logSize >= baseSize * this.options.getCompactionRatio());
+        if (needsCompaction && this.compactionScheduled.compareAndSet(false, true)) {
+            COMPACTOR.execute(() -> {
+                this.compactionScheduled.set(false);
+                try {
+                    this.compact();
+                } catch (RuntimeException e) {
+                    logger.error(ErrorMessages.FAILED_COMPACTION, e);
+                }
+            });
+        }
+    }
+
+    private List<Object> readWithLog() {
+        try {
+            byte[] content = Files.readAllBytes(this.jsonFile.toPath());
+            List<Object> objects = this.fileReader.readAll(content);
+            CRC32 crc = new CRC32();
+            crc.update(content);
+            if (!this.mutationLog.replay(objects, content.length, crc.getValue())) {
+                logger.warn(WarningMessages.COMPACTING_AFTER_REPLAY, this.jsonFile.getPath());
+                this.writeCompacted(objects);
+            }
+            return objects;
+        } catch (IOException e) {
+            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_READING, e);
+        }
+    }
+
+    // The result of a unit of work, and the future completed once its changes are persisted
+    private record Committed<R>(R result, CompletableFuture<Void> persisted) {
+    }
+
+    // The snapshot read by an operation, resolved on first use
+    private static final class Pin {
+
+        private CollectionSnapshot snapshot;
+
+        private Pin(CollectionSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.storage;
+
+import com.devroic.jsonlite.exceptions.JsonLiteClientBuilderException;
+import com.devroic.jsonlite.messages.ErrorMessages;
+import com.devroic.jsonlite.messages.InfoMessages;
+import com.devroic.jsonlite.messages.WarningMessages;
+import com.devroic.jsonlite.schema.SchemaDescriptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Process-wide registry of the storage engines of the JSON files, with one engine per file. Files are identified by
+ * their canonical path, so clients opening the same file with compatible options share the loaded collection, its
+ * indexes, its object mapper and its write-behind queue. Engines are reference counted, and an engine is dropped
+ * from the registry when the last client using it is closed.
+ */
+public class CollectionStores {
+
+    private static final Logger logger = LoggerFactory.getLogger(CollectionStores.class);
+
+    // Engines by canonical path, guarded by the class monitor together with the reference counts of the engines
+    private static final Map<String, CollectionStore> STORES = new HashMap<>();
+
+    // Private constructor to prevent instantiation of this utility class
+    private CollectionStores() {
+    }
+
+    // Returns the engine of the file, attaching to the open engine when its schema and options are compatible.
+    // Clients with incompatible options get a private engine that is not shared, which reloads the file whenever the
+    // other engine changes it. An engine keeping changes that are not in the file yet would never reload it, and would
+    // overwrite the changes of the other engine, so it cannot be opened next to an engine with other options.
+    public static CollectionStore open(File jsonFile, SchemaDescriptor schema, StorageOptions options) {
+        String path = FileLocks.canonicalPath(jsonFile);
+        CollectionStore store;
+        synchronized (CollectionStores.class) {
+            store = STORES.get(path);
+            if (store == null) {
+                store = new CollectionStore(jsonFile, schema, options);
+                store.references = 1;
+                STORES.put(path, store);
+                return store;
+            }
+            if (!isCompatible(store, schema, options)) {
+                if (store.getOptions().isAheadOfFile() || options.isAheadOfFile()) {
+                    throw new JsonLiteClientBuilderException(String.format(ErrorMessages.INCOMPATIBLE_STORAGE_ENGINE, jsonFile.getPath()));
+                }
+                logger.warn(WarningMessages.INCOMPATIBLE_STORAGE_ENGINE, jsonFile.getPath());
+                CollectionStore privateStore = new CollectionStore(jsonFile, schema, options);
+                privateStore.references = 1;
+                return privateStore;
+            }
+            store.references++;
+        }
+        logger.info(InfoMessages.STORAGE_ENGINE_SHARED, jsonFile.getPath());
+        // Indexes requested by the attaching client are added outside the registry, since they take the write lock
+        store.createIndexes(options);
+        return store;
+    }
+
+    // Releases a reference to the engine, and returns whether it was the last one. The last release drops the
+    // engine from the registry, so the next client opening the file loads it again.
+    public static boolean release(CollectionStore store) {
+        synchronized (CollectionStores.class) {
+            if (--store.references > 0) {
+                return false;
+            }
+            STORES.remove(FileLocks.canonicalPath(store.getJsonFile()), store);
+            return true;
+        }
+    }
+
+    private static boolean isCompatible(CollectionStore store, SchemaDescriptor schema, StorageOptions options) {
+        return store.getSchema().getType() == schema.getType()
+                && Objects.equals(store.getSchema().getIdKey(), schema.getIdKey())
+                && store.getOptions().isCompatibleWith(options);
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.storage;
+
+import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.messages.ErrorMessages;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * The lock of a JSON file, a {@link StampedLock} that also knows which thread holds its write lock, so a thread
+ * holding the write lock of a file can still read and write the file through another client instead of deadlocking.
+ * Reads of collections kept in memory take no lock at all: they read the published {@link CollectionSnapshot}, so
+ * only reads of the file itself and open streams hold the read lock.
+ * <p>
+ * Inter-process holds additionally lock a sidecar file through the operating system, shared for reads and exclusive
+ * for writes. The operating system grants file locks to the whole JVM, so the shared lock is taken by the first
+ * reader of this JVM and released by the last one, and the exclusive lock is only taken under the write lock,
+ * when no reader of this JVM holds the shared lock.
+ */
+public class FileLock {
+
+    // How often a busy sidecar file is polled until it can be locked or the wait times out
+    private static final long RETRY_INTERVAL_MILLIS = 5;
+
+    private final StampedLock lock = new StampedLock();
+    private final File lockFile;
+    private final LockMetrics metrics = new LockMetrics();
+    private volatile Thread writer;
+
+    // The channel of the sidecar file, opened on the first inter-process hold and kept open with the lock
+    private FileChannel channel;
+    // The shared lock of the sidecar file and the number of holds of this JVM sharing it
+    private java.nio.channels.FileLock sharedFileLock;
+    private int sharedHolders;
+
+    public FileLock(File lockFile) {
+        this.lockFile = lockFile;
+    }
+
+    public LockMetrics getMetrics() {
+        return metrics;
+    }
+
+    public boolean isWriteLockedByCurrentThread() {
+        return this.writer == Thread.currentThread();
+    }
+
+    // Acquires the read lock, and the shared lock of the sidecar file if interProcess, waiting at most timeoutMillis
+    public Hold acquireShared(boolean interProcess, long timeoutMillis) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        long stamp = this.lock.tryReadLock();
+        if (stamp == 0L) {
+            stamp = this.tryAcquire(() -> this.lock.tryReadLock(timeoutMillis, TimeUnit.MILLISECONDS), start, timeoutMillis);
+        }
+        if (interProcess) {
+            try {
+                this.lockSharedFile(start, deadline, timeoutMillis);
+            } catch (RuntimeException e) {
+                this.lock.unlockRead(stamp);
+                throw e;
+            }
+        }
+        this.metrics.recordAcquired(true, System.nanoTime() - start);
+        long readStamp = stamp;
+        return new Hold(() -> {
+            if (interProcess) {
+                this.unlockSharedFile();
+            }
+            this.lock.unlockRead(readStamp);
+        });
+    }
+
+    // Acquires the write lock, and the exclusive lock of the sidecar file if interProcess, waiting at most timeoutMillis
+    public Hold acquireExclusive(boolean interProcess, long timeoutMillis) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        long stamp = this.lock.tryWriteLock();
+        if (stamp == 0L) {
+            stamp = this.tryAcquire(() -> this.lock.tryWriteLock(timeoutMillis, TimeUnit.MILLISECONDS), start, timeoutMillis);
+        }
+        java.nio.channels.FileLock exclusiveFileLock = null;
+        if (interProcess) {
+            try {
+                exclusiveFileLock = this.lockFile(false, start, deadline, timeoutMillis);
+            } catch (RuntimeException e) {
+                this.lock.unlockWrite(stamp);
+                throw e;
+            }
+        }
+        this.writer = Thread.currentThread();
+        this.metrics.recordAcquired(false, System.nanoTime() - start);
+        long writeStamp = stamp;
+        java.nio.channels.FileLock fileLock = exclusiveFileLock;
+        return new Hold(() -> {
+            this.writer = null;
+            if (fileLock != null) {
+                release(fileLock);
+            }
+            this.lock.unlockWrite(writeStamp);
+        });
+    }
+
+    private long tryAcquire(StampSupplier acquire, long start, long timeoutMillis) {
+        long stamp;
+        try {
+            stamp = acquire.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.LOCK_INTERRUPTED, this.lockFile.getPath()), e);
+        }
+        if (stamp == 0L) {
+            throw this.timeout(start, timeoutMillis);
+        }
+        return stamp;
+    }
+
+    private synchronized void lockSharedFile(long start, long deadline, long timeoutMillis) {
+        if (this.sharedHolders == 0) {
+            this.sharedFileLock = this.lockFile(true, start, deadline, timeoutMillis);
+        }
+        this.sharedHolders++;
+    }
+
+    private synchronized void unlockSharedFile() {
+        if (--this.sharedHolders == 0) {
+            release(this.sharedFileLock);
+            this.sharedFileLock = null;
+        }
+    }
+
+    // Polls the sidecar file until it is locked by this JVM or the deadline passes
+    private java.nio.channels.FileLock lockFile(boolean shared, long start, long deadline, long timeoutMillis) {
+        try {
+            FileChannel fileChannel = this.channel();
+            while (true) {
+                java.nio.channels.FileLock fileLock = fileChannel.tryLock(0L, Long.MAX_VALUE, shared);
+                if (fileLock != null) {
+                    return fileLock;
+                }
+                if (System.nanoTime() >= deadline) {
+                    throw this.timeout(start, timeoutMillis);
+                }
+                Thread.sleep(RETRY_INTERVAL_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.LOCK_INTERRUPTED, this.lockFile.getPath()), e);
+        } catch (IOException e) {
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.FAILED_LOCKING, this.lockFile.getPath()), e);
+        }
+    }
+
+    private synchronized FileChannel channel() throws IOException {
+        if (this.channel == null) {
+            this.channel = FileChannel.open(this.lockFile.toPath(),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        return this.channel;
+    }
+
+    private JsonLiteClientOperationException timeout(long start, long timeoutMillis) {
+        this.metrics.recordTimeout(System.nanoTime() - start);
+        return new JsonLiteClientOperationException(
+                String.format(ErrorMessages.LOCK_TIMEOUT, timeoutMillis, this.lockFile.getPath()));
+    }
+
+    private static void release(java.nio.channels.FileLock fileLock) {
+        try {
+            fileLock.release();
+        } catch (IOException e) {
+            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_UNLOCKING, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface StampSupplier {
+        long get() throws InterruptedException;
+    }
+
+    /**
+     * A held lock, released once when closed, which records how long it was held.
+     */
+    public final class Hold implements AutoCloseable {
+
+        private final Runnable release;
+        private final long acquiredAt = System.nanoTime();
+        private boolean released;
+
+        private Hold(Runnable release) {
+            this.release = release;
+        }
+
+        @Override
+        public void close() {
+            if (this.released) {
+                return;
+            }
+            this.released = true;
+            metrics.recordReleased(System.nanoTime() - this.acquiredAt);
+            this.release.run();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of the locks guarding the JSON files, with one lock per file. Files are identified by their
+ * canonical path, so every client and handler working on the same file shares the same lock.
+ */
+public class FileLocks {
+
+    // Suffix of the sidecar file locked through the operating system by inter-process holds (e.g. people.json.lock)
+    public static final String LOCK_FILE_SUFFIX = ".lock";
+
+    private static final Map<String, FileLock> LOCKS = new ConcurrentHashMap<>();
+
+    // Private constructor to prevent instantiation of this utility class
+    private FileLocks() {
+    }
+
+    public static FileLock lockFor(File file) {
+        return LOCKS.computeIfAbsent(canonicalPath(file), path -> new FileLock(new File(path + LOCK_FILE_SUFFIX)));
+    }
+
+    static String canonicalPath(File file) {
+        try {
+            return file.getCanonicalPath();
+        } catch (IOException e) {
+            return file.getAbsolutePath();
+        }
+    }
+}
@@ -0,0 +1,406 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.devroic.jsonlite.storage;
+
+import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.messages.ErrorMessages;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the top-level array of a JSON file, either fully into a list or lazily one element at a time.
+ * Files of at least the parallel load threshold are parsed in chunks bound concurrently on the pool.
+ * Memory-mapped readers parse the mapped pages of the file, and keep the mapping for as long as the file is unchanged.
+ */
+public class JsonFileReader {
+
+    private final File jsonFile;
+    private final ObjectMapper objectMapper;
+    private final JavaType collectionType;
+    private final ObjectReader elementReader;
+    private final ChunkedArrayParser chunkedParser;
+    private final long parallelLoadThreshold;
+    private final boolean memoryMapped;
+    // The mapping of the file read last, guarded by this reader
+    private MappedFile mappedFile;
+
+    public JsonFileReader(File jsonFile, ObjectMapper objectMapper, Class<?> type, ForkJoinPool pool,
+                          long parallelLoadThreshold, boolean memoryMapped) {
+        this.jsonFile = jsonFile;
+        this.objectMapper = objectMapper;
+        this.collectionType = objectMapper.getTypeFactory().constructCollectionType(List.class, type);
+        this.elementReader = objectMapper.readerFor(type);
+        // A pool of a single thread would only add the cost of splitting the file
+        this.chunkedParser = pool.getParallelism() > 1 ? new ChunkedArrayParser(objectMapper, this.collectionType, pool) : null;
+        this.parallelLoadThreshold = parallelLoadThreshold;
+        this.memoryMapped = memoryMapped;
+    }
+
+    // Parses the whole file into a mutable list
+    public List<Object> readAll() {
+        try {
+            long length = this.jsonFile.length();
+            if (length == 0) {
+                return new ArrayList<>();
+            }
+            ByteBuffer content = this.memoryMapped ? this.map() : null;
+            if (content != null) {
+                return this.readAll(content);
+            }
+            if (this.isParallel(length)) {
+                List<Object> objects = this.chunkedParser.parse(this.jsonFile);
+                if (objects != null) {
+                    return objects;
+                }
+            }
+            return this.objectMapper.readValue(this.jsonFile, this.collectionType);
+        } catch (IOException e) {
+            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_READING, e);
+        }
+    }
+
+    // Parses the content of the file, already read into memory, into a mutable list
+    public List<Object> readAll(byte[] content) throws IOException {
+        if (content.length == 0) {
+            return new ArrayList<>();
+        }
+        if (this.isParallel(content.length)) {
+            List<Object> objects = this.chunkedParser.parse(content);
+            if (objects != null) {
+                return objects;
+            }
+        }
+        return this.objectMapper.readValue(content, this.collectionType);
+    }
+
+    private List<Object> readAll(ByteBuffer content) throws IOException {
+        if (this.isParallel(content.remaining())) {
+            List<Object> objects = this.chunkedParser.parse(content);
+            if (objects != null) {
+                return objects;
+            }
+        }
+        return this.objectMapper.readValue(new ByteBufferBackedInputStream(content), this.collectionType);
+    }
+
+    // Returns a view of the mapping of the file, mapping it again only when the file was changed or replaced since
+    // it was last mapped, or null if the file is empty or too large to be mapped at once
+    private synchronized ByteBuffer map() throws IOException {
+        Path path = this.jsonFile.toPath();
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        long size = attributes.size();
+        if (size == 0 || size > Integer.MAX_VALUE) {
+            return null;
+        }
+        FileFingerprint fingerprint = new FileFingerprint(size, attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS));
+        MappedFile mapped = this.mappedFile;
+        if (mapped == null || !mapped.fingerprint().equals(fingerprint) || !Objects.equals(mapped.fileKey(), attributes.fileKey())) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                mapped = new MappedFile(attributes.fileKey(), fingerprint, channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            }
+            this.mappedFile = mapped;
+        }
+        return mapped.buffer().duplicate();
+    }
+
+    private boolean isParallel(long length) {
+        return this.chunkedParser != null && length >= this.parallelLoadThreshold;
+    }
+
+    // Parses the elements of the top-level array lazily, keeping only the current element in memory.
+    // The returned stream holds the file open until it is closed.
+    public <T> Stream<T> stream() {
+        if (this.jsonFile.length() == 0) {
+            return Stream.empty();
+        }
+        JsonParser parser = null;
+        try {
+            parser = this.openArray();
+            // Let the iterator advance to the first element itself, so an empty array yields no values
+            parser.clearCurrentToken();
+            MappingIterator<T> values = this.elementReader.readValues(parser);
+            Stream<T> stream = StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(new ReadingIterator<>(values), Spliterator.ORDERED | Spliterator.NONNULL),
+                    false);
+            return stream.onClose(() -> closeQuietly(values));
+        } catch (IOException e) {
+            closeQuietly(parser);
+            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_READING, e);
+        }
+    }
+
+    // Reads only the given fields of every element, as trees in the order of the keys, without binding the elements.
+    // The other fields are skipped token by token, and a field missing from an element is left null.
+    public List<JsonNode[]> readFields(List<String> jsonKeys) {
+        List<JsonNode[]> rows = new ArrayList<>();
+        this.forEachFields(jsonKeys, rows::add);
+        return rows;
+    }
+
+    // Passes the given fields of every element to the visitor, one element at a time, as readFields does. Without
+    // keys every element is skipped as a whole, which only counts the elements.
+    public void forEachFields(List<String> jsonKeys, Consumer<JsonNode[]> visitor) {
+        if (this.jsonFile.length() == 0) {
+            return;
+        }
+        try (JsonParser parser = this.openArray()) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IOException("Unexpected end of the JSON array in " + this.jsonFile.getPath());
+                }
+                JsonNode[] row = new JsonNode[jsonKeys.size()];
+                if (token == JsonToken.START_OBJECT && !jsonKeys.isEmpty()) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String name = parser.currentName();
+                        parser.nextToken();
+                        if (jsonKeys.contains(name)) {
+                            JsonNode value = this.objectMapper.readTree(parser);
+                            for (int i = 0; i < row.length; i++) {
+                                if (jsonKeys.get(i).equals(name)) {
+                                    row[i] = value;
+                                }
+                            }
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else {
+                    // Elements that are not objects, e.g. null, have none of the fields
+                    parser.skipChildren();
+                }
+                visitor.accept(row);
+            }
+        } catch (IOException e) {
+            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_READING, e);
+        }
+    }
+
+    // Reads the elements whose text value of the key may be one of the values, or null if the file cannot be read
+    // by byte offsets (e.g. it is not UTF-8). Every element is scanned token by token without being created, and only
+    // the elements that may match are bound, from their own bytes. An element is skipped only when the key holds a
+    // string, or a list of strings, that is certainly none of the values, so matches must be checked again.
+    public List<Object> readMatching(String jsonKey, Set<String> values, boolean ignoreCase) {
+        List<Object> candidates = new ArrayList<>();
+        if (this.jsonFile.length() == 0) {
+            return candidates;
+        }
+        ByteBuffer content = null;
+        FileChannel channel = null;
+        try {
+            content = this.memoryMapped ? this.map() : null;
+            JsonParser parser = content != null
+                    ? this.objectMapper.getFactory().createParser(new ByteBufferBackedInputStream(content.duplicate()))
+                    : this.objectMapper.getFactory().createParser(this.jsonFile);
+            if (content == null) {
+                channel = FileChannel.open(this.jsonFile.toPath(), StandardOpenOption.READ);
+            }
+            try (parser) {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new IOException("Expected a JSON array at the root of " + this.jsonFile.getPath());
+                }
+                JsonToken token;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == null) {
+                        throw new IOException("Unexpected end of the JSON array in " + this.jsonFile.getPath());
+                    }
+                    long start = parser.currentTokenLocation().getByteOffset();
+                    if (start < 0) {
+                        return null;
+                    }
+                    boolean candidate = true;
+                    if (token == JsonToken.START_OBJECT) {
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            boolean isKey = jsonKey.equals(parser.currentName());
+                            JsonToken valueToken = parser.nextToken();
+                            if (isKey) {
+                                candidate = mayMatch(parser, valueToken, values, ignoreCase);
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                    if (candidate) {
+                        long end = parser.currentLocation().getByteOffset();
+                        candidates.add(content != null
+                                ? this.elementReader.readValue(new ByteBufferBackedInputStream(content.slice((int) start, (int) (end - start))))
+                                : this.elementReader.readValue(readBytes(channel, start, end)));
+                    }
+                }
+            }
+            return candidates;
+        } catch (IOException e) {
+            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_READING, e);
+        } finally {
+            closeQuietly(channel);
+        }
+    }
+
+    // Whether the value the parser is on may be one of the values, consuming the value
+    private static boolean mayMatch(JsonParser parser, JsonToken token, Set<String> values, boolean ignoreCase) throws IOException {
+        if (token == JsonToken.VALUE_STRING) {
+            return isOneOf(parser, values, ignoreCase);
+        }
+        if (token != JsonToken.START_ARRAY) {
+            // Other values are converted by the binding, so they cannot be compared as they are written
+            parser.skipChildren();
+            return true;
+        }
+        boolean mayMatch = false;
+        JsonToken elementToken;
+        while ((elementToken = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (elementToken == JsonToken.VALUE_STRING) {
+                mayMatch = mayMatch || isOneOf(parser, values, ignoreCase);
+            } else {
+                parser.skipChildren();
+                mayMatch = true;
+            }
+        }
+        return mayMatch;
+    }
+
+    // Compares the characters of the current string token with the values, without creating a string
+    private static boolean isOneOf(JsonParser parser, Set<String> values, boolean ignoreCase) throws IOException {
+        char[] text = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int length = parser.getTextLength();
+        for (String value : values) {
+            if (value.length() == length && regionMatches(value, text, offset, ignoreCase)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Compares the characters the same way as String.equals, or String.equalsIgnoreCase
+    private static boolean regionMatches(String value, char[] text, int offset, boolean ignoreCase) {
+        for (int i = 0; i < value.length(); i++) {
+            char expected = value.charAt(i);
+            char actual = text[offset + i];
+            if (expected != actual && !(ignoreCase && equalsIgnoreCase(expected, actual))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean equalsIgnoreCase(char expected, char actual) {
+        char expectedUpper = Character.toUpperCase(expected);
+        char actualUpper = Character.toUpperCase(actual);
+        return expectedUpper == actualUpper || Character.toLowerCase(expectedUpper) == Character.toLowerCase(actualUpper);
+    }
+
+    private static byte[] readBytes(FileChannel channel, long from, long to) throws IOException {
+        byte[] bytes = new byte[(int) (to - from)];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long position = from;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of the JSON file while reading the element at " + from);
+            }
+            position += read;
+        }
+        return bytes;
+    }
+
+    // Opens a parser positioned on the start of the top-level array, reading the mapping of the file if it is mapped
+    private JsonParser openArray() throws IOException {
+        ByteBuffer content = this.memoryMapped ? this.map() : null;
+        JsonParser parser = content != null
+                ? this.objectMapper.getFactory().createParser(new ByteBufferBackedInputStream(content))
+                : this.objectMapper.getFactory().createParser(this.jsonFile);
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            parser.close();
+            throw new IOException("Expected a JSON array at the root of " + this.jsonFile.getPath());
+        }
+        return parser;
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            if (closeable != null) {
+                closeable.close();
+            }
+        } catch (Exception e) {
+            // Nothing more can be done if the file cannot be closed
+        }
+    }
+
+    // A mapping of the file, identified by the file it was mapped from. Replacing the file changes its key, and
+    // writing it in place changes its fingerprint.
+    private record MappedFile(Object fileKey, FileFingerprint fingerprint, MappedByteBuffer buffer) {
+    }
+
+    // Reports parsing failures in the middle of the stream the same way as failures of a full read
+    private static final class ReadingIterator<T> implements Iterator<T> {
+        private final MappingIterator<T> values;
+
+        private ReadingIterator(MappingIterator<T> values) {
+            this.values = values;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                return this.values.hasNextValue();
+            } catch (IOException e) {
+                throw new JsonLiteClientOperationException(ErrorMessages.FAILED_READING, e);
+            }
+        }
+
+        @Override
+        public T next() {
+            try {
+                return this.values.nextValue();
+            } catch (IOException e) {
+                throw new JsonLiteClientOperationException(ErrorMessages.FAILED_READING, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.storage;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the lock of a JSON file, shared by all the clients of the file within this JVM.
+ * Times are in nanoseconds and only include operations that actually acquired or waited for the lock.
+ */
+public class LockMetrics {
+
+    private final LongAdder sharedAcquisitions = new LongAdder();
+    private final LongAdder exclusiveAcquisitions = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder holdNanos = new LongAdder();
+    private final AtomicLong maxHoldNanos = new AtomicLong();
+
+    void recordAcquired(boolean shared, long waitedNanos) {
+        (shared ? this.sharedAcquisitions : this.exclusiveAcquisitions).increment();
+        this.waitNanos.add(waitedNanos);
+    }
+
+    void recordTimeout(long waitedNanos) {
+        this.timeouts.increment();
+        this.waitNanos.add(waitedNanos);
+    }
+
+    void recordReleased(long heldNanos) {
+        this.holdNanos.add(heldNanos);
+        this.maxHoldNanos.accumulateAndGet(heldNanos, Math::max);
+    }
+
+    public long getSharedAcquisitions() {
+        return sharedAcquisitions.sum();
+    }
+
+    public long getExclusiveAcquisitions() {
+        return exclusiveAcquisitions.sum();
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    public long getTotalWaitNanos() {
+        return waitNanos.sum();
+    }
+
+    public long getTotalHoldNanos() {
+        return holdNanos.sum();
+    }
+
+    public long getMaxHoldNanos() {
+        return maxHoldNanos.get();
+    }
+
+    @Override
+    public String toString() {
+        return "LockMetrics{sharedAcquisitions=" + getSharedAcquisitions()
+                + ", exclusiveAcquisitions=" + getExclusiveAcquisitions()
+                + ", timeouts=" + getTimeouts()
+                + ", totalWaitNanos=" + getTotalWaitNanos()
+                + ", totalHoldNanos=" + getTotalHoldNanos()
+                + ", maxHoldNanos=" + getMaxHoldNanos() + "}";
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.devroic.jsonlite.storage;
+
+/**
+ * A single change applied to the collection: an insertion, a replacement or a removal at a position,
+ * or the removal of all the objects.
+ */
+public final class Mutation {
+
+    public enum Type {
+        INSERT,
+        UPDATE,
+        DELETE,
+        CLEAR
+    }
+
+    private final Type type;
+    private final int index;
+    private final Object previous;
+    private final Object value;
+
+    private Mutation(Type type, int index, Object previous, Object value) {
+        this.type = type;
+        this.index = index;
+        this.previous = previous;
+        this.value = value;
+    }
+
+    public static Mutation insert(int index, Object value) {
+        return new Mutation(Type.INSERT, index, null, value);
+    }
+
+    public static Mutation update(int index, Object previous, Object value) {
+        return new Mutation(Type.UPDATE, index, previous, value);
+    }
+
+    public static Mutation delete(int index, Object previous) {
+        return new Mutation(Type.DELETE, index, previous, null);
+    }
+
+    public static Mutation clear() {
+        return new Mutation(Type.CLEAR, -1, null, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    // The position of the object in the collection, or -1 for CLEAR
+    public int getIndex() {
+        return index;
+    }
+
+    // The object that was replaced or removed, or null for INSERT and CLEAR
+    public Object getPrevious() {
+        return previous;
+    }
+
+    // The object that was inserted or set, or null for DELETE and CLEAR
+    public Object getValue() {
+        return value;
+    }
+}
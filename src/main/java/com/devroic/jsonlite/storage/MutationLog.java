@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.devroic.jsonlite.storage;
+
+import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.messages.ErrorMessages;
+import com.devroic.jsonlite.messages.WarningMessages;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Append-only log of mutations stored next to the JSON file. The first line is a header with the size and
+ * CRC32 checksum of the JSON file the log applies to, followed by one line per commit. A commit of one mutation is
+ * logged as a compact JSON entry, and a commit of several mutations, such as a batch, as a single line holding all
+ * of its entries:
+ * <pre>
+ * {"base":{"size":1024,"crc":3735928559}}
+ * {"op":"INSERT","value":{...}}
+ * {"op":"UPDATE","index":3,"value":{...}}
+ * {"commit":[{"op":"DELETE","index":3},{"op":"CLEAR"}]}
+ * </pre>
+ * A commit is replayed only if its whole line was written, so a crash in the middle of an append never persists
+ * part of a commit. A log whose header does not match the JSON file (e.g. the file was compacted or replaced) is discarded.
+ */
+public class MutationLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(MutationLog.class);
+
+    private final Path logPath;
+    private final ObjectMapper objectMapper;
+    private final Class<?> type;
+
+    public MutationLog(File jsonFile, ObjectMapper objectMapper, Class<?> type) {
+        this.logPath = jsonFile.toPath().resolveSibling(jsonFile.getName() + ".log");
+        this.objectMapper = objectMapper;
+        this.type = type;
+    }
+
+    public Path getPath() {
+        return logPath;
+    }
+
+    // Applies the entries of the log on top of the objects of the JSON file, returning false if the log could
+    // not be fully replayed (missing, stale or with a truncated tail) and should be rewritten through a compaction
+    public boolean replay(List<Object> objects, long baseSize, long baseCrc) {
+        if (!Files.exists(this.logPath)) {
+            this.reset(baseSize, baseCrc);
+            return true;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(this.logPath, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            JsonNode base = headerLine == null ? null : this.readLine(headerLine).get("base");
+            if (base == null || base.path("size").asLong() != baseSize || base.path("crc").asLong() != baseCrc) {
+                logger.warn(WarningMessages.STALE_MUTATION_LOG, this.logPath);
+                this.reset(baseSize, baseCrc);
+                return true;
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank() && !this.apply(objects, line)) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_READING_LOG, e);
+        }
+    }
+
+    // Appends the mutations of a commit to the log as one line, with a single write
+    public void append(List<Mutation> mutations) {
+        if (mutations.isEmpty()) {
+            return;
+        }
+        try {
+            JsonNode record;
+            if (mutations.size() == 1) {
+                record = this.entryOf(mutations.get(0));
+            } else {
+                ObjectNode commit = this.objectMapper.createObjectNode();
+                ArrayNode entries = commit.putArray("commit");
+                for (Mutation mutation : mutations) {
+                    entries.add(this.entryOf(mutation));
+                }
+                record = commit;
+            }
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            line.write(this.objectMapper.writeValueAsBytes(record));
+            line.write('\n');
+            Files.write(this.logPath, line.toByteArray(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_SAVING_LOG, e);
+        }
+    }
+
+    private ObjectNode entryOf(Mutation mutation) {
+        ObjectNode entry = this.objectMapper.createObjectNode();
+        entry.put("op", mutation.getType().name());
+        if (mutation.getType() == Mutation.Type.UPDATE || mutation.getType() == Mutation.Type.DELETE) {
+            entry.put("index", mutation.getIndex());
+        }
+        if (mutation.getValue() != null) {
+            entry.set("value", this.objectMapper.valueToTree(mutation.getValue()));
+        }
+        return entry;
+    }
+
+    // Atomically replaces the log with an empty one that applies to the JSON file with the given size and checksum
+    public void reset(long baseSize, long baseCrc) {
+        try {
+            ObjectNode header = this.objectMapper.createObjectNode();
+            header.putObject("base").put("size", baseSize).put("crc", baseCrc);
+            Path tempPath = this.logPath.resolveSibling(this.logPath.getFileName() + ".tmp");
+            Files.write(tempPath, (this.objectMapper.writeValueAsString(header) + "\n").getBytes(StandardCharsets.UTF_8));
+            Files.move(tempPath, this.logPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_SAVING_LOG, e);
+        }
+    }
+
+    public long size() {
+        try {
+            return Files.exists(this.logPath) ? Files.size(this.logPath) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    // Applies the entries of a commit, which are all parsed first so that an incomplete commit applies none of them
+    private boolean apply(List<Object> objects, String line) throws IOException {
+        JsonNode record;
+        try {
+            record = this.readLine(line);
+        } catch (JsonProcessingException e) {
+            // Only the last commit can be incomplete, when the process stopped in the middle of an append
+            logger.warn(WarningMessages.TRUNCATED_MUTATION_LOG, this.logPath);
+            return false;
+        }
+        JsonNode commit = record.get("commit");
+        if (commit == null) {
+            this.applyEntry(objects, record);
+            return true;
+        }
+        for (JsonNode entry : commit) {
+            this.applyEntry(objects, entry);
+        }
+        return true;
+    }
+
+    private void applyEntry(List<Object> objects, JsonNode entry) throws IOException {
+        switch (Mutation.Type.valueOf(entry.path("op").asText())) {
+            case INSERT -> objects.add(this.objectMapper.treeToValue(entry.get("value"), this.type));
+            case UPDATE -> objects.set(entry.get("index").asInt(), this.objectMapper.treeToValue(entry.get("value"), this.type));
+            case DELETE -> objects.remove(entry.get("index").asInt());
+            case CLEAR -> objects.clear();
+        }
+    }
+
+    private JsonNode readLine(String line) throws JsonProcessingException {
+        return this.objectMapper.readTree(line);
+    }
+}
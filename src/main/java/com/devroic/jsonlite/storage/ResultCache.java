@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.storage;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of the results of the read operations of a client, keyed by the operation and its arguments.
+ * Results are tagged with the {@link CollectionStore#getWriteGeneration() write generation} of the collection they
+ * were computed from, so every write, including a change of the file made outside the client, invalidates them.
+ * The least recently used result is evicted once the cache is full.
+ */
+public class ResultCache {
+
+    private final int maximumSize;
+    private final ResultCacheMetrics metrics = new ResultCacheMetrics();
+    // The results in access order, guarded by this cache
+    private final LinkedHashMap<Key, Object> results;
+    // The write generation of the cached results, guarded by this cache
+    private long generation;
+
+    public ResultCache(int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                if (this.size() <= ResultCache.this.maximumSize) {
+                    return false;
+                }
+                ResultCache.this.metrics.recordEviction();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Identifies a read operation by its name and arguments. Arguments must not change once the key is built, so
+     * mutable arguments such as queries are passed as immutable copies.
+     *
+     * @param operation the name of the operation.
+     * @param arguments the arguments of the operation, which may be null.
+     */
+    public record Key(String operation, List<Object> arguments) {
+
+        // Array arguments, such as the keys of selectKeys, are copied and compared by their elements
+        public static Key of(String operation, Object... arguments) {
+            Object[] values = arguments.clone();
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] instanceof Object[] array) {
+                    values[i] = Arrays.asList(array.clone());
+                }
+            }
+            return new Key(operation, Arrays.asList(values));
+        }
+    }
+
+    // Returns the result of the operation cached for the write generation, or computes it outside the lock of the
+    // cache, so concurrent misses may compute the same result. Results are only cached when the computation succeeds.
+    // The generation must be read before computing, so a result computed while a write commits is cached under the
+    // older generation, and is never returned once the write is visible.
+    public <R> R get(Key key, long generation, Supplier<R> operation) {
+        synchronized (this) {
+            this.invalidateBefore(generation);
+            if (this.results.containsKey(key)) {
+                this.metrics.recordHit();
+                @SuppressWarnings("unchecked")
+                R result = (R) this.results.get(key);
+                return result;
+            }
+            this.metrics.recordMiss();
+        }
+        R result = unmodifiable(operation.get());
+        synchronized (this) {
+            this.invalidateBefore(generation);
+            if (generation == this.generation) {
+                this.results.put(key, result);
+            }
+        }
+        return result;
+    }
+
+    // Drops the results of the generations older than the given one
+    private void invalidateBefore(long generation) {
+        if (generation > this.generation) {
+            this.metrics.recordInvalidation(this.results.size());
+            this.results.clear();
+            this.generation = generation;
+        }
+    }
+
+    public synchronized int size() {
+        return this.results.size();
+    }
+
+    public ResultCacheMetrics getMetrics() {
+        return metrics;
+    }
+
+    // Cached lists and maps are returned to every caller of the operation, so they are wrapped to keep a caller
+    // from changing the results of the others
+    @SuppressWarnings("unchecked")
+    private static <R> R unmodifiable(R result) {
+        if (result instanceof List<?> list) {
+            return (R) Collections.unmodifiableList(list);
+        }
+        if (result instanceof Map<?, ?> map) {
+            return (R) Collections.unmodifiableMap(map);
+        }
+        return result;
+    }
+}
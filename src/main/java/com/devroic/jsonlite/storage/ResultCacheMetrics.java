@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.storage;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the result cache of a client. A hit returns a result computed by an earlier call of the same
+ * operation, an invalidation drops every cached result after a write, and an eviction drops the least recently
+ * used result to keep the cache within its size.
+ */
+public class ResultCacheMetrics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    void recordHit() {
+        this.hits.increment();
+    }
+
+    void recordMiss() {
+        this.misses.increment();
+    }
+
+    void recordEviction() {
+        this.evictions.increment();
+    }
+
+    void recordInvalidation(long count) {
+        this.invalidations.add(count);
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "ResultCacheMetrics{hits=" + getHits()
+                + ", misses=" + getMisses()
+                + ", evictions=" + getEvictions()
+                + ", invalidations=" + getInvalidations() + "}";
+    }
+}
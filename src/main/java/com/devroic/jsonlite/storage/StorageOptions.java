@@ -0,0 +1,270 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.devroic.jsonlite.storage;
+
+import com.devroic.jsonlite.client.CacheMode;
+import com.devroic.jsonlite.client.LockMode;
+import com.devroic.jsonlite.client.ReadMode;
+import com.devroic.jsonlite.client.ScanMode;
+import com.devroic.jsonlite.client.StorageMode;
+import com.devroic.jsonlite.client.WriteMode;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The storage configuration of a client, assembled by the JsonLiteClientBuilder.
+ */
+public class StorageOptions {
+
+    // Default size of the mutation log, in bytes, that triggers a compaction (8 MB)
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 8L * 1024 * 1024;
+    // Default ratio between the size of the mutation log and the size of the JSON file that triggers a compaction
+    public static final double DEFAULT_COMPACTION_RATIO = 1.0;
+    // Default time, in milliseconds, an operation waits for the lock of the file before failing (30 seconds)
+    public static final long DEFAULT_LOCK_TIMEOUT = 30_000;
+    // Default time, in milliseconds, between a mutation and the background flush persisting it
+    public static final long DEFAULT_FLUSH_INTERVAL = 100;
+    // Default number of pending mutations that triggers a flush right away
+    public static final int DEFAULT_FLUSH_THRESHOLD = 1_000;
+    // Default number of pending mutations after which mutating operations wait for a flush
+    public static final int DEFAULT_MAX_PENDING_MUTATIONS = 10_000;
+    // Default number of objects from which a parallel scan splits the collection into chunks
+    public static final int DEFAULT_PARALLEL_SCAN_THRESHOLD = 10_000;
+    // Default size of the JSON file, in bytes, from which it is parsed in parallel chunks (16 MB)
+    public static final long DEFAULT_PARALLEL_LOAD_THRESHOLD = 16L * 1024 * 1024;
+
+    private CacheMode cacheMode = CacheMode.NONE;
+    private StorageMode storageMode = StorageMode.REWRITE;
+    private long compactionThreshold = DEFAULT_COMPACTION_THRESHOLD;
+    private double compactionRatio = DEFAULT_COMPACTION_RATIO;
+    private List<String> indexedKeys = List.of();
+    private List<String> sortedKeys = List.of();
+    private LockMode lockMode = LockMode.LOCAL;
+    private long lockTimeout = DEFAULT_LOCK_TIMEOUT;
+    private WriteMode writeMode = WriteMode.SYNC;
+    private long flushInterval = DEFAULT_FLUSH_INTERVAL;
+    private int flushThreshold = DEFAULT_FLUSH_THRESHOLD;
+    private int maxPendingMutations = DEFAULT_MAX_PENDING_MUTATIONS;
+    private ScanMode scanMode = ScanMode.SEQUENTIAL;
+    private ForkJoinPool scanPool = ForkJoinPool.commonPool();
+    private int parallelScanThreshold = DEFAULT_PARALLEL_SCAN_THRESHOLD;
+    private long parallelLoadThreshold = DEFAULT_PARALLEL_LOAD_THRESHOLD;
+    private ReadMode readMode = ReadMode.BUFFERED;
+    private int resultCacheSize = 0;
+
+    public CacheMode getCacheMode() {
+        return cacheMode;
+    }
+
+    public StorageOptions cacheMode(CacheMode cacheMode) {
+        this.cacheMode = cacheMode;
+        return this;
+    }
+
+    public StorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    public StorageOptions storageMode(StorageMode storageMode) {
+        this.storageMode = storageMode;
+        return this;
+    }
+
+    public long getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    public StorageOptions compactionThreshold(long compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+        return this;
+    }
+
+    public double getCompactionRatio() {
+        return compactionRatio;
+    }
+
+    public StorageOptions compactionRatio(double compactionRatio) {
+        this.compactionRatio = compactionRatio;
+        return this;
+    }
+
+    public List<String> getIndexedKeys() {
+        return indexedKeys;
+    }
+
+    public StorageOptions indexedKeys(List<String> indexedKeys) {
+        this.indexedKeys = indexedKeys;
+        return this;
+    }
+
+    public List<String> getSortedKeys() {
+        return sortedKeys;
+    }
+
+    public StorageOptions sortedKeys(List<String> sortedKeys) {
+        this.sortedKeys = sortedKeys;
+        return this;
+    }
+
+    public LockMode getLockMode() {
+        return lockMode;
+    }
+
+    public StorageOptions lockMode(LockMode lockMode) {
+        this.lockMode = lockMode;
+        return this;
+    }
+
+    public long getLockTimeout() {
+        return lockTimeout;
+    }
+
+    public StorageOptions lockTimeout(long lockTimeout) {
+        this.lockTimeout = lockTimeout;
+        return this;
+    }
+
+    public WriteMode getWriteMode() {
+        return writeMode;
+    }
+
+    public StorageOptions writeMode(WriteMode writeMode) {
+        this.writeMode = writeMode;
+        return this;
+    }
+
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    public StorageOptions flushInterval(long flushInterval) {
+        this.flushInterval = flushInterval;
+        return this;
+    }
+
+    public int getFlushThreshold() {
+        return flushThreshold;
+    }
+
+    public StorageOptions flushThreshold(int flushThreshold) {
+        this.flushThreshold = flushThreshold;
+        return this;
+    }
+
+    public int getMaxPendingMutations() {
+        return maxPendingMutations;
+    }
+
+    public StorageOptions maxPendingMutations(int maxPendingMutations) {
+        this.maxPendingMutations = maxPendingMutations;
+        return this;
+    }
+
+    public ScanMode getScanMode() {
+        return scanMode;
+    }
+
+    public StorageOptions scanMode(ScanMode scanMode) {
+        this.scanMode = scanMode;
+        return this;
+    }
+
+    public ForkJoinPool getScanPool() {
+        return scanPool;
+    }
+
+    public StorageOptions scanPool(ForkJoinPool scanPool) {
+        this.scanPool = scanPool;
+        return this;
+    }
+
+    public int getParallelScanThreshold() {
+        return parallelScanThreshold;
+    }
+
+    public StorageOptions parallelScanThreshold(int parallelScanThreshold) {
+        this.parallelScanThreshold = parallelScanThreshold;
+        return this;
+    }
+
+    public long getParallelLoadThreshold() {
+        return parallelLoadThreshold;
+    }
+
+    public StorageOptions parallelLoadThreshold(long parallelLoadThreshold) {
+        this.parallelLoadThreshold = parallelLoadThreshold;
+        return this;
+    }
+
+    public ReadMode getReadMode() {
+        return readMode;
+    }
+
+    public StorageOptions readMode(ReadMode readMode) {
+        this.readMode = readMode;
+        return this;
+    }
+
+    public int getResultCacheSize() {
+        return resultCacheSize;
+    }
+
+    public StorageOptions resultCacheSize(int resultCacheSize) {
+        this.resultCacheSize = resultCacheSize;
+        return this;
+    }
+
+    // Whether mutations are persisted by the background flusher instead of by the operations
+    public boolean isWriteBehind() {
+        return this.writeMode != WriteMode.SYNC;
+    }
+
+    // Whether the collection in memory may hold changes that are only in the mutation log or not persisted yet,
+    // so the file alone does not describe the collection
+    public boolean isAheadOfFile() {
+        return this.storageMode == StorageMode.APPEND_LOG || this.isWriteBehind();
+    }
+
+    // Whether every operation also locks the file against other processes
+    public boolean isInterProcess() {
+        return this.lockMode == LockMode.INTER_PROCESS;
+    }
+
+    // Whether the collection is kept in memory between operations
+    public boolean isMemoryResident() {
+        return this.cacheMode == CacheMode.IN_MEMORY || this.storageMode == StorageMode.APPEND_LOG || this.isWriteBehind();
+    }
+
+    // Whether a client with these options can share the storage engine of a client with the other options,
+    // which holds when they differ at most by their indexes, by how they scan the collection and by their result caches
+    public boolean isCompatibleWith(StorageOptions other) {
+        return this.cacheMode == other.cacheMode
+                && this.storageMode == other.storageMode
+                && this.compactionThreshold == other.compactionThreshold
+                && Double.compare(this.compactionRatio, other.compactionRatio) == 0
+                && this.lockMode == other.lockMode
+                && this.lockTimeout == other.lockTimeout
+                && this.writeMode == other.writeMode
+                && this.flushInterval == other.flushInterval
+                && this.flushThreshold == other.flushThreshold
+                && this.maxPendingMutations == other.maxPendingMutations
+                && this.parallelLoadThreshold == other.parallelLoadThreshold
+                && this.readMode == other.readMode;
+    }
+}
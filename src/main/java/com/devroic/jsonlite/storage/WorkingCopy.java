@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.devroic.jsonlite.storage;
+
+import com.devroic.jsonlite.utils.ParallelScan;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A private, mutable copy of the collection used by a mutating operation. Every change made through it is
+ * recorded as a {@link Mutation}, so that the store can persist either the whole collection or only the changes.
+ * The collection is loaded lazily, so operations like deleting all the objects never read the file.
+ */
+public class WorkingCopy {
+
+    private final Supplier<List<Object>> loader;
+    private final List<Mutation> mutations = new ArrayList<>();
+    private List<Object> objects;
+
+    WorkingCopy(Supplier<List<Object>> loader) {
+        this.loader = loader;
+    }
+
+    // Returns a read-only view of the current state of the copy
+    @SuppressWarnings("unchecked")
+    public <T> List<T> objects() {
+        return (List<T>) Collections.unmodifiableList(this.mutableObjects());
+    }
+
+    // Returns the position of the given object instance in the copy, or -1 if it is not part of it
+    public int positionOf(Object object) {
+        List<Object> current = this.mutableObjects();
+        for (int i = 0; i < current.size(); i++) {
+            if (current.get(i) == object) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Returns the positions of the given object instances in the copy, in ascending order, with a single pass
+    public List<Integer> positionsOf(Collection<?> objects) {
+        Set<Object> wanted = Collections.newSetFromMap(new IdentityHashMap<>());
+        wanted.addAll(objects);
+        List<Integer> positions = new ArrayList<>();
+        List<Object> current = this.mutableObjects();
+        for (int i = 0; i < current.size() && positions.size() < wanted.size(); i++) {
+            if (wanted.contains(current.get(i))) {
+                positions.add(i);
+            }
+        }
+        return positions;
+    }
+
+    public <T> void add(T object) {
+        List<Object> current = this.mutableObjects();
+        current.add(object);
+        this.mutations.add(Mutation.insert(current.size() - 1, object));
+    }
+
+    public <T> void set(int index, T object) {
+        Object previous = this.mutableObjects().set(index, object);
+        this.mutations.add(Mutation.update(index, previous, object));
+    }
+
+    public void remove(int index) {
+        Object previous = this.mutableObjects().remove(index);
+        this.mutations.add(Mutation.delete(index, previous));
+    }
+
+    // Removes all the objects matching the condition in a single pass and returns how many were removed
+    public <T> int removeIf(Predicate<T> condition) {
+        return this.removeIf(condition, ParallelScan.SEQUENTIAL);
+    }
+
+    // Removes all the objects matching the condition, evaluated by the scan, and returns how many were removed
+    @SuppressWarnings("unchecked")
+    public <T> int removeIf(Predicate<T> condition, ParallelScan scan) {
+        List<Object> current = this.mutableObjects();
+        boolean[] matches = scan.match((List<T>) current, condition);
+        List<Object> remaining = new ArrayList<>(current.size());
+        List<Integer> removedIndexes = new ArrayList<>();
+        for (int i = 0; i < current.size(); i++) {
+            Object object = current.get(i);
+            if (matches[i]) {
+                removedIndexes.add(i);
+            } else {
+                remaining.add(object);
+            }
+        }
+        // Removals are recorded from the last to the first, so each index is still valid when replayed in order
+        for (int i = removedIndexes.size() - 1; i >= 0; i--) {
+            int index = removedIndexes.get(i);
+            this.mutations.add(Mutation.delete(index, current.get(index)));
+        }
+        if (!removedIndexes.isEmpty()) {
+            this.objects = remaining;
+        }
+        return removedIndexes.size();
+    }
+
+    public void clear() {
+        this.objects = new ArrayList<>();
+        this.mutations.add(Mutation.clear());
+    }
+
+    public boolean isModified() {
+        return !this.mutations.isEmpty();
+    }
+
+    List<Mutation> getMutations() {
+        return this.mutations;
+    }
+
+    List<Object> getResult() {
+        return this.mutableObjects();
+    }
+
+    private List<Object> mutableObjects() {
+        if (this.objects == null) {
+            this.objects = this.loader.get();
+        }
+        return this.objects;
+    }
+}
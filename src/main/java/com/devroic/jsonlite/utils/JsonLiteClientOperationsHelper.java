@@ -19,6 +19,7 @@ package com.devroic.jsonlite.utils;
 
 import com.devroic.jsonlite.messages.ErrorMessages;
 import com.devroic.jsonlite.messages.InfoMessages;
+import com.devroic.jsonlite.reflection.AccessorRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.devroic.jsonlite.exceptions.JsonLiteClientBuilderException;
 import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
@@ -27,9 +28,17 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
 
 public class JsonLiteClientOperationsHelper {
 
@@ -70,32 +79,88 @@ public class JsonLiteClientOperationsHelper {
         }
     }
 
-    // Method to get the value of a field from an object using reflection
-    public static <T> String getFieldValue(T object, String key) {
+    // Method to save a list of objects to a temporary file renamed over the JSON file, so readers of the JSON file,
+    // including those that mapped it into memory, see either the previous or the new content but never a partial one
+    public static <T> void saveToFileAtomically(ObjectMapper objectMapper, List<T> objects, File jsonFile) {
+        Path jsonPath = jsonFile.toPath();
+        Path tempPath = jsonPath.resolveSibling(jsonFile.getName() + ".tmp");
         try {
-            // Generate the getter method name based on the field name (e.g., getFieldName)
-            String getterMethodName = "get" + key.substring(0, 1).toUpperCase() + key.substring(1);
-            // Use reflection to find the getter method
-            Method getterMethod = object.getClass().getMethod(getterMethodName);
-            // Invoke the getter method to retrieve the value
-            Object invokeObject = getterMethod.invoke(object);
-            if (invokeObject != null) {
-                return invokeObject.toString(); // Return the field value as a string
+            objectMapper.writeValue(tempPath.toFile(), objects);
+            Files.move(tempPath, jsonPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new JsonLiteClientOperationException(ErrorMessages.FAILED_SAVING, e);
+        }
+    }
+
+    // Method to get the value of a field from an object as a string through its cached getter accessor
+    public static <T> String getFieldValue(T object, String key) {
+        Object invokeObject = getRawFieldValue(object, key);
+        if (invokeObject != null) {
+            return invokeObject.toString(); // Return the field value as a string
+        }
+        return ""; // Return an empty string if the field value is null
+    }
+
+    // Method to get the value of a field from an object through its cached getter accessor, keeping its original type
+    public static <T> Object getRawFieldValue(T object, String key) {
+        return AccessorRegistry.get(object, key);
+    }
+
+    // Method to find the positions of the objects that match the given condition, in their original order
+    public static <T> List<Integer> findMatchingIndexes(List<T> objects, Predicate<T> condition) {
+        List<Integer> matchingIndexes = new ArrayList<>();
+        for (int i = 0; i < objects.size(); i++) {
+            if (condition.test(objects.get(i))) {
+                matchingIndexes.add(i);
             }
-            return ""; // Return an empty string if the field value is null
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-            // Handle exceptions when the getter method is not found or cannot be accessed
-            throw new JsonLiteClientOperationException(
-                    String.format(ErrorMessages.MISSING_GETTER, object.getClass().getSimpleName(), key), e);
         }
+        return matchingIndexes;
     }
 
     // Method to check if a given object has a field matching a key-value pair
     public static <T> boolean hasMatchingKeyValue(T object, String key, String value) {
         // Get the field value for the given key
-        Object fieldValue = JsonLiteClientOperationsHelper.getFieldValue(object, key);
+        Object fieldValue = JsonLiteClientOperationsHelper.getRawFieldValue(object, key);
+        // A list field matches when any of its elements matches the given value
+        if (fieldValue instanceof Collection<?> elements) {
+            return elements.stream().anyMatch(element -> element != null && element.toString().equals(value));
+        }
         // Return true if the field value matches the given value, otherwise false
-        return fieldValue != null && fieldValue.toString().equals(value);
+        return (fieldValue != null ? fieldValue.toString() : "").equals(value);
+    }
+
+    // Method to check if a given object has a field matching any of the values, the same way as for a single value
+    public static <T> boolean hasMatchingKeyValue(T object, String key, Set<String> values) {
+        Object fieldValue = JsonLiteClientOperationsHelper.getRawFieldValue(object, key);
+        if (fieldValue instanceof Collection<?> elements) {
+            return elements.stream().anyMatch(element -> element != null && values.contains(element.toString()));
+        }
+        return values.contains(fieldValue != null ? fieldValue.toString() : "");
+    }
+
+    // Method to get the first objects in the order of the comparator, at most limit objects. A bounded heap keeps only
+    // the best objects seen so far, instead of sorting all of them, and equal objects keep the order they came in.
+    public static <T> List<T> firstSorted(Iterator<T> objects, Comparator<? super T> comparator, int limit) {
+        Comparator<Ranked<T>> order = Comparator.<Ranked<T>, T>comparing(Ranked::object, comparator)
+                .thenComparingLong(Ranked::position);
+        // The head of the heap is the last of the objects kept, so it is the one replaced by a better object
+        PriorityQueue<Ranked<T>> heap = new PriorityQueue<>(order.reversed());
+        long position = 0;
+        while (objects.hasNext()) {
+            Ranked<T> ranked = new Ranked<>(objects.next(), position++);
+            if (heap.size() < limit) {
+                heap.add(ranked);
+            } else if (order.compare(ranked, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(ranked);
+            }
+        }
+        List<Ranked<T>> first = new ArrayList<>(heap);
+        first.sort(order);
+        return first.stream().map(Ranked::object).toList();
+    }
+
+    private record Ranked<T>(T object, long position) {
     }
 
 }
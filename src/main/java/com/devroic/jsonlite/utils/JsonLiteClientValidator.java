@@ -17,8 +17,11 @@
 
 package com.devroic.jsonlite.utils;
 
+import com.devroic.jsonlite.client.KeyCondition;
+import com.devroic.jsonlite.client.Query;
 import com.devroic.jsonlite.messages.ErrorMessages;
 import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.schema.SchemaDescriptor;
 
 import java.io.File;
 import java.lang.reflect.Field;
@@ -79,15 +82,74 @@ public class JsonLiteClientValidator {
         }
     }
 
-    // Method to check if the provided key exists as a valid field in the given class
-    public static void validateKey(Class<?> type, String key) {
-        Field[] fields = type.getDeclaredFields(); // Get all declared fields in the class
-        for (Field field : fields) {
-            // If any field name matches the provided key (case-insensitive), throw exception
-            if (field.getName().equalsIgnoreCase(key)) {
-                return;
-            }
+    // Method to check if the provided key exists as a valid field in the schema of the client
+    public static void validateKey(SchemaDescriptor schema, String key) {
+        if (!schema.hasField(key)) {
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.KEY_NOT_FOUND_IN_CLASS, key, schema.getType().getSimpleName()));
+        }
+    }
+
+    // Method to check that the provided key condition is set and its key exists in the schema of the client
+    public static void validateKeyCondition(SchemaDescriptor schema, KeyCondition condition) {
+        if (condition == null) {
+            throw new JsonLiteClientOperationException(ErrorMessages.KEY_CONDITION_NULL);
+        }
+        validateKey(schema, condition.getKey());
+    }
+
+    // Method to check that the provided name of a query is set, since it identifies the results of the query
+    public static void validateQueryName(String name) {
+        if (name == null || name.isBlank()) {
+            throw new JsonLiteClientOperationException(ErrorMessages.QUERY_NAME_NULL);
+        }
+    }
+
+    // Method to check that the provided key exists and has a comparable type, so its values can be sorted
+    public static void validateComparableKey(SchemaDescriptor schema, String key) {
+        Class<?> fieldType = schema.getField(key).type();
+        if (!Comparable.class.isAssignableFrom(fieldType)) {
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.KEY_NOT_COMPARABLE, key, fieldType.getSimpleName()));
+        }
+    }
+
+    // Method to check that the provided key exists and has a numeric type, so its values can be summed
+    public static void validateNumericKey(SchemaDescriptor schema, String key) {
+        validateKey(schema, key);
+        Class<?> fieldType = schema.getField(key).type();
+        boolean numeric = fieldType.isPrimitive()
+                ? fieldType != boolean.class && fieldType != char.class
+                : Number.class.isAssignableFrom(fieldType);
+        if (!numeric) {
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.KEY_NOT_NUMERIC, key, fieldType.getSimpleName()));
+        }
+    }
+
+    // Method to check the page of a paginated operation before reading, so an invalid page fails without scanning
+    public static void validatePage(int offset, int limit) {
+        if (offset < 0) {
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.INVALID_OFFSET, offset));
+        }
+        if (limit <= 0) {
+            throw new JsonLiteClientOperationException(String.format(ErrorMessages.INVALID_LIMIT, limit));
+        }
+    }
+
+    // Method to check that the provided query is set and that its keys exist, with comparable keys for its ranges and order
+    public static void validateQuery(SchemaDescriptor schema, Query query) {
+        if (query == null) {
+            throw new JsonLiteClientOperationException(ErrorMessages.QUERY_NULL);
+        }
+        for (KeyCondition condition : query.getConditions()) {
+            validateKey(schema, condition.getKey());
+        }
+        for (Query.Range range : query.getRanges()) {
+            validateKey(schema, range.getKey());
+            validateComparableKey(schema, range.getKey());
+        }
+        if (query.getOrderKey() != null) {
+            validateKey(schema, query.getOrderKey());
+            validateComparableKey(schema, query.getOrderKey());
         }
-        throw new JsonLiteClientOperationException(String.format(ErrorMessages.KEY_NOT_FOUND_IN_CLASS, key, type.getSimpleName()));
+        validatePage(query.getOffset(), query.getLimit());
     }
-}
\ No newline at end of file
+}
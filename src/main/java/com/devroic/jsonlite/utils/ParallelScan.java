@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2025  Andreas Eracleous
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.devroic.jsonlite.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+/**
+ * Evaluates a condition over a collection, splitting the collection into chunks evaluated concurrently on a
+ * ForkJoinPool once it reaches a threshold. The matches are marked by position, so results keep the order
+ * of the collection whether the scan ran in parallel or not.
+ */
+public final class ParallelScan {
+
+    // A scan evaluating the condition on the calling thread, whatever the size of the collection
+    public static final ParallelScan SEQUENTIAL = new ParallelScan(null, Integer.MAX_VALUE);
+
+    // Smallest chunk evaluated by a single task, below which splitting costs more than it saves
+    private static final int MIN_CHUNK_SIZE = 1_024;
+    // Number of chunks per worker thread, so workers finishing early can steal the chunks of slower ones
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public ParallelScan(ForkJoinPool pool, int threshold) {
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    // Returns, for each position of the collection, whether its object matches the condition
+    public <T> boolean[] match(List<T> objects, Predicate<T> condition) {
+        List<T> randomAccessObjects = objects instanceof RandomAccess ? objects : new ArrayList<>(objects);
+        int size = randomAccessObjects.size();
+        boolean[] matches = new boolean[size];
+        if (this.pool == null || size < this.threshold) {
+            for (int i = 0; i < size; i++) {
+                matches[i] = condition.test(randomAccessObjects.get(i));
+            }
+        } else {
+            int chunkSize = Math.max(MIN_CHUNK_SIZE, size / (this.pool.getParallelism() * CHUNKS_PER_THREAD));
+            this.pool.invoke(new MatchTask<>(randomAccessObjects, condition, matches, 0, size, chunkSize));
+        }
+        return matches;
+    }
+
+    // Returns the objects matching the condition, in the order of the collection
+    public <T> List<T> filter(List<T> objects, Predicate<T> condition) {
+        boolean[] matches = this.match(objects, condition);
+        List<T> matchingObjects = new ArrayList<>();
+        int i = 0;
+        for (T object : objects) {
+            if (matches[i++]) {
+                matchingObjects.add(object);
+            }
+        }
+        return matchingObjects;
+    }
+
+    // Returns the positions of the objects matching the condition, in ascending order
+    public <T> List<Integer> findMatchingIndexes(List<T> objects, Predicate<T> condition) {
+        boolean[] matches = this.match(objects, condition);
+        List<Integer> matchingIndexes = new ArrayList<>();
+        for (int i = 0; i < matches.length; i++) {
+            if (matches[i]) {
+                matchingIndexes.add(i);
+            }
+        }
+        return matchingIndexes;
+    }
+
+    // Marks the matches of a range of the collection, splitting it in halves down to the chunk size.
+    // Each task writes a disjoint range of the matches, which are visible to the caller once the root task joins.
+    private static final class MatchTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> objects;
+        private final Predicate<T> condition;
+        private final boolean[] matches;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        private MatchTask(List<T> objects, Predicate<T> condition, boolean[] matches, int from, int to, int chunkSize) {
+            this.objects = objects;
+            this.condition = condition;
+            this.matches = matches;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= this.chunkSize) {
+                for (int i = this.from; i < this.to; i++) {
+                    this.matches[i] = this.condition.test(this.objects.get(i));
+                }
+                return;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(new MatchTask<>(this.objects, this.condition, this.matches, this.from, middle, this.chunkSize),
+                    new MatchTask<>(this.objects, this.condition, this.matches, middle, this.to, this.chunkSize));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.devroic.jsonlite.base;
+
+import com.devroic.jsonlite.AsyncJsonLiteClient;
+import com.devroic.jsonlite.JsonLiteClient;
+import com.devroic.jsonlite.client.JsonLiteClientBuilder;
+import org.junit.jupiter.api.AfterEach;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// Base class of the tests building their own clients, each test on a JSON file of its own that is deleted after it
+public abstract class JsonLiteClientFileTest {
+
+    // The clients built by the running test and their JSON files
+    private final List<AutoCloseable> clients = new ArrayList<>();
+    private final Set<String> jsonFilePaths = new LinkedHashSet<>();
+
+    // Returns a builder of a client of the JSON file, creating the file and keyed by "id"
+    protected static JsonLiteClientBuilder builder(String jsonFilePath, Class<?> type) {
+        return JsonLiteClient.builder()
+                .jsonFilePath(jsonFilePath)
+                .type(type)
+                .idKey("id")
+                .createFileIfNotExists(true);
+    }
+
+    // Builds a client of the JSON file with the given options, which is closed after the test
+    protected JsonLiteClient buildClient(String jsonFilePath, Class<?> type, Consumer<JsonLiteClientBuilder> options) {
+        JsonLiteClientBuilder builder = builder(jsonFilePath, type);
+        options.accept(builder);
+        this.jsonFilePaths.add(jsonFilePath);
+        JsonLiteClient client = builder.build();
+        this.clients.add(client);
+        return client;
+    }
+
+    // Builds an asynchronous client of the JSON file with the given options, which is closed after the test
+    protected AsyncJsonLiteClient buildAsyncClient(String jsonFilePath, Class<?> type, Consumer<JsonLiteClientBuilder> options) {
+        JsonLiteClientBuilder builder = builder(jsonFilePath, type);
+        options.accept(builder);
+        this.jsonFilePaths.add(jsonFilePath);
+        AsyncJsonLiteClient client = builder.buildAsync();
+        this.clients.add(client);
+        return client;
+    }
+
+    // Closes the clients first, so no pending write recreates a file once it is deleted
+    @AfterEach
+    void closeClientsAndDeleteFiles() throws Exception {
+        try {
+            for (AutoCloseable client : this.clients) {
+                client.close();
+            }
+        } finally {
+            for (String jsonFilePath : this.jsonFilePaths) {
+                deleteFiles(jsonFilePath);
+            }
+        }
+    }
+
+    // Deletes the JSON file with its append log and the temporary file of its atomic save
+    protected static void deleteFiles(String jsonFilePath) throws IOException {
+        Files.deleteIfExists(Paths.get(jsonFilePath));
+        Files.deleteIfExists(Paths.get(jsonFilePath + ".log"));
+        Files.deleteIfExists(Paths.get(jsonFilePath + ".tmp"));
+    }
+}
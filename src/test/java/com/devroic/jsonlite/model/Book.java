@@ -0,0 +1,59 @@
+package com.devroic.jsonlite.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public class Book {
+
+    private String isbn;
+    @JsonProperty("book_title")
+    private String title;
+    private Integer pageCount;
+    private List<String> authors;
+
+    public Book() {    //Empty Constructor to be used from the Jackson ObjectMapper
+    }
+
+    // Constructor
+    public Book(String isbn, String title, Integer pageCount, List<String> authors) {
+        this.isbn = isbn;
+        this.title = title;
+        this.pageCount = pageCount;
+        this.authors = authors;
+    }
+
+    // Getters and Setters
+
+    public String getIsbn() {
+        return isbn;
+    }
+
+    public void setIsbn(String isbn) {
+        this.isbn = isbn;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public Integer getPageCount() {
+        return pageCount;
+    }
+
+    public void setPageCount(Integer pageCount) {
+        this.pageCount = pageCount;
+    }
+
+    public List<String> getAuthors() {
+        return authors;
+    }
+
+    public void setAuthors(List<String> authors) {
+        this.authors = authors;
+    }
+}
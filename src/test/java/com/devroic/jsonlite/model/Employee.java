@@ -0,0 +1,54 @@
+package com.devroic.jsonlite.model;
+
+public class Employee {
+
+    private Long id;
+    private String name;
+    private Integer age;
+    private String department;
+
+    public Employee() {    //Empty Constructor to be used from the Jackson ObjectMapper
+    }
+
+    // Constructor
+    public Employee(Long id, String name, Integer age, String department) {
+        this.id = id;
+        this.name = name;
+        this.age = age;
+        this.department = department;
+    }
+
+    // Getters and Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+
+    public void setAge(Integer age) {
+        this.age = age;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+}
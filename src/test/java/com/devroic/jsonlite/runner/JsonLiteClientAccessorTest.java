@@ -0,0 +1,48 @@
+package com.devroic.jsonlite.runner;
+
+import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.model.Employee;
+import com.devroic.jsonlite.model.Person;
+import com.devroic.jsonlite.reflection.AccessorRegistry;
+import com.devroic.jsonlite.reflection.TypeAccessors;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonLiteClientAccessorTest {
+
+    @Test
+    void testAccessorsReturnTypedValues() {
+        Employee employee = new Employee(7L, "John", 35, "Sales");
+        TypeAccessors accessors = AccessorRegistry.forType(Employee.class);
+        assertSame(accessors, AccessorRegistry.forType(Employee.class), "Accessors should be resolved once per type.");
+        assertEquals(7L, accessors.getAccessor("id").get(employee), "ID should keep its Long type.");
+        assertEquals(Integer.class, accessors.getAccessor("age").valueType(), "Age should be of type Integer.");
+        assertEquals(List.of("Bmw"), AccessorRegistry.get(new Person("1", "John", "New York", List.of("Bmw"), List.of(), "Engineer"), "cars"),
+                "List values should not be converted to strings.");
+    }
+
+    @Test
+    void testUnknownKeys() {
+        TypeAccessors accessors = AccessorRegistry.forType(Employee.class);
+        assertThrows(JsonLiteClientOperationException.class, () -> accessors.getAccessor("salary"),
+                "Should throw exception if the key has no getter");
+    }
+
+    @Test
+    void testAccessorsOfTypesFromAChildClassLoader() throws Exception {
+        // Loads a separate Employee class that the class loader of the library cannot see, like the model of a webapp
+        URL testClasses = Employee.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader childLoader = new URLClassLoader(new URL[]{testClasses}, ClassLoader.getPlatformClassLoader())) {
+            Class<?> type = childLoader.loadClass(Employee.class.getName());
+            assertNotSame(Employee.class, type, "Employee should be loaded by the child class loader.");
+            Object employee = type.getConstructor(Long.class, String.class, Integer.class, String.class)
+                    .newInstance(7L, "John", 35, "Sales");
+            assertEquals("John", AccessorRegistry.get(employee, "name"), "Name should be read from the child class loader type.");
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.devroic.jsonlite.runner;
+
+import com.devroic.jsonlite.JsonLiteClient;
+import com.devroic.jsonlite.base.JsonLiteClientFileTest;
+import com.devroic.jsonlite.client.CacheMode;
+import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonLiteClientAggregateTest extends JsonLiteClientFileTest {
+    private static final String JSON_FILE_PATH = "src/test/java/com/devroic/jsonlite/resources/aggregate.json";
+    private JsonLiteClient client;
+
+    private JsonLiteClient buildClient(CacheMode cacheMode, String... sortedKeys) {
+        client = buildClient(JSON_FILE_PATH, Employee.class, builder -> builder
+                .cacheMode(cacheMode)
+                .sortedIndexes(sortedKeys));
+        client.insertMultiple(Arrays.asList(
+                new Employee(1L, "John", 30, "Sales"),
+                new Employee(2L, "Mark", 45, "Engineering"),
+                new Employee(3L, "Alice", 25, "Sales"),
+                new Employee(4L, "Bob", null, "Support")));
+        return client;
+    }
+
+    // The same aggregates are checked on values read from the file and on objects kept in memory
+    @Test
+    void testCountsAndExistenceFromFile() {
+        buildClient(CacheMode.NONE);
+        assertCountsAndExistence();
+    }
+
+    @Test
+    void testCountsAndExistenceInMemory() {
+        buildClient(CacheMode.IN_MEMORY);
+        assertCountsAndExistence();
+    }
+
+    private void assertCountsAndExistence() {
+        assertEquals(4, client.count(), "Count should include every employee.");
+        assertEquals(2, client.<Employee>countWhere(employee -> "Sales".equals(employee.getDepartment())), "Count should include the matching employees.");
+        assertTrue(client.exists("3"), "Employee 3 should exist.");
+        assertFalse(client.exists("9"), "Employee 9 should not exist.");
+        assertTrue(client.<Employee>existsWhere(employee -> employee.getAge() == null), "An employee without an age should exist.");
+        assertFalse(client.<Employee>existsWhere(employee -> "HR".equals(employee.getDepartment())), "No employee should be in HR.");
+    }
+
+    @Test
+    void testGroupByCountAndNumericAggregatesFromFile() {
+        buildClient(CacheMode.NONE);
+        assertGroupByCountAndNumericAggregates();
+    }
+
+    @Test
+    void testGroupByCountAndNumericAggregatesInMemory() {
+        buildClient(CacheMode.IN_MEMORY);
+        assertGroupByCountAndNumericAggregates();
+    }
+
+    private void assertGroupByCountAndNumericAggregates() {
+        Map<String, Long> expected = new LinkedHashMap<>();
+        expected.put("Sales", 2L);
+        expected.put("Engineering", 1L);
+        expected.put("Support", 1L);
+        assertEquals(expected, client.groupByCount("department"), "Departments should be counted in the order they are found.");
+
+        assertEquals(25, client.min("age"), "Min should be the lowest age, in the type of the key.");
+        assertEquals(45, client.max("age"), "Max should be the highest age, in the type of the key.");
+        assertEquals(100L, client.sum("age"), "Sum of an integral key should be a long, without the missing age.");
+        assertEquals(100.0 / 3, client.avg("age"), 1e-9, "Average should not include the missing age.");
+    }
+
+    @Test
+    void testAggregatesOfUpdatedAndIndexedValues() {
+        buildClient(CacheMode.NONE, "age");
+        // Updates store the new values as text, which the aggregates convert to the type of the key
+        client.updateById("4", new Employee(4L, "Bob", 50, "Support"));
+        client.updateWhere(employee -> ((Employee) employee).getId() == 1L, Map.of("age", 35));
+        assertEquals(25, client.min("age"), "Min should be read from the sorted index.");
+        assertEquals(50, client.max("age"), "Max should be read from the sorted index.");
+        assertEquals(155L, client.sum("age"), "Sum should include the values stored as text.");
+    }
+
+    @Test
+    void testExtremesOfAnEditedCachedObject() {
+        buildClient(CacheMode.IN_MEMORY, "age");
+        // The cached employee with the lowest age is changed in place before its update
+        Employee alice = client.selectById("3");
+        alice.setAge(60);
+        client.updateById("3", alice);
+        assertEquals(30, client.min("age"), "Min should not be read from the previous age of the updated employee.");
+        assertEquals(60, client.max("age"), "Max should be the new age of the updated employee.");
+    }
+
+    @Test
+    void testAggregatesOfEmptyOrInvalidKeys() {
+        buildClient(CacheMode.NONE);
+        client.deleteAll();
+        assertEquals(0, client.count(), "An empty collection should have no objects.");
+        assertNull(client.max("age"), "Max of an empty collection should be null.");
+        assertEquals(0L, client.sum("age"), "Sum of an empty collection should be zero.");
+        assertThrows(JsonLiteClientOperationException.class, () -> client.sum("department"), "A text key should not be summed.");
+    }
+}
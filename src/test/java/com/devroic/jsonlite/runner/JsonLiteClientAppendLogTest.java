@@ -0,0 +1,89 @@
+package com.devroic.jsonlite.runner;
+
+import com.devroic.jsonlite.JsonLiteClient;
+import com.devroic.jsonlite.base.JsonLiteClientFileTest;
+import com.devroic.jsonlite.client.StorageMode;
+import com.devroic.jsonlite.model.Person;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonLiteClientAppendLogTest extends JsonLiteClientFileTest {
+    private static final String JSON_FILE_PATH = "src/test/java/com/devroic/jsonlite/resources/append-log.json";
+    private static final Path LOG_PATH = Paths.get(JSON_FILE_PATH + ".log");
+
+    private JsonLiteClient buildClient(long compactionThreshold) {
+        return buildClient(JSON_FILE_PATH, Person.class, builder -> builder
+                .storageMode(StorageMode.APPEND_LOG)
+                .compactionThreshold(compactionThreshold));
+    }
+
+    private void populate(JsonLiteClient client) {
+        client.insert(new Person("1", "John", "New York", List.of("Bmw"), List.of("Nike"), "Software Engineer"));
+        client.insert(new Person("2", "Mark", "San Francisco", List.of("Nissan"), List.of("Puma"), "Data Scientist"));
+        client.insert(new Person("3", "Alice", "New York", List.of("Tesla"), List.of("Apple"), "Product Manager"));
+        client.updateKey("job", "Engineer");
+        client.deleteById("2");
+    }
+
+    @Test
+    void testLogIsReplayedOnStartup() throws Exception {
+        // The first client is closed, so the reopened client loads the collection again instead of sharing it
+        try (JsonLiteClient client = buildClient(Long.MAX_VALUE)) {
+            populate(client);
+        }
+        assertEquals(0, Files.size(Paths.get(JSON_FILE_PATH)), "JSON file should not be rewritten before compaction.");
+
+        try (JsonLiteClient reopened = buildClient(Long.MAX_VALUE)) {
+            List<Person> people = reopened.selectAll();
+            assertEquals(2, people.size(), "Replayed collection should contain two people.");
+            assertEquals("Engineer", people.get(1).getJob(), "Replayed person should contain the update.");
+            assertNull(reopened.selectById("2"), "Deleted person should not be replayed.");
+        }
+    }
+
+    @Test
+    void testLogIsCompactedIntoJsonFile() throws Exception {
+        String expected = "[{\"id\":\"1\",\"name\":\"John\",\"city\":\"New York\",\"cars\":[\"Bmw\"],\"brands\":[\"Nike\"],\"job\":\"Engineer\"},"
+                + "{\"id\":\"3\",\"name\":\"Alice\",\"city\":\"New York\",\"cars\":[\"Tesla\"],\"brands\":[\"Apple\"],\"job\":\"Engineer\"}]";
+        try (JsonLiteClient client = buildClient(1)) {
+            populate(client);
+            long deadline = System.currentTimeMillis() + 5000;
+            while ((!expected.equals(Files.readString(Paths.get(JSON_FILE_PATH))) || Files.readAllLines(LOG_PATH).size() > 1)
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+        }
+        assertEquals(expected, Files.readString(Paths.get(JSON_FILE_PATH)), "Compacted file should have the same format as a rewrite.");
+        assertTrue(Files.readAllLines(LOG_PATH).size() <= 1, "Compacted log should only contain its header.");
+    }
+
+    @Test
+    void testIncompleteBatchIsNotReplayed() throws Exception {
+        try (JsonLiteClient client = buildClient(Long.MAX_VALUE)) {
+            client.insert(new Person("1", "John", "New York", List.of("Bmw"), List.of("Nike"), "Software Engineer"));
+            client.batch(batch -> {
+                batch.insert(new Person("2", "Mark", "San Francisco", List.of("Nissan"), List.of("Puma"), "Data Scientist"));
+                batch.insert(new Person("3", "Alice", "New York", List.of("Tesla"), List.of("Apple"), "Product Manager"));
+            });
+        }
+        List<String> lines = Files.readAllLines(LOG_PATH);
+        assertEquals(3, lines.size(), "The batch should be logged as a single line after the header and the insert.");
+
+        // Cuts the batch in the middle of its second insert, as a crash in the middle of the append would
+        String batch = lines.get(2);
+        Files.writeString(LOG_PATH, lines.get(0) + "\n" + lines.get(1) + "\n" + batch.substring(0, batch.lastIndexOf("Alice")));
+        try (JsonLiteClient reopened = buildClient(Long.MAX_VALUE)) {
+            List<Person> people = reopened.selectAll();
+            assertEquals(1, people.size(), "No insert of the incomplete batch should be replayed.");
+            assertEquals("John", people.get(0).getName(), "The complete commit should be replayed.");
+        }
+    }
+}
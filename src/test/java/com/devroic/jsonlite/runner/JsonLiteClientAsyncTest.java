@@ -0,0 +1,83 @@
+package com.devroic.jsonlite.runner;
+
+import com.devroic.jsonlite.AsyncJsonLiteClient;
+import com.devroic.jsonlite.base.JsonLiteClientFileTest;
+import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonLiteClientAsyncTest extends JsonLiteClientFileTest {
+    private static final String JSON_FILE_PATH = "src/test/java/com/devroic/jsonlite/resources/async.json";
+
+    private AsyncJsonLiteClient buildClient(Executor executor) {
+        return buildAsyncClient(JSON_FILE_PATH, Employee.class, builder -> builder
+                .executor(executor));
+    }
+
+    @Test
+    void testWritesRunInCallOrder() throws Exception {
+        AsyncJsonLiteClient client = buildClient(null);
+        List<CompletableFuture<?>> writes = new ArrayList<>();
+        // Inserting the same ID again only succeeds if the delete called before it has already run
+        for (int i = 0; i < 20; i++) {
+            writes.add(client.insert(new Employee(1L, "Employee " + i, 30, "Sales")));
+            writes.add(client.deleteById("1"));
+        }
+        writes.add(client.insert(new Employee(2L, "Bob", 40, "Engineering")));
+        List<Employee> employees = client.<Employee>selectAll().get(5, TimeUnit.SECONDS);
+
+        for (CompletableFuture<?> write : writes) {
+            assertTrue(write.isDone() && !write.isCompletedExceptionally(), "Every write should have completed in order.");
+        }
+        assertEquals(1, employees.size(), "Select should see all the writes called before it.");
+        assertEquals("Bob", employees.get(0).getName(), "Select should see the last inserted employee.");
+    }
+
+    @Test
+    void testFailedWriteCompletesExceptionally() throws Exception {
+        AsyncJsonLiteClient client = buildClient(null);
+        client.insert(new Employee(1L, "Alice", 30, "Sales"));
+        CompletableFuture<Void> duplicate = client.insert(new Employee(1L, "Alice", 30, "Sales"));
+        CompletableFuture<Boolean> update = client.updateKey("department", "Engineering");
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> duplicate.get(5, TimeUnit.SECONDS),
+                "Inserting a duplicate ID should fail.");
+        assertInstanceOf(JsonLiteClientOperationException.class, exception.getCause(), "The cause should be the client exception.");
+        assertTrue(update.get(5, TimeUnit.SECONDS), "Writes queued after a failed write should still run.");
+        assertEquals(1, client.selectByKey("department", "Engineering").get(5, TimeUnit.SECONDS).size(),
+                "Select should see the update.");
+    }
+
+    @Test
+    void testOperationsRunOnConfiguredExecutor() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        AtomicInteger tasks = new AtomicInteger();
+        try {
+            AsyncJsonLiteClient client = buildClient(task -> {
+                tasks.incrementAndGet();
+                pool.execute(task);
+            });
+            client.insert(new Employee(1L, "Alice", 30, "Sales")).get(5, TimeUnit.SECONDS);
+            assertNotNull(client.selectById("1").get(5, TimeUnit.SECONDS), "Inserted employee should be selected.");
+            assertEquals(2, tasks.get(), "Both operations should run on the configured executor.");
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
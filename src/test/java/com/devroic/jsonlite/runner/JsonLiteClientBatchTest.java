@@ -0,0 +1,79 @@
+package com.devroic.jsonlite.runner;
+
+import com.devroic.jsonlite.JsonLiteClient;
+import com.devroic.jsonlite.client.CacheMode;
+import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.model.Employee;
+import org.junit.jupiter.api.*;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class JsonLiteClientBatchTest {
+    private static final String JSON_FILE_PATH = "src/test/java/com/devroic/jsonlite/resources/batch.json";
+    private static JsonLiteClient client;
+    // A second client on the same file, which only sees what was written to the file
+    private static JsonLiteClient observer;
+
+    @BeforeAll
+    static void setUp() {
+        client = JsonLiteClient.builder()
+                .jsonFilePath(JSON_FILE_PATH)
+                .type(Employee.class)
+                .idKey("id")
+                .createFileIfNotExists(true)
+                .cacheMode(CacheMode.IN_MEMORY)
+                .build();
+        observer = JsonLiteClient.builder()
+                .jsonFilePath(JSON_FILE_PATH)
+                .type(Employee.class)
+                .idKey("id")
+                .build();
+    }
+
+    @AfterAll
+    static void cleanUp() throws Exception {
+        Files.deleteIfExists(Paths.get(JSON_FILE_PATH));
+    }
+
+    @Test
+    @Order(1)
+    void testBatchIsCommittedOnce() {
+        client.batch(batch -> {
+            batch.insertMultiple(List.of(
+                    new Employee(1L, "John", 30, "Sales"),
+                    new Employee(2L, "Mark", 40, "Engineering"),
+                    new Employee(3L, "Alice", 35, "Sales")));
+            batch.updateById("2", new Employee(2L, "Mark", 41, "Engineering"));
+            batch.deleteWhere((Employee employee) -> employee.getName().equals("Alice"));
+
+            assertEquals(2, batch.selectAll().size(), "Batch should see its own changes.");
+            assertEquals(41, ((Employee) batch.selectById("2")).getAge(), "Batch should see its own updates.");
+            assertTrue(observer.selectAll().isEmpty(), "Changes should not be written before the batch ends.");
+        });
+
+        List<Employee> employees = observer.selectAll();
+        assertEquals(2, employees.size(), "Batch should be written when it ends.");
+        assertEquals(41, employees.get(1).getAge(), "Written batch should contain the update.");
+        assertNotNull(client.selectById("1"), "Primary index should contain the inserted employees.");
+        assertNull(client.selectById("3"), "Primary index should not contain the deleted employees.");
+    }
+
+    @Test
+    @Order(2)
+    void testFailedBatchIsRolledBack() {
+        assertThrows(JsonLiteClientOperationException.class, () -> client.batch(batch -> {
+            batch.deleteById("1");
+            batch.insert(new Employee(4L, "Bob", 28, "Marketing"));
+            batch.insert(new Employee(2L, "Duplicate", 50, "Sales"));
+        }), "Should throw exception if an operation of the batch fails");
+
+        assertEquals(2, observer.selectAll().size(), "Failed batch should not be written.");
+        assertNotNull(client.selectById("1"), "Failed batch should not delete from the collection.");
+        assertNull(client.selectById("4"), "Failed batch should not insert into the collection.");
+    }
+}
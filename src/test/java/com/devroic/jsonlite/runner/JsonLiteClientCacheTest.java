@@ -0,0 +1,59 @@
+package com.devroic.jsonlite.runner;
+
+import com.devroic.jsonlite.JsonLiteClient;
+import com.devroic.jsonlite.client.CacheMode;
+import com.devroic.jsonlite.model.Person;
+import org.junit.jupiter.api.*;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class JsonLiteClientCacheTest {
+    private static final String JSON_FILE_PATH = "src/test/java/com/devroic/jsonlite/resources/cache.json";
+    private static JsonLiteClient client;
+
+    @BeforeAll
+    static void setUp() {
+        client = JsonLiteClient.builder()
+                .jsonFilePath(JSON_FILE_PATH)
+                .type(Person.class)
+                .idKey("id")
+                .createFileIfNotExists(true)
+                .cacheMode(CacheMode.IN_MEMORY)
+                .build();
+        client.insertMultiple(Arrays.asList(
+                new Person("1", "John", "New York", List.of("Bmw"), List.of("Nike"), "Software Engineer"),
+                new Person("2", "Mark", "San Francisco", List.of("Nissan"), List.of("Puma"), "Data Scientist")));
+    }
+
+    @AfterAll
+    static void cleanUp() throws Exception {
+        Files.deleteIfExists(Paths.get(JSON_FILE_PATH));
+    }
+
+    @Test
+    @Order(1)
+    void testMutationsUpdateCache() {
+        assertEquals(2, client.selectAll().size(), "Cached collection should contain the inserted people.");
+        client.updateKey("job", "Engineer");
+        assertEquals("Engineer", ((Person) client.selectById("2")).getJob(), "Cached person should be updated.");
+        client.deleteById("2");
+        assertNull(client.selectById("2"), "Person should be deleted from the cache.");
+    }
+
+    @Test
+    @Order(2)
+    void testExternalChangeReloadsCache() throws Exception {
+        Files.writeString(Paths.get(JSON_FILE_PATH), "[{\"id\":\"9\",\"name\":\"Alice\",\"city\":\"New York\"}]");
+        Person person = client.selectById("9");
+        assertNotNull(person, "Cache should be reloaded after the file changed.");
+        assertEquals(1, client.selectAll().size(), "Cache should contain only the externally written person.");
+    }
+}
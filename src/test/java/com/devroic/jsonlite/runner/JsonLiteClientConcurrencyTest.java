@@ -0,0 +1,65 @@
+package com.devroic.jsonlite.runner;
+
+import com.devroic.jsonlite.JsonLiteClient;
+import com.devroic.jsonlite.base.JsonLiteClientFileTest;
+import com.devroic.jsonlite.client.CacheMode;
+import com.devroic.jsonlite.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JsonLiteClientConcurrencyTest extends JsonLiteClientFileTest {
+    private static final String JSON_FILE_PATH = "src/test/java/com/devroic/jsonlite/resources/concurrency.json";
+    private static final int THREADS = 8;
+    private static final int INSERTS_PER_THREAD = 25;
+
+    private JsonLiteClient buildClient(CacheMode cacheMode) {
+        return buildClient(JSON_FILE_PATH, Employee.class, builder -> builder
+                .cacheMode(cacheMode));
+    }
+
+    // Each thread inserts its own employees through one of the clients, while also reading the collection
+    private void insertConcurrently(List<JsonLiteClient> clients) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                JsonLiteClient client = clients.get(thread % clients.size());
+                long firstId = (long) thread * INSERTS_PER_THREAD;
+                futures.add(executor.submit(() -> {
+                    for (long id = firstId; id < firstId + INSERTS_PER_THREAD; id++) {
+                        client.insert(new Employee(id, "Employee " + id, 30, "Sales"));
+                        client.selectById(Long.toString(id));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testConcurrentInsertsAreNotLost() throws Exception {
+        JsonLiteClient client = buildClient(CacheMode.IN_MEMORY);
+        insertConcurrently(List.of(client));
+        assertEquals(THREADS * INSERTS_PER_THREAD, client.selectAll().size(), "No insert should be lost.");
+    }
+
+    @Test
+    void testClientsOfTheSameFileShareTheLock() throws Exception {
+        JsonLiteClient first = buildClient(CacheMode.NONE);
+        JsonLiteClient second = buildClient(CacheMode.IN_MEMORY);
+        insertConcurrently(List.of(first, second));
+        assertEquals(THREADS * INSERTS_PER_THREAD, first.selectAll().size(), "No insert of either client should be lost.");
+        assertEquals(THREADS * INSERTS_PER_THREAD, second.selectAll().size(), "Cached client should see the inserts of the other client.");
+    }
+}
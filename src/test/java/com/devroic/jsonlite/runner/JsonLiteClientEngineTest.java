@@ -0,0 +1,79 @@
+package com.devroic.jsonlite.runner;
+
+import com.devroic.jsonlite.JsonLiteClient;
+import com.devroic.jsonlite.base.JsonLiteClientFileTest;
+import com.devroic.jsonlite.client.CacheMode;
+import com.devroic.jsonlite.client.WriteMode;
+import com.devroic.jsonlite.exceptions.JsonLiteClientBuilderException;
+import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonLiteClientEngineTest extends JsonLiteClientFileTest {
+    private static final String JSON_FILE_PATH = "src/test/java/com/devroic/jsonlite/resources/engine.json";
+
+    private JsonLiteClient buildClient(CacheMode cacheMode, WriteMode writeMode) {
+        return buildClient(JSON_FILE_PATH, Employee.class, builder -> builder
+                .cacheMode(cacheMode)
+                .writeMode(writeMode));
+    }
+
+    @Test
+    void testClientsOfTheSameFileShareTheLoadedCollection() {
+        try (JsonLiteClient first = buildClient(CacheMode.IN_MEMORY, WriteMode.SYNC);
+             JsonLiteClient second = buildClient(CacheMode.IN_MEMORY, WriteMode.SYNC)) {
+            first.insert(new Employee(1L, "Alice", 30, "Sales"));
+            List<Employee> firstView = first.selectAll();
+            assertSame(firstView, second.selectAll(), "Both clients should read the same loaded collection.");
+            assertEquals(1, second.selectAll().size(), "Second client should see the insert of the first client.");
+        }
+    }
+
+    @Test
+    void testCloseReleasesTheEngineWithItsLastClient() {
+        JsonLiteClient first = buildClient(CacheMode.NONE, WriteMode.ASYNC);
+        JsonLiteClient second = buildClient(CacheMode.NONE, WriteMode.ASYNC);
+        first.insert(new Employee(1L, "Alice", 30, "Sales"));
+        List<Employee> sharedView = second.selectAll();
+
+        first.close();
+        first.close();
+        assertThrows(JsonLiteClientOperationException.class, first::selectAll, "Closed client should reject operations.");
+        assertEquals(1, second.selectAll().size(), "Other client should still work after the first one is closed.");
+
+        second.close();
+        try (JsonLiteClient reopened = buildClient(CacheMode.NONE, WriteMode.ASYNC)) {
+            List<Employee> reloaded = reopened.selectAll();
+            assertNotSame(sharedView, reloaded, "Client opened after the last close should load the file again.");
+            assertEquals(1, reloaded.size(), "Last close should have flushed the pending insert.");
+        }
+    }
+
+    @Test
+    void testClientWithDifferentOptionsLoadsItsOwnCopy() {
+        try (JsonLiteClient cached = buildClient(CacheMode.IN_MEMORY, WriteMode.SYNC);
+             JsonLiteClient uncached = buildClient(CacheMode.NONE, WriteMode.SYNC)) {
+            cached.insert(new Employee(1L, "Alice", 30, "Sales"));
+            assertNotSame(cached.selectAll(), uncached.selectAll(), "Clients with different options should not share a collection.");
+            assertEquals(1, uncached.selectAll().size(), "Client with its own copy should read the persisted insert.");
+        }
+    }
+
+    @Test
+    void testClientWithDifferentOptionsCannotOpenAWriteBehindFile() {
+        try (JsonLiteClient writeBehind = buildClient(CacheMode.NONE, WriteMode.ASYNC)) {
+            writeBehind.insert(new Employee(1L, "Alice", 30, "Sales"));
+            // Its own copy would never see the pending insert, and its writes would overwrite it when flushed
+            assertThrows(JsonLiteClientBuilderException.class, () -> buildClient(CacheMode.NONE, WriteMode.SYNC),
+                    "A client with other options should not open a file with pending changes.");
+            assertEquals(1, writeBehind.selectAll().size(), "The write-behind client should keep its pending insert.");
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.devroic.jsonlite.runner;
+
+import com.devroic.jsonlite.JsonLiteClient;
+import com.devroic.jsonlite.client.CacheMode;
+import com.devroic.jsonlite.client.Query;
+import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.model.Employee;
+import org.junit.jupiter.api.*;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class JsonLiteClientIndexTest {
+    private static final String JSON_FILE_PATH = "src/test/java/com/devroic/jsonlite/resources/index.json";
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "Marketing"};
+    private static JsonLiteClient client;
+
+    @BeforeAll
+    static void setUp() {
+        client = JsonLiteClient.builder()
+                .jsonFilePath(JSON_FILE_PATH)
+                .type(Employee.class)
+                .idKey("id")
+                .createFileIfNotExists(true)
+                .cacheMode(CacheMode.IN_MEMORY)
+                .indexes("department")
+                .build();
+        List<Employee> employees = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            employees.add(new Employee(id, "Employee " + id, 20 + (int) (id % 40), DEPARTMENTS[(int) (id % 3)]));
+        }
+        client.insertMultiple(employees);
+    }
+
+    @AfterAll
+    static void cleanUp() throws Exception {
+        Files.deleteIfExists(Paths.get(JSON_FILE_PATH));
+    }
+
+    @Test
+    @Order(1)
+    void testSelectByIdUsesPrimaryIndex() {
+        Employee employee = client.selectById("42");
+        assertNotNull(employee, "Employee should be found by ID.");
+        assertEquals("Employee 42", employee.getName(), "Employee's name should be 'Employee 42'.");
+        assertNull(client.selectById("042"), "IDs should be matched on their exact representation.");
+        assertNull(client.selectById("abc"), "Non numeric IDs should not be found.");
+    }
+
+    @Test
+    @Order(2)
+    void testDuplicateIdIsRejected() {
+        assertThrows(JsonLiteClientOperationException.class, () -> client.insert(new Employee(7L, "Duplicate", 30, "Sales")),
+                "Should throw exception if a duplicate ID is found during insertion");
+    }
+
+    @Test
+    @Order(3)
+    void testMutationsKeepPrimaryIndexUpToDate() {
+        for (long id = 1; id <= 100; id += 2) {
+            assertTrue(client.deleteById(Long.toString(id)), "Delete by ID should return true.");
+        }
+        assertTrue(client.updateById("50", new Employee(50L, "Updated", 41, "Sales")), "Update By Id should return true.");
+        client.insert(new Employee(1L, "Reinserted", 30, "Sales"));
+
+        for (long id = 2; id <= 100; id += 2) {
+            assertNotNull(client.selectById(Long.toString(id)), "Remaining employee should still be indexed.");
+        }
+        assertNull(client.selectById("99"), "Deleted employee should not be indexed.");
+        assertEquals("Updated", ((Employee) client.selectById("50")).getName(), "Updated employee should be indexed.");
+        assertEquals("Reinserted", ((Employee) client.selectById("1")).getName(), "Reinserted employee should be indexed.");
+        assertEquals(51, client.selectAll().size(), "Collection should contain 51 employees.");
+    }
+
+    @Test
+    @Order(4)
+    void testSelectByKeyUsesSecondaryIndex() {
+        List<Employee> expected = client.selectWhere((Employee employee) -> "Sales".equals(employee.getDepartment()));
+        List<Employee> employees = client.selectByKey("department", "sales");
+        assertFalse(employees.isEmpty(), "Employees should be found by department.");
+        assertEquals(expected.size(), employees.size(), "Indexed lookup should find the same employees as a scan.");
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getId(), employees.get(i).getId(), "Indexed lookup should keep the order of the collection.");
+        }
+    }
+
+    @Test
+    @Order(5)
+    void testUpdateAndDeleteByKeyKeepSecondaryIndexUpToDate() {
+        int marketing = client.selectByKey("department", "Marketing").size();
+        assertTrue(client.updateByKey("department", "Marketing", Map.of("department", "Growth")), "Update by key should return true.");
+        assertTrue(client.selectByKey("department", "Marketing").isEmpty(), "Updated employees should be removed from their old value.");
+        assertEquals(marketing, client.selectByKey("department", "Growth").size(), "Updated employees should be indexed by their new value.");
+
+        int total = client.selectAll().size();
+        int sales = client.selectByKey("department", "Sales").size();
+        assertTrue(client.deleteByKey("department", "Sales"), "Delete by key should return true.");
+        assertTrue(client.selectByKey("department", "Sales").isEmpty(), "Deleted employees should not be indexed.");
+        assertEquals(total - sales, client.selectAll().size(), "Only the employees of the department should be deleted.");
+        assertFalse(client.updateByKey("department", "Sales", Map.of("name", "Nobody")), "Update by key should return false when nothing matches.");
+    }
+
+    @Test
+    @Order(6)
+    void testCreateIndex() {
+        client.createIndex("age");
+        List<Employee> employees = client.selectByKey("age", "22");
+        assertTrue(employees.stream().anyMatch(employee -> employee.getId() == 2L), "Employee should be found by the created index.");
+        assertTrue(employees.stream().allMatch(employee -> employee.getAge() == 22), "Only employees of the given age should be found.");
+        assertThrows(JsonLiteClientOperationException.class, () -> client.createIndex("salary"),
+                "Should throw exception if the key does not exist");
+    }
+
+    @Test
+    @Order(7)
+    void testUpdateOfAnEditedCachedObjectKeepsSecondaryIndexUpToDate() {
+        long engineering = client.explain(Query.where("department").eq("Engineering")).getEstimatedCandidates();
+        long research = client.explain(Query.where("department").eq("Research")).getEstimatedCandidates();
+        // The cached employee is changed in place before the update, so it no longer has the department it is indexed under
+        Employee employee = client.selectById("6");
+        assertEquals("Engineering", employee.getDepartment(), "Employee's department should be 'Engineering'.");
+        employee.setDepartment("Research");
+        client.updateById("6", employee);
+        assertEquals(engineering - 1, client.explain(Query.where("department").eq("Engineering")).getEstimatedCandidates(),
+                "Updated employee should be removed from its previous department.");
+        assertEquals(research + 1, client.explain(Query.where("department").eq("Research")).getEstimatedCandidates(),
+                "Updated employee should be indexed under its new department.");
+    }
+}
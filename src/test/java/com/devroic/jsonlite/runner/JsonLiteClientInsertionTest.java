@@ -52,4 +52,17 @@ class JsonLiteClientInsertionTest extends JsonLiteClientBaseTest {
         assertThrows(JsonLiteClientOperationException.class, () -> client.insert(person1),
                 "Should throw exception if a duplicate ID is found during insertion");
     }
+
+    @Test
+    @Order(5)
+    void testInsertMultipleIsAllOrNothing() {
+        Person first = new Person("4", "Bob", "Boston", List.of(), List.of(), "Designer");
+        Person second = new Person("4", "Eve", "Chicago", List.of(), List.of(), "Analyst");
+        assertThrows(JsonLiteClientOperationException.class, () -> client.insertMultiple(Arrays.asList(first, second)),
+                "Should throw exception if a duplicate ID is found within the batch");
+        Person existing = new Person("1", "Eve", "Chicago", List.of(), List.of(), "Analyst");
+        assertThrows(JsonLiteClientOperationException.class, () -> client.insertMultiple(Arrays.asList(first, existing)),
+                "Should throw exception if a duplicate ID is found in the JSON file");
+        assertEquals(3, client.selectAll().size(), "No person of a failed batch should be inserted");
+    }
 }
@@ -0,0 +1,109 @@
+package com.devroic.jsonlite.runner;
+
+import com.devroic.jsonlite.JsonLiteClient;
+import com.devroic.jsonlite.base.JsonLiteClientFileTest;
+import com.devroic.jsonlite.client.CacheMode;
+import com.devroic.jsonlite.client.LockMode;
+import com.devroic.jsonlite.client.StorageMode;
+import com.devroic.jsonlite.exceptions.JsonLiteClientBuilderException;
+import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.model.Person;
+import com.devroic.jsonlite.storage.LockMetrics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonLiteClientInterProcessTest extends JsonLiteClientFileTest {
+    private static final String JSON_FILE_PATH = "src/test/java/com/devroic/jsonlite/resources/inter-process.json";
+    private static final Path LOCK_PATH = Paths.get(JSON_FILE_PATH + ".lock");
+
+    private JsonLiteClient buildClient(long lockTimeout) {
+        return buildClient(JSON_FILE_PATH, Person.class, builder -> builder
+                .cacheMode(CacheMode.IN_MEMORY)
+                .lockMode(LockMode.INTER_PROCESS)
+                .lockTimeout(lockTimeout));
+    }
+
+    // The lock file is kept between tests, since the lock of the file keeps it open for the lifetime of the JVM
+    @AfterAll
+    static void deleteLockFile() throws Exception {
+        Files.deleteIfExists(LOCK_PATH);
+    }
+
+    // Holds the exclusive lock of the lock file given as argument in another process, until its input is closed
+    public static class LockHolder {
+        public static void main(String[] args) throws Exception {
+            try (FileChannel channel = FileChannel.open(Paths.get(args[0]),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                java.nio.channels.FileLock lock = channel.lock();
+                try {
+                    System.out.println("locked");
+                    System.out.flush();
+                    System.in.read();
+                } finally {
+                    lock.release();
+                }
+            }
+        }
+    }
+
+    @Test
+    void testOperationsLockTheSidecarFile() {
+        JsonLiteClient client = buildClient(1000);
+        client.insert(new Person("1", "John", "New York", List.of("Bmw"), List.of("Nike"), "Software Engineer"));
+        assertEquals(1, client.selectAll().size(), "Inserted person should be selected.");
+        assertTrue(Files.exists(LOCK_PATH), "Lock file should be created next to the JSON file.");
+
+        LockMetrics metrics = client.getLockMetrics();
+        assertTrue(metrics.getExclusiveAcquisitions() >= 1, "Insert should acquire the exclusive lock.");
+        assertTrue(metrics.getSharedAcquisitions() >= 1, "Select should acquire the shared lock.");
+    }
+
+    @Test
+    void testWaitForAnotherProcessIsBounded() throws Exception {
+        JsonLiteClient client = buildClient(200);
+        client.insert(new Person("1", "John", "New York", List.of("Bmw"), List.of("Nike"), "Software Engineer"));
+        long timeouts = client.getLockMetrics().getTimeouts();
+
+        String java = ProcessHandle.current().info().command().orElse("java");
+        Process holder = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                LockHolder.class.getName(), LOCK_PATH.toAbsolutePath().toString())
+                .redirectErrorStream(true)
+                .start();
+        try {
+            BufferedReader output = new BufferedReader(new InputStreamReader(holder.getInputStream()));
+            assertEquals("locked", output.readLine(), "The other process should hold the lock file.");
+
+            assertThrows(JsonLiteClientOperationException.class, client::selectAll, "Read should time out while another process writes.");
+            assertThrows(JsonLiteClientOperationException.class,
+                    () -> client.deleteById("1"), "Write should time out while another process writes.");
+            assertEquals(timeouts + 2, client.getLockMetrics().getTimeouts(), "Both timeouts should be counted.");
+        } finally {
+            holder.getOutputStream().close();
+            holder.waitFor();
+        }
+        assertEquals(1, client.selectAll().size(), "Read should succeed once the other process released the lock.");
+    }
+
+    @Test
+    void testInterProcessLockRequiresRewriteStorage() {
+        assertThrows(JsonLiteClientBuilderException.class, () -> JsonLiteClient.builder()
+                .jsonFilePath(JSON_FILE_PATH)
+                .type(Person.class)
+                .storageMode(StorageMode.APPEND_LOG)
+                .lockMode(LockMode.INTER_PROCESS)
+                .build(), "Inter-process locking should be rejected with the append log.");
+    }
+}
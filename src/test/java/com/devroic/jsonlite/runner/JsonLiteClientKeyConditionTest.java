@@ -0,0 +1,87 @@
+package com.devroic.jsonlite.runner;
+
+import com.devroic.jsonlite.JsonLiteClient;
+import com.devroic.jsonlite.base.JsonLiteClientFileTest;
+import com.devroic.jsonlite.client.CacheMode;
+import com.devroic.jsonlite.client.KeyCondition;
+import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.model.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonLiteClientKeyConditionTest extends JsonLiteClientFileTest {
+    private static final String JSON_FILE_PATH = "src/test/java/com/devroic/jsonlite/resources/key-condition.json";
+    private JsonLiteClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = buildClient(JSON_FILE_PATH, Person.class, builder -> builder
+                .cacheMode(CacheMode.NONE));
+        client.insertMultiple(Arrays.asList(
+                new Person("1", "John", "New York", List.of("Bmw"), List.of("Nike"), "Software Engineer"),
+                new Person("2", "Mark", "San Francisco", List.of("Nissan", "Tesla"), List.of("Puma"), "Data Scientist"),
+                new Person("3", "Alice", "New York", List.of("Tesla"), List.of("Apple"), "Product Manager")));
+    }
+
+    private static List<String> idsOf(List<Person> people) {
+        return people.stream().map(Person::getId).toList();
+    }
+
+    @Test
+    void testSelectWhereMatchesTheSameObjectsAsAPredicate() {
+        List<Person> pushedDown = client.selectWhere(KeyCondition.equalTo("city", "New York"));
+        List<Person> filtered = client.<Person>selectWhere(person -> "New York".equals(person.getCity()));
+        assertEquals(List.of("1", "3"), idsOf(pushedDown), "Key condition should select the people of the city in order.");
+        assertEquals(idsOf(filtered), idsOf(pushedDown), "Key condition should select the same people as a predicate.");
+    }
+
+    @Test
+    void testSelectWhereMatchesListsAndSetsOfValues() {
+        assertEquals(List.of("2", "3"), idsOf(client.selectWhere(KeyCondition.equalTo("cars", "Tesla"))),
+                "Key condition should match the lists containing the value.");
+        assertEquals(List.of("1", "2"), idsOf(client.selectWhere(KeyCondition.in("name", "Mark", "John", "Bob"))),
+                "Key condition should match any of the values.");
+        assertTrue(client.selectWhere(KeyCondition.equalTo("city", "new york")).isEmpty(),
+                "Key condition should compare the values with their case.");
+    }
+
+    @Test
+    void testSelectByKeyIgnoresCaseAndEscapes() throws Exception {
+        assertEquals(List.of("1", "3"), idsOf(client.selectByKey("city", "new york")), "Select by key should ignore the case.");
+
+        // Escaped text in the file is compared with its value, not with its raw characters
+        Files.writeString(Paths.get(JSON_FILE_PATH), "[{\"id\":\"9\",\"name\":\"Bob\",\"city\":\"New\\u0020York\"}]");
+        assertEquals(List.of("9"), idsOf(client.selectWhere(KeyCondition.equalTo("city", "New York"))),
+                "Key condition should match escaped text.");
+        assertEquals(List.of("9"), idsOf(client.selectByKey("city", "NEW YORK")), "Select by key should match escaped text.");
+    }
+
+    @Test
+    void testUpdateAndDeleteWhere() {
+        assertTrue(client.updateWhere(KeyCondition.in("cars", "Bmw", "Nissan"), Map.of("job", "Driver")),
+                "Key condition should update the matching people.");
+        assertEquals(List.of("1", "2"), idsOf(client.selectWhere(KeyCondition.equalTo("job", "Driver"))),
+                "Every matching person should be updated.");
+
+        assertTrue(client.deleteWhere(KeyCondition.equalTo("city", "New York")), "Key condition should delete the matching people.");
+        assertEquals(List.of("2"), idsOf(client.selectAll()), "Only the people of other cities should remain.");
+    }
+
+    @Test
+    void testInvalidConditionsThrow() {
+        assertThrows(JsonLiteClientOperationException.class, () -> client.selectWhere((KeyCondition) null),
+                "A null key condition should be rejected.");
+        assertThrows(JsonLiteClientOperationException.class, () -> client.deleteWhere(KeyCondition.equalTo("unknown", "x")),
+                "A key condition on an unknown key should be rejected.");
+    }
+}
@@ -0,0 +1,62 @@
+package com.devroic.jsonlite.runner;
+
+import com.devroic.jsonlite.JsonLiteClient;
+import com.devroic.jsonlite.base.JsonLiteClientFileTest;
+import com.devroic.jsonlite.client.ReadMode;
+import com.devroic.jsonlite.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class JsonLiteClientMemoryMappedTest extends JsonLiteClientFileTest {
+    private static final String JSON_FILE_PATH = "src/test/java/com/devroic/jsonlite/resources/memory-mapped.json";
+
+    private JsonLiteClient buildClient(long parallelLoadThreshold) {
+        return buildClient(JSON_FILE_PATH, Employee.class, builder -> builder
+                .readMode(ReadMode.MEMORY_MAPPED)
+                .parallelLoadThreshold(parallelLoadThreshold));
+    }
+
+    @Test
+    void testReadsSeeEveryChangeOfTheFile() throws Exception {
+        try (JsonLiteClient client = buildClient(Long.MAX_VALUE)) {
+            client.insert(new Employee(1L, "Alice", 30, "Sales"));
+            assertEquals("Alice", ((Employee) client.selectById("1")).getName(), "Mapped read should see the insert.");
+
+            client.updateKey("name", "Carol");
+            assertEquals("Carol", ((Employee) client.selectById("1")).getName(), "Mapped read should see the update.");
+            assertFalse(Files.exists(Paths.get(JSON_FILE_PATH + ".tmp")), "Atomic save should not leave its temporary file.");
+
+            // An external write in place changes the fingerprint of the file, so the mapping is not reused
+            Files.writeString(Paths.get(JSON_FILE_PATH), "[{\"id\":1,\"name\":\"Erin\",\"age\":30,\"department\":\"Sales\"}]");
+            assertEquals("Erin", ((Employee) client.selectById("1")).getName(), "Mapped read should see an external write.");
+
+            try (Stream<Employee> stream = client.stream()) {
+                assertEquals(1, stream.count(), "Stream should parse the mapped file.");
+            }
+        }
+    }
+
+    @Test
+    void testMappedFileIsLoadedInParallelChunks() {
+        List<Employee> employees = new ArrayList<>();
+        for (long id = 0; id < 20_000; id++) {
+            employees.add(new Employee(id, "Employee " + id, 30, "Sales"));
+        }
+        try (JsonLiteClient client = buildClient(1)) {
+            client.insertMultiple(employees);
+            List<Employee> loaded = client.selectAll();
+            assertEquals(employees.size(), loaded.size(), "Parallel load of the mapping should read every employee.");
+            for (int i = 0; i < loaded.size(); i++) {
+                assertEquals(i, loaded.get(i).getId(), "Parallel load of the mapping should keep the order of the file.");
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.devroic.jsonlite.runner;
+
+import com.devroic.jsonlite.JsonLiteClient;
+import com.devroic.jsonlite.base.JsonLiteClientFileTest;
+import com.devroic.jsonlite.client.CacheMode;
+import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonLiteClientPaginationTest extends JsonLiteClientFileTest {
+    private static final String JSON_FILE_PATH = "src/test/java/com/devroic/jsonlite/resources/pagination.json";
+    private static final int SIZE = 50;
+    private JsonLiteClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = buildClient();
+        // The IDs are inserted out of order, so the ID order differs from the order of the collection
+        List<Employee> employees = new ArrayList<>();
+        for (long i = 0; i < SIZE; i++) {
+            long id = (i * 7) % SIZE + 1;
+            employees.add(new Employee(id, "Employee " + id, (int) (20 + id % 10), id % 2 == 0 ? "Sales" : "Engineering"));
+        }
+        client.insertMultiple(employees);
+    }
+
+    private JsonLiteClient buildClient(String... sortedKeys) {
+        return buildClient(JSON_FILE_PATH, Employee.class, builder -> builder
+                .cacheMode(CacheMode.NONE)
+                .sortedIndexes(sortedKeys));
+    }
+
+    private static List<Long> idsOf(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).toList();
+    }
+
+    @Test
+    void testSelectWherePagesAreSlicesOfAllMatches() {
+        Predicate<Employee> sales = employee -> "Sales".equals(employee.getDepartment());
+        List<Employee> all = client.selectWhere(sales);
+        assertEquals(idsOf(all.subList(0, 10)), idsOf(client.selectWhere(sales, 0, 10)), "First page should hold the first matches.");
+        assertEquals(idsOf(all.subList(20, 25)), idsOf(client.selectWhere(sales, 20, 10)), "Last page should hold the remaining matches.");
+        assertEquals(0, client.selectWhere(sales, 30, 10).size(), "A page after the last match should be empty.");
+        assertEquals(idsOf(client.<Employee>selectByKey("department", "sales").subList(5, 8)), idsOf(client.selectByKey("department", "sales", 5, 3)),
+                "Select by key should be paginated the same way.");
+    }
+
+    @Test
+    void testPageStopsReadingWhenFull() throws Exception {
+        // The file is cut after the third object, so only a page that ends before it can be read
+        Files.writeString(Paths.get(JSON_FILE_PATH), "[{\"id\":1,\"name\":\"A\",\"age\":30,\"department\":\"Sales\"},"
+                + "{\"id\":2,\"name\":\"B\",\"age\":40,\"department\":\"Sales\"},"
+                + "{\"id\":3,\"name\":\"C\",\"age\":50,\"depa");
+        assertEquals(List.of(1L, 2L), idsOf(client.selectWhere(employee -> true, 0, 2)), "The page should be read without reaching the end of the file.");
+        assertThrows(JsonLiteClientOperationException.class, () -> client.selectWhere(employee -> true, 0, 3),
+                "A page reaching the cut object should fail to read it.");
+    }
+
+    @Test
+    void testSelectAfterWalksTheIdsInOrder() {
+        List<Long> ids = new ArrayList<>();
+        List<Employee> page = client.selectAfter(null, 8);
+        while (!page.isEmpty()) {
+            ids.addAll(idsOf(page));
+            page = client.selectAfter(String.valueOf(page.get(page.size() - 1).getId()), 8);
+        }
+        List<Long> expected = new ArrayList<>();
+        for (long id = 1; id <= SIZE; id++) {
+            expected.add(id);
+        }
+        assertEquals(expected, ids, "Pages should hold every ID once, in numeric order.");
+
+        try (JsonLiteClient indexed = buildClient("id")) {
+            Predicate<Employee> sales = employee -> "Sales".equals(employee.getDepartment());
+            assertEquals(List.of(10L, 12L, 14L), idsOf(indexed.selectAfter(sales, "9", 3)), "Sorted index should give the same page.");
+            assertEquals(idsOf(client.selectAfter(sales, "9", 3)), idsOf(indexed.selectAfter(sales, "9", 3)),
+                    "Pages with and without a sorted index should be equal.");
+        }
+    }
+
+    @Test
+    void testTopKMatchesASortedPrefix() {
+        Comparator<Employee> byAgeDescending = Comparator.comparing(Employee::getAge).reversed();
+        List<Employee> sorted = client.<Employee>selectAll().stream().sorted(byAgeDescending).toList();
+        assertEquals(idsOf(sorted.subList(0, 7)), idsOf(client.topK(byAgeDescending, 7)), "Top k should equal the stable sort of the collection.");
+        assertEquals(SIZE, client.topK(byAgeDescending, SIZE * 2).size(), "Top k should hold the whole collection when k is larger.");
+    }
+
+    @Test
+    void testInvalidPagesThrow() {
+        assertThrows(JsonLiteClientOperationException.class, () -> client.selectWhere(employee -> true, -1, 10), "A negative offset should be rejected.");
+        assertThrows(JsonLiteClientOperationException.class, () -> client.selectAfter(null, 0), "A limit of zero should be rejected.");
+        assertThrows(JsonLiteClientOperationException.class, () -> client.topK(Comparator.comparing(Employee::getAge), 0), "A k of zero should be rejected.");
+    }
+}
@@ -0,0 +1,69 @@
+package com.devroic.jsonlite.runner;
+
+import com.devroic.jsonlite.JsonLiteClient;
+import com.devroic.jsonlite.base.JsonLiteClientFileTest;
+import com.devroic.jsonlite.client.CacheMode;
+import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.model.Employee;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonLiteClientParallelLoadTest extends JsonLiteClientFileTest {
+    private static final String JSON_FILE_PATH = "src/test/java/com/devroic/jsonlite/resources/parallel-load.json";
+    private static final int SIZE = 20_000;
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterAll
+    static void shutDown() {
+        POOL.shutdown();
+    }
+
+    private JsonLiteClient buildClient(CacheMode cacheMode) {
+        return buildClient(JSON_FILE_PATH, Employee.class, builder -> builder
+                .cacheMode(cacheMode)
+                .scanPool(POOL)
+                .parallelLoadThreshold(1));
+    }
+
+    // Names with quotes, escapes, commas and brackets, which must not be taken for boundaries of the elements
+    private static String nameOf(long id) {
+        return "Employee \"" + id + "\", [x] {y} \\\\ é";
+    }
+
+    @Test
+    void testLargeFileIsLoadedInOrder() {
+        List<Employee> employees = new ArrayList<>();
+        for (long id = 0; id < SIZE; id++) {
+            employees.add(new Employee(id, nameOf(id), (int) (20 + id % 40), "Sales"));
+        }
+        try (JsonLiteClient writer = buildClient(CacheMode.NONE)) {
+            writer.insertMultiple(employees);
+        }
+
+        try (JsonLiteClient client = buildClient(CacheMode.IN_MEMORY)) {
+            List<Employee> loaded = client.selectAll();
+            assertEquals(SIZE, loaded.size(), "Parallel load should read every employee.");
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals(i, loaded.get(i).getId(), "Parallel load should keep the order of the file.");
+                assertEquals(nameOf(i), loaded.get(i).getName(), "Parallel load should not split inside a string.");
+            }
+        }
+    }
+
+    @Test
+    void testFileThatIsNotAnArrayFailsAsBefore() throws Exception {
+        Files.writeString(Paths.get(JSON_FILE_PATH), "{\"id\":1,\"name\":\"Alice\"}");
+        try (JsonLiteClient client = buildClient(CacheMode.IN_MEMORY)) {
+            assertThrows(JsonLiteClientOperationException.class, client::selectAll, "A file that is not an array should fail to load.");
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.devroic.jsonlite.runner;
+
+import com.devroic.jsonlite.JsonLiteClient;
+import com.devroic.jsonlite.base.JsonLiteClientFileTest;
+import com.devroic.jsonlite.client.CacheMode;
+import com.devroic.jsonlite.client.ScanMode;
+import com.devroic.jsonlite.exceptions.JsonLiteClientBuilderException;
+import com.devroic.jsonlite.model.Employee;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonLiteClientParallelScanTest extends JsonLiteClientFileTest {
+    private static final String JSON_FILE_PATH = "src/test/java/com/devroic/jsonlite/resources/parallel-scan.json";
+    private static final int SIZE = 5_000;
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @BeforeAll
+    static void setUp() {
+        try (JsonLiteClient client = buildClient(ScanMode.SEQUENTIAL)) {
+            List<Employee> employees = new ArrayList<>();
+            for (long id = 0; id < SIZE; id++) {
+                employees.add(new Employee(id, "Employee " + id, (int) (20 + id % 40), id % 2 == 0 ? "Sales" : "Engineering"));
+            }
+            client.insertMultiple(employees);
+        }
+    }
+
+    @AfterAll
+    static void cleanUp() throws Exception {
+        POOL.shutdown();
+        deleteFiles(JSON_FILE_PATH);
+    }
+
+    private static JsonLiteClient buildClient(ScanMode scanMode) {
+        return builder(JSON_FILE_PATH, Employee.class)
+                .cacheMode(CacheMode.IN_MEMORY)
+                .scanMode(scanMode)
+                .scanPool(POOL)
+                .parallelScanThreshold(100)
+                .build();
+    }
+
+    @Test
+    void testParallelSelectKeepsTheOrderOfTheCollection() {
+        try (JsonLiteClient client = buildClient(ScanMode.PARALLEL)) {
+            Predicate<Employee> condition = employee -> employee.getAge() > 50;
+            List<Employee> parallel = client.selectWhere(condition);
+            List<Employee> sequential = client.selectWhere(condition, ScanMode.SEQUENTIAL);
+            assertEquals(sequential.size(), parallel.size(), "Parallel scan should find the same employees.");
+            for (int i = 0; i < parallel.size(); i++) {
+                assertEquals(sequential.get(i).getId(), parallel.get(i).getId(), "Parallel scan should keep the order of the collection.");
+            }
+        }
+    }
+
+    @Test
+    void testParallelUpdateAndDeleteMatchEveryObject() {
+        try (JsonLiteClient client = buildClient(ScanMode.SEQUENTIAL)) {
+            Predicate<Employee> sales = employee -> "Sales".equals(employee.getDepartment());
+            assertTrue(client.updateWhere(sales, Map.of("age", 99), ScanMode.PARALLEL), "Parallel update should update the matching employees.");
+            assertEquals(SIZE / 2, client.<Employee>selectWhere(employee -> employee.getAge() == 99).size(), "Every employee in Sales should be updated.");
+
+            assertTrue(client.deleteWhere(sales, ScanMode.PARALLEL), "Parallel delete should delete the matching employees.");
+            List<Employee> remaining = client.selectAll();
+            assertEquals(SIZE / 2, remaining.size(), "Only the employees in Engineering should remain.");
+            for (int i = 0; i < remaining.size(); i++) {
+                assertEquals(2L * i + 1, remaining.get(i).getId(), "Remaining employees should keep their order.");
+            }
+        }
+    }
+
+    @Test
+    void testInvalidParallelScanThreshold() {
+        assertThrows(JsonLiteClientBuilderException.class, () -> JsonLiteClient.builder()
+                .jsonFilePath(JSON_FILE_PATH)
+                .type(Employee.class)
+                .parallelScanThreshold(0)
+                .build(), "A parallel scan threshold of zero should be rejected.");
+    }
+}
@@ -0,0 +1,127 @@
+package com.devroic.jsonlite.runner;
+
+import com.devroic.jsonlite.JsonLiteClient;
+import com.devroic.jsonlite.base.JsonLiteClientFileTest;
+import com.devroic.jsonlite.client.CacheMode;
+import com.devroic.jsonlite.client.Query;
+import com.devroic.jsonlite.client.QueryPlan;
+import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonLiteClientQueryTest extends JsonLiteClientFileTest {
+    private static final String JSON_FILE_PATH = "src/test/java/com/devroic/jsonlite/resources/query.json";
+    private JsonLiteClient client;
+
+    private JsonLiteClient buildClient(CacheMode cacheMode) {
+        client = buildClient(JSON_FILE_PATH, Employee.class, builder -> builder
+                .cacheMode(cacheMode)
+                .indexes("department", "name")
+                .sortedIndexes("age"));
+        client.insertMultiple(Arrays.asList(
+                new Employee(1L, "John", 30, "Sales"),
+                new Employee(2L, "Mark", 45, "Engineering"),
+                new Employee(3L, "Alice", 25, "Sales"),
+                new Employee(4L, "Bob", null, "Support"),
+                new Employee(5L, "John", 52, "Engineering"),
+                new Employee(6L, "Eve", 38, "Sales")));
+        return client;
+    }
+
+    private static List<Long> idsOf(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).toList();
+    }
+
+    @Test
+    void testPlansUseTheMostSelectiveIndex() {
+        buildClient(CacheMode.IN_MEMORY);
+        assertEquals(QueryPlan.Access.PRIMARY_INDEX, client.explain(Query.where("department").eq("Sales").and("id").eq("3")).getAccess(),
+                "A condition on the ID should use the primary index.");
+
+        QueryPlan secondary = client.explain(Query.where("department").eq("Sales"));
+        assertEquals(QueryPlan.Access.SECONDARY_INDEX, secondary.getAccess(), "A condition on an indexed key should use its index.");
+        assertEquals(3, secondary.getEstimatedCandidates(), "The estimate should be the size of the posting list.");
+
+        QueryPlan intersection = client.explain(Query.where("department").eq("Sales").and("name").eq("John"));
+        assertEquals(QueryPlan.Access.INDEX_INTERSECTION, intersection.getAccess(), "Two indexed conditions should intersect their indexes.");
+        assertEquals(List.of("name", "department"), intersection.getIndexKeys(), "The most selective index should come first.");
+
+        QueryPlan range = client.explain(Query.where("department").eq("Sales").and("age").between(40, 60).orderBy("age"));
+        assertEquals(QueryPlan.Access.SORTED_INDEX_RANGE, range.getAccess(), "A narrower range should be preferred to the secondary index.");
+        assertEquals(QueryPlan.Order.INDEX, range.getOrder(), "A range on the order key should need no sort.");
+
+        assertEquals(QueryPlan.Order.TOP_K, client.explain(Query.where("department").eq("Sales").orderBy("name").limit(2)).getOrder(),
+                "A limited order should keep only the first objects.");
+    }
+
+    @Test
+    void testPlansWithoutIndexes() {
+        buildClient(CacheMode.NONE);
+        assertEquals(QueryPlan.Access.TOKEN_PREFILTER, client.explain(Query.where("department").eq("Sales")).getAccess(),
+                "A text condition should be matched on the token stream of the file.");
+        assertEquals(QueryPlan.Access.SCAN, client.explain(Query.where("age").atLeast(30)).getAccess(),
+                "A range without an index should scan the collection.");
+    }
+
+    // The same queries are checked through the indexes and through the file
+    @Test
+    void testResultsMatchAPredicateInMemory() {
+        buildClient(CacheMode.IN_MEMORY);
+        assertResultsMatchAPredicate();
+    }
+
+    @Test
+    void testResultsMatchAPredicateFromFile() {
+        buildClient(CacheMode.NONE);
+        assertResultsMatchAPredicate();
+    }
+
+    private void assertResultsMatchAPredicate() {
+        assertEquals(List.of(1L, 3L, 6L), idsOf(client.selectWhere(Query.where("department").eq("Sales"))),
+                "Query should select the objects in the order of the collection.");
+        assertEquals(List.of(5L), idsOf(client.selectWhere(Query.where("name").eq("John").and("department").eq("Engineering"))),
+                "Query should select the objects matching every condition.");
+        assertTrue(client.selectWhere(Query.where("department").eq("sales")).isEmpty(), "Query should compare the values with their case.");
+
+        List<Employee> expected = client.<Employee>selectWhere(employee -> employee.getAge() != null && employee.getAge() >= 30).stream()
+                .sorted(Comparator.comparing(Employee::getAge).reversed())
+                .skip(1)
+                .limit(2)
+                .toList();
+        assertEquals(idsOf(expected), idsOf(client.selectWhere(Query.where("age").atLeast(30).orderByDescending("age").offset(1).limit(2))),
+                "Query should select the same page as a sorted predicate.");
+        assertEquals(List.of(3L, 1L, 6L, 2L, 5L), idsOf(client.selectWhere(Query.where("age").atLeast(0).orderBy("age"))),
+                "Objects without a value of the order key should not be selected.");
+    }
+
+    @Test
+    void testUpdateAndDeleteWhere() {
+        buildClient(CacheMode.IN_MEMORY);
+        assertTrue(client.updateWhere(Query.where("department").eq("Sales").and("age").atMost(30), Map.of("department", "Marketing")),
+                "Query should update the matching objects.");
+        assertEquals(List.of(1L, 3L), idsOf(client.selectWhere(Query.where("department").eq("Marketing"))),
+                "The index should find the updated objects.");
+
+        assertTrue(client.deleteWhere(Query.where("department").in("Marketing", "Support")), "Query should delete the matching objects.");
+        assertEquals(List.of(2L, 5L, 6L), idsOf(client.selectAll()), "Only the objects of other departments should remain.");
+    }
+
+    @Test
+    void testInvalidQueriesThrow() {
+        buildClient(CacheMode.NONE);
+        assertThrows(JsonLiteClientOperationException.class, () -> client.selectWhere((Query) null), "A null query should be rejected.");
+        assertThrows(JsonLiteClientOperationException.class, () -> client.explain(Query.where("unknown").eq("x")),
+                "A query on an unknown key should be rejected.");
+        assertThrows(JsonLiteClientOperationException.class, () -> client.selectWhere(Query.where("name").eq("John").limit(0)),
+                "A limit of zero should be rejected.");
+    }
+}
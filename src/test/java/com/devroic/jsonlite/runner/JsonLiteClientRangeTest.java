@@ -0,0 +1,117 @@
+package com.devroic.jsonlite.runner;
+
+import com.devroic.jsonlite.JsonLiteClient;
+import com.devroic.jsonlite.client.CacheMode;
+import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.model.Employee;
+import org.junit.jupiter.api.*;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class JsonLiteClientRangeTest {
+    private static final String INDEXED_JSON_FILE_PATH = "src/test/java/com/devroic/jsonlite/resources/range-indexed.json";
+    private static final String SCANNED_JSON_FILE_PATH = "src/test/java/com/devroic/jsonlite/resources/range-scanned.json";
+    private static JsonLiteClient indexedClient;
+    private static JsonLiteClient scannedClient;
+
+    @BeforeAll
+    static void setUp() {
+        indexedClient = JsonLiteClient.builder()
+                .jsonFilePath(INDEXED_JSON_FILE_PATH)
+                .type(Employee.class)
+                .idKey("id")
+                .createFileIfNotExists(true)
+                .cacheMode(CacheMode.IN_MEMORY)
+                .sortedIndexes("age")
+                .build();
+        scannedClient = JsonLiteClient.builder()
+                .jsonFilePath(SCANNED_JSON_FILE_PATH)
+                .type(Employee.class)
+                .idKey("id")
+                .createFileIfNotExists(true)
+                .build();
+        List<Employee> employees = new ArrayList<>();
+        for (long id = 1; id <= 60; id++) {
+            employees.add(new Employee(id, "Employee " + id, 20 + (int) ((id * 7) % 30), "Engineering"));
+        }
+        indexedClient.insertMultiple(employees);
+        scannedClient.insertMultiple(employees);
+    }
+
+    @AfterAll
+    static void cleanUp() throws Exception {
+        Files.deleteIfExists(Paths.get(INDEXED_JSON_FILE_PATH));
+        Files.deleteIfExists(Paths.get(SCANNED_JSON_FILE_PATH));
+    }
+
+    private static List<Long> ids(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).toList();
+    }
+
+    @Test
+    @Order(1)
+    void testSelectRange() {
+        List<Employee> employees = indexedClient.selectRange("age", 30, 40);
+        assertFalse(employees.isEmpty(), "Employees should be found in the range.");
+        assertTrue(employees.stream().allMatch(employee -> employee.getAge() >= 30 && employee.getAge() <= 40),
+                "Only employees in the range should be selected.");
+        for (int i = 1; i < employees.size(); i++) {
+            assertTrue(employees.get(i - 1).getAge() <= employees.get(i).getAge(), "Employees should be ordered by age.");
+        }
+        assertEquals(ids(scannedClient.selectRange("age", 30, 40)), ids(employees), "Sorted index and scan should select the same employees.");
+        assertEquals(ids(scannedClient.selectRange("age", "45", null)), ids(indexedClient.selectRange("age", "45", null)),
+                "Bounds should be converted to the type of the key.");
+        assertTrue(indexedClient.selectRange("age", 40, 30).isEmpty(), "An empty range should select no employees.");
+    }
+
+    @Test
+    @Order(2)
+    void testSelectOrderBy() {
+        List<Employee> youngest = indexedClient.selectOrderBy("age", 5);
+        List<Employee> oldest = indexedClient.selectOrderByDescending("age", 5);
+        assertEquals(5, youngest.size(), "Limit should be applied.");
+        assertEquals(20, youngest.get(0).getAge(), "Youngest employee should be first.");
+        assertEquals(49, oldest.get(0).getAge(), "Oldest employee should be first.");
+        assertEquals(ids(scannedClient.selectOrderBy("age", 5)), ids(youngest), "Sorted index and scan should order the same way.");
+        assertEquals(ids(scannedClient.selectOrderByDescending("age", 5)), ids(oldest), "Sorted index and scan should order the same way.");
+        assertThrows(JsonLiteClientOperationException.class, () -> indexedClient.selectOrderBy("age", 0),
+                "Should throw exception if the limit is not positive");
+    }
+
+    @Test
+    @Order(3)
+    void testMutationsKeepSortedIndexUpToDate() {
+        for (JsonLiteClient client : List.of(indexedClient, scannedClient)) {
+            client.updateById("10", new Employee(10L, "Employee 10", 99, "Engineering"));
+            client.deleteById("1");
+            client.insert(new Employee(61L, "Employee 61", 18, "Engineering"));
+        }
+        assertEquals(61L, ((Employee) indexedClient.selectOrderBy("age", 1).get(0)).getId(), "Inserted employee should be indexed.");
+        assertEquals(10L, ((Employee) indexedClient.selectOrderByDescending("age", 1).get(0)).getId(), "Updated employee should be indexed.");
+        assertEquals(ids(scannedClient.selectRange("age", null, null)), ids(indexedClient.selectRange("age", null, null)),
+                "Sorted index and scan should select the same employees after mutations.");
+    }
+
+    @Test
+    @Order(4)
+    void testUpdateOfAnEditedCachedObjectKeepsSortedIndexUpToDate() {
+        // The cached employee is changed in place before the update, so it no longer has the age it is indexed under
+        for (JsonLiteClient client : List.of(indexedClient, scannedClient)) {
+            Employee employee = client.selectById("2");
+            employee.setAge(50);
+            client.updateById("2", employee);
+        }
+        assertTrue(ids(indexedClient.selectRange("age", 30, 40)).stream().noneMatch(id -> id == 2L),
+                "Updated employee should not be found under its previous age.");
+        assertEquals(ids(scannedClient.selectRange("age", null, null)), ids(indexedClient.selectRange("age", null, null)),
+                "Sorted index and scan should select the same employees after the update.");
+        assertEquals(indexedClient.selectAll().size(), indexedClient.selectOrderBy("age", 1000).size(),
+                "Every employee should be indexed once.");
+    }
+}
@@ -0,0 +1,118 @@
+package com.devroic.jsonlite.runner;
+
+import com.devroic.jsonlite.JsonLiteClient;
+import com.devroic.jsonlite.base.JsonLiteClientFileTest;
+import com.devroic.jsonlite.client.CacheMode;
+import com.devroic.jsonlite.client.Query;
+import com.devroic.jsonlite.exceptions.JsonLiteClientBuilderException;
+import com.devroic.jsonlite.model.Person;
+import com.devroic.jsonlite.storage.ResultCacheMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonLiteClientResultCacheTest extends JsonLiteClientFileTest {
+    private static final String JSON_FILE_PATH = "src/test/java/com/devroic/jsonlite/resources/result-cache.json";
+    private JsonLiteClient client;
+
+    private JsonLiteClient buildClient(CacheMode cacheMode, int resultCacheSize) {
+        client = buildClient(JSON_FILE_PATH, Person.class, builder -> builder
+                .cacheMode(cacheMode)
+                .resultCacheSize(resultCacheSize));
+        client.insertMultiple(Arrays.asList(
+                new Person("1", "John", "New York", List.of("Bmw"), List.of("Nike"), "Software Engineer"),
+                new Person("2", "Mark", "San Francisco", List.of("Nissan", "Tesla"), List.of("Puma"), "Data Scientist"),
+                new Person("3", "Alice", "New York", List.of("Tesla"), List.of("Apple"), "Product Manager")));
+        return client;
+    }
+
+    private static List<String> idsOf(List<Person> people) {
+        return people.stream().map(Person::getId).toList();
+    }
+
+    // The same invalidations are checked on results read from the file and on objects kept in memory
+    @Test
+    void testWritesInvalidateResultsFromFile() {
+        buildClient(CacheMode.NONE, 10);
+        assertWritesInvalidateResults();
+    }
+
+    @Test
+    void testWritesInvalidateResultsInMemory() {
+        buildClient(CacheMode.IN_MEMORY, 10);
+        assertWritesInvalidateResults();
+    }
+
+    private void assertWritesInvalidateResults() {
+        List<Person> first = client.selectByKey("city", "New York");
+        assertSame(first, client.selectByKey("city", "New York"), "A repeated call should return the cached result.");
+        assertEquals(1, client.getResultCacheMetrics().getHits(), "The repeated call should be a hit.");
+
+        client.insert(new Person("4", "Bob", "New York", List.of(), List.of(), "Designer"));
+        assertEquals(List.of("1", "3", "4"), idsOf(client.selectByKey("city", "New York")), "An insert should invalidate the result.");
+        client.updateById("1", new Person("1", "John", "Boston", List.of(), List.of(), "Software Engineer"));
+        assertEquals(List.of("3", "4"), idsOf(client.selectByKey("city", "New York")), "An update should invalidate the result.");
+        client.deleteById("3");
+        assertEquals(List.of("4"), idsOf(client.selectByKey("city", "New York")), "A delete should invalidate the result.");
+
+        ResultCacheMetrics metrics = client.getResultCacheMetrics();
+        assertEquals(4, metrics.getMisses(), "Every call after a write should be a miss.");
+        assertEquals(3, metrics.getInvalidations(), "Every write should invalidate the cached result.");
+    }
+
+    @Test
+    void testExternalChangesInvalidateResults() throws Exception {
+        buildClient(CacheMode.NONE, 10);
+        assertEquals(3, client.count(), "Count should include every person.");
+        Files.writeString(Paths.get(JSON_FILE_PATH), "[{\"id\":\"9\",\"name\":\"Eve\",\"city\":\"Paris\"}]");
+        assertEquals(1, client.count(), "A change of the file made outside the client should invalidate the result.");
+        assertEquals("Eve", client.<Person>selectById("9").getName(), "The changed file should be read.");
+    }
+
+    @Test
+    void testLeastRecentlyUsedResultIsEvicted() {
+        buildClient(CacheMode.IN_MEMORY, 2);
+        Query newYork = Query.where("city").eq("New York");
+        client.selectWhere(newYork);
+        client.selectWhere("teslaOwners", person -> ((Person) person).getCars().contains("Tesla"));
+        // The query is used again, so the named condition is the least recently used result
+        client.selectWhere(Query.where("city").eq("New York"));
+        client.selectById("2");
+        client.selectWhere(newYork);
+
+        ResultCacheMetrics metrics = client.getResultCacheMetrics();
+        assertEquals(1, metrics.getEvictions(), "The third result should evict one result.");
+        assertEquals(2, metrics.getHits(), "An equal query should hit the result of the first one.");
+        assertEquals(List.of("2", "3"), idsOf(client.selectWhere("teslaOwners", person -> person.getCars().contains("Tesla"))),
+                "The evicted named condition should be selected again.");
+        assertEquals(4, metrics.getMisses(), "The evicted result should be a miss.");
+    }
+
+    @Test
+    void testCachedResultsCannotBeModified() {
+        buildClient(CacheMode.NONE, 10);
+        List<List<String>> cities = client.selectKey("city");
+        assertThrows(UnsupportedOperationException.class, () -> cities.clear(), "A cached result should not be modifiable.");
+        assertEquals(3, client.selectKey("city").size(), "The cached result should be unchanged.");
+    }
+
+    @Test
+    void testCacheIsDisabledByDefault() {
+        buildClient(CacheMode.NONE, 0);
+        assertNull(client.getResultCacheMetrics(), "A client without a result cache should have no metrics.");
+        assertEquals(3, client.selectWhere("all", person -> true).size(), "A named condition should be selected without a cache.");
+        assertThrows(JsonLiteClientBuilderException.class, () -> JsonLiteClient.builder()
+                .jsonFilePath(JSON_FILE_PATH)
+                .type(Person.class)
+                .resultCacheSize(-1)
+                .build(), "A negative result cache size should be rejected.");
+    }
+}
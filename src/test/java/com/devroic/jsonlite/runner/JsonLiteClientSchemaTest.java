@@ -0,0 +1,66 @@
+package com.devroic.jsonlite.runner;
+
+import com.devroic.jsonlite.JsonLiteClient;
+import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.model.Book;
+import com.devroic.jsonlite.schema.SchemaDescriptor;
+import com.devroic.jsonlite.schema.SchemaField;
+import org.junit.jupiter.api.*;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class JsonLiteClientSchemaTest {
+    private static final String JSON_FILE_PATH = "src/test/java/com/devroic/jsonlite/resources/schema.json";
+    private static JsonLiteClient client;
+
+    @BeforeAll
+    static void setUp() {
+        client = JsonLiteClient.builder()
+                .jsonFilePath(JSON_FILE_PATH)
+                .type(Book.class)
+                .idKey("isbn")
+                .createFileIfNotExists(true)
+                .build();
+        client.insertMultiple(List.of(
+                new Book("111", "Dune", 412, List.of("Frank Herbert")),
+                new Book("222", "Good Omens", 288, List.of("Terry Pratchett", "Neil Gaiman"))));
+    }
+
+    @AfterAll
+    static void cleanUp() throws Exception {
+        Files.deleteIfExists(Paths.get(JSON_FILE_PATH));
+    }
+
+    @Test
+    @Order(1)
+    void testSchemaDescriptor() {
+        SchemaDescriptor schema = new SchemaDescriptor(Book.class, "isbn");
+        SchemaField title = schema.getField("TITLE");
+        assertEquals("title", title.name(), "Keys should be resolved ignoring case.");
+        assertEquals("book_title", title.jsonName(), "JSON name should follow @JsonProperty.");
+        assertSame(title, schema.getField("book_title"), "Keys should also be resolved by their JSON name.");
+        assertTrue(schema.getField("authors").list(), "List fields should be described as lists.");
+        assertEquals(Integer.class, schema.getField("pageCount").type(), "Field type should be described.");
+        assertEquals("isbn", schema.getIdField().name(), "ID field should be described.");
+        assertThrows(JsonLiteClientOperationException.class, () -> schema.getField("publisher"),
+                "Should throw exception if the key does not exist");
+    }
+
+    @Test
+    @Order(2)
+    void testKeysWithDifferentJsonNames() {
+        assertEquals(List.of(List.of("Dune"), List.of("Good Omens")), client.selectKey("title"), "Renamed keys should be selected.");
+        assertEquals(1, client.selectByKey("pageCount", "288").size(), "Camel case keys should be matched.");
+        assertTrue(client.updateWhere((Book book) -> book.getIsbn().equals("111"), Map.of("title", "Dune Messiah", "pageCount", 256)),
+                "Update Where should return true.");
+        Book book = client.selectById("111");
+        assertEquals("Dune Messiah", book.getTitle(), "Renamed key should be updated.");
+        assertEquals(256, book.getPageCount(), "Camel case key should be updated.");
+    }
+}
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -46,10 +48,40 @@ class JsonLiteClientSelectionTest extends JsonLiteClientBaseTest {
         assertEquals(3, keysResults.size(), "People list should be 3.");
     }
 
+    @Test
+    void testSelectKeysExtractsListValues() {
+        var keysResults = client.selectKeys("id", "cars");
+        assertEquals(List.of("1", "[Bmw, Audi]"), keysResults.get(0), "First row should hold John's id and cars.");
+    }
+
+    @Test
+    void testSelectFields() {
+        List<Map<String, Object>> rows = client.selectFields("name", "cars");
+        assertEquals(3, rows.size(), "There should be one row per person.");
+        assertEquals(Map.of("name", "John", "cars", List.of("Bmw", "Audi")), rows.get(0), "First row should hold John's name and cars.");
+        assertEquals(rows, client.snapshot().selectFields("name", "cars"), "Rows read from the file should match rows of the loaded objects.");
+    }
+
     @Test
     void testSelectWhere() {
         List<Person> people = client.selectWhere(p -> ((Person) p).getCity().equals("New York"));
         assertNotNull(people, "People list should not be null.");
         assertEquals(2, people.size(), "People list should be 2.");
     }
+
+    @Test
+    void testStream() {
+        try (Stream<Person> people = client.stream()) {
+            assertEquals(3, people.count(), "Stream should contain 3 people.");
+        }
+    }
+
+    @Test
+    void testStreamWhere() {
+        try (Stream<Person> people = client.streamWhere(p -> p.getCity().equals("New York"))) {
+            Person person = people.findFirst().orElse(null);
+            assertNotNull(person, "Person should not be null.");
+            assertEquals("John", person.getName(), "First person in New York should be 'John'.");
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package com.devroic.jsonlite.runner;
+
+import com.devroic.jsonlite.JsonLiteClient;
+import com.devroic.jsonlite.base.JsonLiteClientFileTest;
+import com.devroic.jsonlite.client.CacheMode;
+import com.devroic.jsonlite.exceptions.JsonLiteClientOperationException;
+import com.devroic.jsonlite.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonLiteClientSnapshotTest extends JsonLiteClientFileTest {
+    private static final String JSON_FILE_PATH = "src/test/java/com/devroic/jsonlite/resources/snapshot.json";
+
+    private JsonLiteClient buildClient(CacheMode cacheMode) {
+        JsonLiteClient client = buildClient(JSON_FILE_PATH, Employee.class, builder -> builder
+                .cacheMode(cacheMode)
+                .indexes("department")
+                .lockTimeout(200));
+        client.insertMultiple(List.of(
+                new Employee(1L, "Alice", 30, "Sales"),
+                new Employee(2L, "Bob", 40, "Engineering")));
+        return client;
+    }
+
+    @Test
+    void testSnapshotKeepsItsVersion() {
+        for (CacheMode cacheMode : CacheMode.values()) {
+            JsonLiteClient client = buildClient(cacheMode);
+            JsonLiteClient snapshot = client.snapshot();
+            client.insert(new Employee(3L, "Carol", 50, "Sales"));
+            client.deleteById("1");
+
+            assertEquals(2, client.selectAll().size(), "Client should see the latest version with " + cacheMode);
+            assertEquals(2, snapshot.selectAll().size(), "Snapshot should keep its version with " + cacheMode);
+            assertNotNull(snapshot.selectById("1"), "Snapshot should still find the deleted employee with " + cacheMode);
+            assertNull(snapshot.selectById("3"), "Snapshot should not find the inserted employee with " + cacheMode);
+            assertEquals(1, snapshot.selectByKey("department", "Sales").size(), "Snapshot indexes should keep their version with " + cacheMode);
+            List<Employee> sales = client.selectByKey("department", "Sales");
+            assertEquals(1, sales.size(), "Client indexes should see the latest version with " + cacheMode);
+            assertEquals(3L, sales.get(0).getId(), "Client indexes should find the inserted employee with " + cacheMode);
+            client.deleteAll();
+        }
+    }
+
+    @Test
+    void testSnapshotIsReadOnly() {
+        JsonLiteClient snapshot = buildClient(CacheMode.IN_MEMORY).snapshot();
+        assertThrows(JsonLiteClientOperationException.class, () -> snapshot.insert(new Employee(3L, "Carol", 50, "Sales")),
+                "Insert should not be allowed on a snapshot.");
+        assertThrows(JsonLiteClientOperationException.class, () -> snapshot.deleteById("1"),
+                "Delete should not be allowed on a snapshot.");
+        assertThrows(JsonLiteClientOperationException.class, () -> snapshot.batch(batch -> batch.deleteAll()),
+                "Batch should not be allowed on a snapshot.");
+    }
+
+    @Test
+    void testSelectAllReturnsSnapshotWithoutCopying() {
+        JsonLiteClient client = buildClient(CacheMode.IN_MEMORY);
+        List<Employee> employees = client.selectAll();
+        assertSame(employees, client.selectAll(), "Selecting twice the same version should return the same list.");
+        assertThrows(UnsupportedOperationException.class, () -> employees.add(new Employee()), "Selected list should be unmodifiable.");
+    }
+
+    @Test
+    void testReadersDoNotWaitForWriters() throws Exception {
+        JsonLiteClient client = buildClient(CacheMode.IN_MEMORY);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> writer = executor.submit(() -> client.batch(batch -> {
+                batch.insert(new Employee(3L, "Carol", 50, "Sales"));
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            writing.await();
+            // The writer holds the write lock for longer than the lock timeout, so a locking read would time out
+            assertEquals(2, client.selectAll().size(), "Reader should see the last committed version while a writer runs.");
+            assertNull(client.selectById("3"), "Reader should not see the uncommitted insert.");
+            release.countDown();
+            writer.get(5, TimeUnit.SECONDS);
+            assertNotNull(client.selectById("3"), "Reader should see the insert once committed.");
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.devroic.jsonlite.runner;
+
+import com.devroic.jsonlite.JsonLiteClient;
+import com.devroic.jsonlite.base.JsonLiteClientFileTest;
+import com.devroic.jsonlite.client.WriteMode;
+import com.devroic.jsonlite.model.Employee;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonLiteClientWriteModeTest extends JsonLiteClientFileTest {
+    private static final String JSON_FILE_PATH = "src/test/java/com/devroic/jsonlite/resources/write-mode.json";
+
+    private JsonLiteClient buildClient(WriteMode writeMode, long flushInterval, int flushThreshold, int maxPendingMutations) {
+        return buildClient(JSON_FILE_PATH, Employee.class, builder -> builder
+                .writeMode(writeMode)
+                .flushInterval(flushInterval)
+                .flushThreshold(flushThreshold)
+                .maxPendingMutations(maxPendingMutations));
+    }
+
+    // Reads the JSON file itself, to see only what was persisted. A client with other options cannot open the file
+    // while the write-behind client keeps changes that are not in it yet.
+    private int persistedCount() throws Exception {
+        return new ObjectMapper().readTree(Paths.get(JSON_FILE_PATH).toFile()).size();
+    }
+
+    @Test
+    void testGroupCommitPersistsBeforeReturning() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (JsonLiteClient client = buildClient(WriteMode.GROUP_COMMIT, 5, 1000, 10_000)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                long firstId = thread * 10L;
+                futures.add(executor.submit(() -> {
+                    for (long id = firstId; id < firstId + 10; id++) {
+                        client.insert(new Employee(id, "Employee " + id, 30, "Sales"));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            assertEquals(80, persistedCount(), "Every insert should be persisted once it returned.");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testAsyncFlushesOnDemand() throws Exception {
+        try (JsonLiteClient client = buildClient(WriteMode.ASYNC, 60_000, 1000, 10_000)) {
+            client.insert(new Employee(1L, "Alice", 30, "Sales"));
+            client.insert(new Employee(2L, "Bob", 40, "Engineering"));
+            client.updateKey("department", "Marketing");
+
+            assertEquals(2, client.selectByKey("department", "Marketing").size(), "Mutations should be applied in memory right away.");
+            assertEquals(0, persistedCount(), "Mutations should not be persisted before the flush.");
+            client.flush().get(5, TimeUnit.SECONDS);
+            assertEquals(2, persistedCount(), "Mutations should be persisted by the flush.");
+            assertTrue(client.flush().isDone(), "Flushing without pending mutations should complete right away.");
+        }
+    }
+
+    @Test
+    void testAsyncFlushesOnThreshold() throws Exception {
+        try (JsonLiteClient client = buildClient(WriteMode.ASYNC, 60_000, 2, 10_000)) {
+            client.insert(new Employee(1L, "Alice", 30, "Sales"));
+            client.insert(new Employee(2L, "Bob", 40, "Engineering"));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (persistedCount() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(2, persistedCount(), "Reaching the flush threshold should flush without waiting for the interval.");
+        }
+    }
+
+    @Test
+    void testPendingLimitAppliesBackpressure() throws Exception {
+        try (JsonLiteClient client = buildClient(WriteMode.ASYNC, 60_000, 1000, 1)) {
+            client.insert(new Employee(1L, "Alice", 30, "Sales"));
+            // The pending insert reached the limit, so the next insert waits for it to be flushed
+            client.insert(new Employee(2L, "Bob", 40, "Engineering"));
+            assertTrue(persistedCount() >= 1, "The first insert should be persisted before the second one is applied.");
+            assertEquals(2, client.selectAll().size(), "Both inserts should be applied in memory.");
+            client.flush().join();
+        }
+    }
+}